@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor.benchmarks;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.table.TableUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares inserting objects with the generated {@code $$BatchWriter} to calling {@link Dao#create(Object)} for every
+ * object. Both insert all objects in a single transaction, so the difference is only in the statements. The table with
+ * a generated id and the one with assigned ids are measured separately, because the batch writer reads back the ids of
+ * the first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dcom.j256.ormlite.logger.level=ERROR")
+public class BatchWriterBenchmark {
+    @Param({"10", "1000", "10000"})
+    int rows;
+
+    private JdbcConnectionSource connectionSource;
+    private Dao<BenchmarkModel, Long> dao;
+    private List<BenchmarkModel> models;
+    private Dao<SyncedBenchmarkModel, Long> syncedDao;
+    private List<SyncedBenchmarkModel> syncedModels;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connectionSource = new JdbcConnectionSource("jdbc:sqlite::memory:");
+        TableUtils.createTable(connectionSource, BenchmarkModel.class);
+        dao = DaoManager.createDao(connectionSource, BenchmarkModel.class);
+        TableUtils.createTable(connectionSource, SyncedBenchmarkModel.class);
+        syncedDao = DaoManager.createDao(connectionSource, SyncedBenchmarkModel.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void createModels() throws SQLException {
+        TableUtils.clearTable(connectionSource, BenchmarkModel.class);
+        models = new ArrayList<BenchmarkModel>(rows);
+        for (int i = 0; i < rows; i++) {
+            models.add(BenchmarkModel.create(i));
+        }
+        TableUtils.clearTable(connectionSource, SyncedBenchmarkModel.class);
+        syncedModels = new ArrayList<SyncedBenchmarkModel>(rows);
+        for (int i = 0; i < rows; i++) {
+            syncedModels.add(SyncedBenchmarkModel.create(i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connectionSource.close();
+        DaoManager.clearCache();
+    }
+
+    @Benchmark
+    public int batchWriter() throws SQLException {
+        return BenchmarkModel$$BatchWriter.insertAll(connectionSource, models);
+    }
+
+    @Benchmark
+    public int daoCreate() throws Exception {
+        return dao.callBatchTasks(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                int rows = 0;
+                for (BenchmarkModel model : models) {
+                    rows += dao.create(model);
+                }
+                return rows;
+            }
+        });
+    }
+
+    @Benchmark
+    public int batchWriterAssignedIds() throws SQLException {
+        return SyncedBenchmarkModel$$BatchWriter.insertAll(connectionSource, syncedModels);
+    }
+
+    @Benchmark
+    public int daoCreateAssignedIds() throws Exception {
+        return syncedDao.callBatchTasks(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                int rows = 0;
+                for (SyncedBenchmarkModel model : syncedModels) {
+                    rows += syncedDao.create(model);
+                }
+                return rows;
+            }
+        });
+    }
+}
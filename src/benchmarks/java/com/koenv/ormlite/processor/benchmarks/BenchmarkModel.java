@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor.benchmarks;
+
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+
+import java.util.Date;
+
+/**
+ * A table with the mix of columns a typical application has, used by the benchmarks.
+ */
+@DatabaseTable(tableName = "benchmark")
+public class BenchmarkModel {
+    @DatabaseField(generatedId = true)
+    long id;
+
+    @DatabaseField
+    String name;
+
+    @DatabaseField
+    String description;
+
+    @DatabaseField
+    int amount;
+
+    @DatabaseField
+    Long total;
+
+    @DatabaseField
+    double price;
+
+    @DatabaseField
+    boolean active;
+
+    @DatabaseField(dataType = DataType.DATE_LONG)
+    Date createdAt;
+
+    public static BenchmarkModel create(int i) {
+        BenchmarkModel model = new BenchmarkModel();
+        model.name = "name " + i;
+        model.description = "description of model " + i;
+        model.amount = i;
+        model.total = i * 100L;
+        model.price = i / 100.0;
+        model.active = i % 2 == 0;
+        model.createdAt = new Date(1420070400000L + i);
+        return model;
+    }
+}
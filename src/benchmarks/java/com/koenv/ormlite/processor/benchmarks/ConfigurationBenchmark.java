@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor.benchmarks;
+
+import com.j256.ormlite.android.apptools.OrmLiteConfigUtil;
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.jdbc.JdbcConnectionSource;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import com.j256.ormlite.table.DatabaseTableConfigLoader;
+import com.j256.ormlite.table.TableUtils;
+import com.koenv.ormlite.processor.OrmLiteProcessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to create a DAO, and to run the first query with it, when the configuration comes from the
+ * generated {@code $$Configuration} classes, from an {@code ormlite_config.txt} written by {@link OrmLiteConfigUtil} or
+ * from the annotations through reflection.
+ * <p>
+ * Every invocation starts with an empty {@link DaoManager}, like the first DAO of a table after starting an application.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dcom.j256.ormlite.logger.level=ERROR")
+public class ConfigurationBenchmark {
+    @Param({"10", "50", "200"})
+    int fields;
+
+    private Class<Object> dataClass;
+    private String configFile;
+    private JdbcConnectionSource connectionSource;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws Exception {
+        switch (fields) {
+            case 10:
+                dataClass = (Class<Object>) (Class<?>) TenFieldModel.class;
+                break;
+            case 50:
+                dataClass = (Class<Object>) (Class<?>) FiftyFieldModel.class;
+                break;
+            case 200:
+                dataClass = (Class<Object>) (Class<?>) TwoHundredFieldModel.class;
+                break;
+            default:
+                throw new IllegalArgumentException("No model with " + fields + " fields");
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        OrmLiteConfigUtil.writeConfigFile(out, new Class<?>[]{dataClass});
+        configFile = out.toString("UTF-8");
+
+        connectionSource = new JdbcConnectionSource("jdbc:sqlite::memory:");
+        TableUtils.createTable(connectionSource, dataClass);
+        DaoManager.createDao(connectionSource, dataClass).create(dataClass.newInstance());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connectionSource.close();
+        DaoManager.clearCache();
+    }
+
+    @Benchmark
+    public Dao<Object, ?> createDaoGenerated() throws SQLException {
+        DaoManager.clearCache();
+        Dao<Object, ?> dao = DaoManager.createDao(connectionSource, getGeneratedTableConfig());
+        OrmLiteProcessor.configureDao(dao);
+        return dao;
+    }
+
+    @Benchmark
+    public Dao<Object, ?> createDaoConfigFile() throws SQLException {
+        DaoManager.clearCache();
+        return DaoManager.createDao(connectionSource, getConfigFileTableConfig());
+    }
+
+    @Benchmark
+    public Dao<Object, ?> createDaoReflection() throws SQLException {
+        DaoManager.clearCache();
+        return DaoManager.createDao(connectionSource, dataClass);
+    }
+
+    @Benchmark
+    public Object firstQueryGenerated() throws SQLException {
+        return queryForFirst(createDaoGenerated());
+    }
+
+    @Benchmark
+    public Object firstQueryConfigFile() throws SQLException {
+        return queryForFirst(createDaoConfigFile());
+    }
+
+    @Benchmark
+    public Object firstQueryReflection() throws SQLException {
+        return queryForFirst(createDaoReflection());
+    }
+
+    /**
+     * Builds a new configuration every time, instead of using the one which is cached in {@code TABLE_CONFIG}.
+     */
+    @SuppressWarnings("unchecked")
+    private DatabaseTableConfig<Object> getGeneratedTableConfig() {
+        switch (fields) {
+            case 10:
+                return (DatabaseTableConfig<Object>) (DatabaseTableConfig<?>) TenFieldModel$$Configuration.getTableConfig();
+            case 50:
+                return (DatabaseTableConfig<Object>) (DatabaseTableConfig<?>) FiftyFieldModel$$Configuration.getTableConfig();
+            default:
+                return (DatabaseTableConfig<Object>) (DatabaseTableConfig<?>) TwoHundredFieldModel$$Configuration.getTableConfig();
+        }
+    }
+
+    private DatabaseTableConfig<Object> getConfigFileTableConfig() throws SQLException {
+        return DatabaseTableConfigLoader.fromReader(new BufferedReader(new StringReader(configFile)));
+    }
+
+    private static Object queryForFirst(Dao<Object, ?> dao) throws SQLException {
+        return dao.queryBuilder().queryForFirst();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor.benchmarks;
+
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+
+/**
+ * A table with 50 fields, used to measure how the time to create a DAO grows with the number of fields.
+ */
+@DatabaseTable
+public class FiftyFieldModel {
+    @DatabaseField(generatedId = true)
+    int id;
+
+    @DatabaseField
+    String field1;
+
+    @DatabaseField
+    int field2;
+
+    @DatabaseField
+    long field3;
+
+    @DatabaseField
+    boolean field4;
+
+    @DatabaseField
+    double field5;
+
+    @DatabaseField
+    Integer field6;
+
+    @DatabaseField
+    Long field7;
+
+    @DatabaseField
+    String field8;
+
+    @DatabaseField
+    int field9;
+
+    @DatabaseField
+    long field10;
+
+    @DatabaseField
+    boolean field11;
+
+    @DatabaseField
+    double field12;
+
+    @DatabaseField
+    Integer field13;
+
+    @DatabaseField
+    Long field14;
+
+    @DatabaseField
+    String field15;
+
+    @DatabaseField
+    int field16;
+
+    @DatabaseField
+    long field17;
+
+    @DatabaseField
+    boolean field18;
+
+    @DatabaseField
+    double field19;
+
+    @DatabaseField
+    Integer field20;
+
+    @DatabaseField
+    Long field21;
+
+    @DatabaseField
+    String field22;
+
+    @DatabaseField
+    int field23;
+
+    @DatabaseField
+    long field24;
+
+    @DatabaseField
+    boolean field25;
+
+    @DatabaseField
+    double field26;
+
+    @DatabaseField
+    Integer field27;
+
+    @DatabaseField
+    Long field28;
+
+    @DatabaseField
+    String field29;
+
+    @DatabaseField
+    int field30;
+
+    @DatabaseField
+    long field31;
+
+    @DatabaseField
+    boolean field32;
+
+    @DatabaseField
+    double field33;
+
+    @DatabaseField
+    Integer field34;
+
+    @DatabaseField
+    Long field35;
+
+    @DatabaseField
+    String field36;
+
+    @DatabaseField
+    int field37;
+
+    @DatabaseField
+    long field38;
+
+    @DatabaseField
+    boolean field39;
+
+    @DatabaseField
+    double field40;
+
+    @DatabaseField
+    Integer field41;
+
+    @DatabaseField
+    Long field42;
+
+    @DatabaseField
+    String field43;
+
+    @DatabaseField
+    int field44;
+
+    @DatabaseField
+    long field45;
+
+    @DatabaseField
+    boolean field46;
+
+    @DatabaseField
+    double field47;
+
+    @DatabaseField
+    Integer field48;
+
+    @DatabaseField
+    Long field49;
+}
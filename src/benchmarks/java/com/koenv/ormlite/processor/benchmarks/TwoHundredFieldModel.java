@@ -0,0 +1,633 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor.benchmarks;
+
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+
+/**
+ * A table with 200 fields, used to measure how the time to create a DAO grows with the number of fields.
+ */
+@DatabaseTable
+public class TwoHundredFieldModel {
+    @DatabaseField(generatedId = true)
+    int id;
+
+    @DatabaseField
+    String field1;
+
+    @DatabaseField
+    int field2;
+
+    @DatabaseField
+    long field3;
+
+    @DatabaseField
+    boolean field4;
+
+    @DatabaseField
+    double field5;
+
+    @DatabaseField
+    Integer field6;
+
+    @DatabaseField
+    Long field7;
+
+    @DatabaseField
+    String field8;
+
+    @DatabaseField
+    int field9;
+
+    @DatabaseField
+    long field10;
+
+    @DatabaseField
+    boolean field11;
+
+    @DatabaseField
+    double field12;
+
+    @DatabaseField
+    Integer field13;
+
+    @DatabaseField
+    Long field14;
+
+    @DatabaseField
+    String field15;
+
+    @DatabaseField
+    int field16;
+
+    @DatabaseField
+    long field17;
+
+    @DatabaseField
+    boolean field18;
+
+    @DatabaseField
+    double field19;
+
+    @DatabaseField
+    Integer field20;
+
+    @DatabaseField
+    Long field21;
+
+    @DatabaseField
+    String field22;
+
+    @DatabaseField
+    int field23;
+
+    @DatabaseField
+    long field24;
+
+    @DatabaseField
+    boolean field25;
+
+    @DatabaseField
+    double field26;
+
+    @DatabaseField
+    Integer field27;
+
+    @DatabaseField
+    Long field28;
+
+    @DatabaseField
+    String field29;
+
+    @DatabaseField
+    int field30;
+
+    @DatabaseField
+    long field31;
+
+    @DatabaseField
+    boolean field32;
+
+    @DatabaseField
+    double field33;
+
+    @DatabaseField
+    Integer field34;
+
+    @DatabaseField
+    Long field35;
+
+    @DatabaseField
+    String field36;
+
+    @DatabaseField
+    int field37;
+
+    @DatabaseField
+    long field38;
+
+    @DatabaseField
+    boolean field39;
+
+    @DatabaseField
+    double field40;
+
+    @DatabaseField
+    Integer field41;
+
+    @DatabaseField
+    Long field42;
+
+    @DatabaseField
+    String field43;
+
+    @DatabaseField
+    int field44;
+
+    @DatabaseField
+    long field45;
+
+    @DatabaseField
+    boolean field46;
+
+    @DatabaseField
+    double field47;
+
+    @DatabaseField
+    Integer field48;
+
+    @DatabaseField
+    Long field49;
+
+    @DatabaseField
+    String field50;
+
+    @DatabaseField
+    int field51;
+
+    @DatabaseField
+    long field52;
+
+    @DatabaseField
+    boolean field53;
+
+    @DatabaseField
+    double field54;
+
+    @DatabaseField
+    Integer field55;
+
+    @DatabaseField
+    Long field56;
+
+    @DatabaseField
+    String field57;
+
+    @DatabaseField
+    int field58;
+
+    @DatabaseField
+    long field59;
+
+    @DatabaseField
+    boolean field60;
+
+    @DatabaseField
+    double field61;
+
+    @DatabaseField
+    Integer field62;
+
+    @DatabaseField
+    Long field63;
+
+    @DatabaseField
+    String field64;
+
+    @DatabaseField
+    int field65;
+
+    @DatabaseField
+    long field66;
+
+    @DatabaseField
+    boolean field67;
+
+    @DatabaseField
+    double field68;
+
+    @DatabaseField
+    Integer field69;
+
+    @DatabaseField
+    Long field70;
+
+    @DatabaseField
+    String field71;
+
+    @DatabaseField
+    int field72;
+
+    @DatabaseField
+    long field73;
+
+    @DatabaseField
+    boolean field74;
+
+    @DatabaseField
+    double field75;
+
+    @DatabaseField
+    Integer field76;
+
+    @DatabaseField
+    Long field77;
+
+    @DatabaseField
+    String field78;
+
+    @DatabaseField
+    int field79;
+
+    @DatabaseField
+    long field80;
+
+    @DatabaseField
+    boolean field81;
+
+    @DatabaseField
+    double field82;
+
+    @DatabaseField
+    Integer field83;
+
+    @DatabaseField
+    Long field84;
+
+    @DatabaseField
+    String field85;
+
+    @DatabaseField
+    int field86;
+
+    @DatabaseField
+    long field87;
+
+    @DatabaseField
+    boolean field88;
+
+    @DatabaseField
+    double field89;
+
+    @DatabaseField
+    Integer field90;
+
+    @DatabaseField
+    Long field91;
+
+    @DatabaseField
+    String field92;
+
+    @DatabaseField
+    int field93;
+
+    @DatabaseField
+    long field94;
+
+    @DatabaseField
+    boolean field95;
+
+    @DatabaseField
+    double field96;
+
+    @DatabaseField
+    Integer field97;
+
+    @DatabaseField
+    Long field98;
+
+    @DatabaseField
+    String field99;
+
+    @DatabaseField
+    int field100;
+
+    @DatabaseField
+    long field101;
+
+    @DatabaseField
+    boolean field102;
+
+    @DatabaseField
+    double field103;
+
+    @DatabaseField
+    Integer field104;
+
+    @DatabaseField
+    Long field105;
+
+    @DatabaseField
+    String field106;
+
+    @DatabaseField
+    int field107;
+
+    @DatabaseField
+    long field108;
+
+    @DatabaseField
+    boolean field109;
+
+    @DatabaseField
+    double field110;
+
+    @DatabaseField
+    Integer field111;
+
+    @DatabaseField
+    Long field112;
+
+    @DatabaseField
+    String field113;
+
+    @DatabaseField
+    int field114;
+
+    @DatabaseField
+    long field115;
+
+    @DatabaseField
+    boolean field116;
+
+    @DatabaseField
+    double field117;
+
+    @DatabaseField
+    Integer field118;
+
+    @DatabaseField
+    Long field119;
+
+    @DatabaseField
+    String field120;
+
+    @DatabaseField
+    int field121;
+
+    @DatabaseField
+    long field122;
+
+    @DatabaseField
+    boolean field123;
+
+    @DatabaseField
+    double field124;
+
+    @DatabaseField
+    Integer field125;
+
+    @DatabaseField
+    Long field126;
+
+    @DatabaseField
+    String field127;
+
+    @DatabaseField
+    int field128;
+
+    @DatabaseField
+    long field129;
+
+    @DatabaseField
+    boolean field130;
+
+    @DatabaseField
+    double field131;
+
+    @DatabaseField
+    Integer field132;
+
+    @DatabaseField
+    Long field133;
+
+    @DatabaseField
+    String field134;
+
+    @DatabaseField
+    int field135;
+
+    @DatabaseField
+    long field136;
+
+    @DatabaseField
+    boolean field137;
+
+    @DatabaseField
+    double field138;
+
+    @DatabaseField
+    Integer field139;
+
+    @DatabaseField
+    Long field140;
+
+    @DatabaseField
+    String field141;
+
+    @DatabaseField
+    int field142;
+
+    @DatabaseField
+    long field143;
+
+    @DatabaseField
+    boolean field144;
+
+    @DatabaseField
+    double field145;
+
+    @DatabaseField
+    Integer field146;
+
+    @DatabaseField
+    Long field147;
+
+    @DatabaseField
+    String field148;
+
+    @DatabaseField
+    int field149;
+
+    @DatabaseField
+    long field150;
+
+    @DatabaseField
+    boolean field151;
+
+    @DatabaseField
+    double field152;
+
+    @DatabaseField
+    Integer field153;
+
+    @DatabaseField
+    Long field154;
+
+    @DatabaseField
+    String field155;
+
+    @DatabaseField
+    int field156;
+
+    @DatabaseField
+    long field157;
+
+    @DatabaseField
+    boolean field158;
+
+    @DatabaseField
+    double field159;
+
+    @DatabaseField
+    Integer field160;
+
+    @DatabaseField
+    Long field161;
+
+    @DatabaseField
+    String field162;
+
+    @DatabaseField
+    int field163;
+
+    @DatabaseField
+    long field164;
+
+    @DatabaseField
+    boolean field165;
+
+    @DatabaseField
+    double field166;
+
+    @DatabaseField
+    Integer field167;
+
+    @DatabaseField
+    Long field168;
+
+    @DatabaseField
+    String field169;
+
+    @DatabaseField
+    int field170;
+
+    @DatabaseField
+    long field171;
+
+    @DatabaseField
+    boolean field172;
+
+    @DatabaseField
+    double field173;
+
+    @DatabaseField
+    Integer field174;
+
+    @DatabaseField
+    Long field175;
+
+    @DatabaseField
+    String field176;
+
+    @DatabaseField
+    int field177;
+
+    @DatabaseField
+    long field178;
+
+    @DatabaseField
+    boolean field179;
+
+    @DatabaseField
+    double field180;
+
+    @DatabaseField
+    Integer field181;
+
+    @DatabaseField
+    Long field182;
+
+    @DatabaseField
+    String field183;
+
+    @DatabaseField
+    int field184;
+
+    @DatabaseField
+    long field185;
+
+    @DatabaseField
+    boolean field186;
+
+    @DatabaseField
+    double field187;
+
+    @DatabaseField
+    Integer field188;
+
+    @DatabaseField
+    Long field189;
+
+    @DatabaseField
+    String field190;
+
+    @DatabaseField
+    int field191;
+
+    @DatabaseField
+    long field192;
+
+    @DatabaseField
+    boolean field193;
+
+    @DatabaseField
+    double field194;
+
+    @DatabaseField
+    Integer field195;
+
+    @DatabaseField
+    Long field196;
+
+    @DatabaseField
+    String field197;
+
+    @DatabaseField
+    int field198;
+
+    @DatabaseField
+    long field199;
+}
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.table.ObjectFactory;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Generates the {@code $$Accessor} class of a table, which reads and writes every field of the class directly instead
+ * of going through {@link Field}. Fields are accessed in the following order of preference:
+ * <ol>
+ * <li>directly, if the field is visible from the package of the class</li>
+ * <li>through its getter and setter, if these are visible from the package of the class</li>
+ * <li>through a {@link Field} which is looked up once, if neither of the above is possible</li>
+ * </ol>
+ */
+class AccessorGenerator extends Generator {
+    public static final String SUFFIX = "$$Accessor";
+
+    public AccessorGenerator(Types typeUtils, Elements elementUtils) {
+        super(typeUtils, elementUtils);
+    }
+
+    public JavaFile generate(TableBindings table) {
+        TypeElement element = table.getElement();
+        ClassName modelName = table.getClassName();
+        ClassName accessorName = table.getGeneratedClassName(SUFFIX);
+        PackageElement packageElement = elementUtils.getPackageOf(element);
+
+        TypeSpec.Builder accessorBuilder = classBuilder(accessorName, table, null);
+
+        TypeName objectFactory = ParameterizedTypeName.get(ClassName.get(ObjectFactory.class), modelName);
+        TypeSpec objectFactoryType = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(objectFactory)
+                .addMethod(MethodSpec.methodBuilder("createObject")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(modelName)
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Constructor.class), modelName), "constructor")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), modelName), "dataClass")
+                        .addStatement("return newInstance()")
+                        .build())
+                .build();
+        accessorBuilder.addField(FieldSpec.builder(objectFactory, "OBJECT_FACTORY", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", objectFactoryType)
+                .build());
+
+        accessorBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        boolean needsFindField = false;
+
+        MethodSpec.Builder newInstanceBuilder = MethodSpec.methodBuilder("newInstance")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(modelName);
+        if (hasVisibleNoArgConstructor(element, packageElement)) {
+            newInstanceBuilder.addStatement("return new $T()", modelName);
+        } else {
+            TypeName constructorType = ParameterizedTypeName.get(ClassName.get(Constructor.class), modelName);
+            accessorBuilder.addField(FieldSpec.builder(constructorType, "CONSTRUCTOR", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("findConstructor()")
+                    .build());
+            accessorBuilder.addMethod(MethodSpec.methodBuilder("findConstructor")
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                    .returns(constructorType)
+                    .beginControlFlow("try")
+                    .addStatement("$T constructor = $T.class.getDeclaredConstructor()", constructorType, modelName)
+                    .addStatement("constructor.setAccessible(true)")
+                    .addStatement("return constructor")
+                    .addCode("$<} catch ($T e) {\n$>", NoSuchMethodException.class)
+                    .addStatement("throw new $T($S, e)", IllegalStateException.class, "Can't find a no-arg constructor for " + modelName)
+                    .endControlFlow()
+                    .build());
+            newInstanceBuilder.beginControlFlow("try")
+                    .addStatement("return CONSTRUCTOR.newInstance()")
+                    .addCode("$<} catch ($T e) {\n$>", InstantiationException.class)
+                    .addStatement("throw new $T(e)", IllegalStateException.class)
+                    .addCode("$<} catch ($T e) {\n$>", IllegalAccessException.class)
+                    .addStatement("throw new $T(e)", IllegalStateException.class)
+                    .addCode("$<} catch ($T e) {\n$>", InvocationTargetException.class)
+                    .addStatement("throw new $T(e.getCause())", IllegalStateException.class)
+                    .endControlFlow();
+        }
+        accessorBuilder.addMethod(newInstanceBuilder.build());
+
+        for (FieldBindings field : table.getFields()) {
+            VariableElement fieldElement = field.getElement();
+            String name = fieldElement.getSimpleName().toString();
+            TypeName type = getFieldType(element, fieldElement);
+            String reflectiveName = toConstantName(name) + "_FIELD";
+
+            boolean readable = isVisible(fieldElement, packageElement);
+            boolean writable = readable && !fieldElement.getModifiers().contains(Modifier.FINAL);
+            ExecutableElement getter = readable ? null : findGetter(fieldElement, packageElement);
+            ExecutableElement setter = writable ? null : findSetter(fieldElement, packageElement);
+
+            if ((!readable && getter == null) || (!writable && setter == null)) {
+                needsFindField = true;
+                accessorBuilder.addField(FieldSpec.builder(Field.class, reflectiveName, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("findField($T.class, $S)", ClassName.get((TypeElement) fieldElement.getEnclosingElement()), name)
+                        .build());
+            }
+
+            MethodSpec.Builder getBuilder = MethodSpec.methodBuilder("get" + capitalize(name))
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(type)
+                    .addParameter(modelName, "model");
+            if (readable) {
+                getBuilder.addStatement("return model.$L", name);
+            } else if (getter != null) {
+                getBuilder.addStatement("return model.$L()", getter.getSimpleName());
+            } else {
+                getBuilder.beginControlFlow("try")
+                        .addStatement("return ($T) $L.get(model)", box(type), reflectiveName)
+                        .addCode("$<} catch ($T e) {\n$>", IllegalAccessException.class)
+                        .addStatement("throw new $T(e)", IllegalStateException.class)
+                        .endControlFlow();
+            }
+            accessorBuilder.addMethod(getBuilder.build());
+
+            MethodSpec.Builder setBuilder = MethodSpec.methodBuilder("set" + capitalize(name))
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(TypeName.VOID)
+                    .addParameter(modelName, "model")
+                    .addParameter(type, "value");
+            if (writable) {
+                setBuilder.addStatement("model.$L = value", name);
+            } else if (setter != null) {
+                setBuilder.addStatement("model.$L(value)", setter.getSimpleName());
+            } else {
+                setBuilder.beginControlFlow("try")
+                        .addStatement("$L.set(model, value)", reflectiveName)
+                        .addCode("$<} catch ($T e) {\n$>", IllegalAccessException.class)
+                        .addStatement("throw new $T(e)", IllegalStateException.class)
+                        .endControlFlow();
+            }
+            accessorBuilder.addMethod(setBuilder.build());
+        }
+
+        if (needsFindField) {
+            accessorBuilder.addMethod(MethodSpec.methodBuilder("findField")
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                    .returns(Field.class)
+                    .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "declaringClass")
+                    .addParameter(String.class, "name")
+                    .beginControlFlow("try")
+                    .addStatement("$T field = declaringClass.getDeclaredField(name)", Field.class)
+                    .addStatement("field.setAccessible(true)")
+                    .addStatement("return field")
+                    .addCode("$<} catch ($T e) {\n$>", NoSuchFieldException.class)
+                    .addStatement("throw new $T(e)", IllegalStateException.class)
+                    .endControlFlow()
+                    .build());
+        }
+
+        return JavaFile.builder(accessorName.packageName(), accessorBuilder.build()).build();
+    }
+}
@@ -23,90 +23,138 @@
  */
 package com.koenv.ormlite.processor;
 
-import com.google.common.base.Joiner;
+import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
 import com.j256.ormlite.db.DatabaseType;
-import com.j256.ormlite.db.SqliteAndroidDatabaseType;
+import com.j256.ormlite.field.DataPersister;
 import com.j256.ormlite.field.DatabaseField;
 import com.j256.ormlite.field.DatabaseFieldConfig;
 import com.j256.ormlite.field.ForeignCollectionField;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
 import com.j256.ormlite.table.DatabaseTable;
 import com.j256.ormlite.table.DatabaseTableConfig;
+import com.j256.ormlite.table.TableUtils;
 import com.squareup.javapoet.*;
 
 import javax.annotation.processing.*;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.MirroredTypeException;
 import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
 import java.io.IOException;
+import java.sql.SQLException;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.Callable;
 
 import static com.j256.ormlite.field.DatabaseFieldConfig.DEFAULT_DATA_TYPE;
 
 public class AnnotationProcessor extends AbstractProcessor {
     private static final int DEFAULT_MAX_EAGER_FOREIGN_COLLECTION_LEVEL = ForeignCollectionField.MAX_EAGER_LEVEL;
+    private static final String CONFIGURATION_SUFFIX = "$$Configuration";
+    private static final ClassName MAIN_CLASS_NAME = ClassName.get("com.koenv.ormlite.processor", "OrmLiteProcessor");
+    private static final ClassName LISTENER_CLASS_NAME = MAIN_CLASS_NAME.nestedClass("Listener");
 
     private Types typeUtils;
+    private Elements elementUtils;
     private Filer filer;
     private Messager messager;
 
-    private static final DatabaseType databaseType = new SqliteAndroidDatabaseType();
-
-    private List<ClassName> generatedClasses;
+    private AccessorGenerator accessorGenerator;
+    private ColumnsGenerator columnsGenerator;
+    private TableConfigGenerator tableConfigGenerator;
+    private AsyncDaoGenerator asyncDaoGenerator;
+    private RowMapperGenerator rowMapperGenerator;
+    private StatementsGenerator statementsGenerator;
+    private SQLiteBinderGenerator sqliteBinderGenerator;
+    private BatchWriterGenerator batchWriterGenerator;
+    private SchemaGenerator schemaGenerator;
+    private ObjectCacheGenerator objectCacheGenerator;
+    private CollectionLoaderGenerator collectionLoaderGenerator;
+    private JoinQueryGenerator joinQueryGenerator;
+    private ProjectionGenerator projectionGenerator;
+    private EnumPersisterGenerator enumPersisterGenerator;
+    private DateStringPersisterGenerator dateStringPersisterGenerator;
+
+    private Dialect dialect;
+    private DatabaseType databaseType;
+
+    private List<TableBindings> generatedTables;
+    private List<TableBindings> mappedTables;
+    private List<TableBindings> schemaTables;
+    private List<TableBindings> binderTables;
+    private List<TableBindings> asyncTables;
+    private Map<TableBindings, Long> schemaHashes;
+    private Map<TypeElement, List<FieldBindings>> fieldBindingsCache;
+    private ProcessingStats stats;
 
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
         typeUtils = processingEnv.getTypeUtils();
+        elementUtils = processingEnv.getElementUtils();
         filer = processingEnv.getFiler();
         messager = processingEnv.getMessager();
+        dialect = Dialect.SQLITE_ANDROID;
+        String dialectOption = processingEnv.getOptions().get(Dialect.OPTION);
+        if (dialectOption != null) {
+            dialect = Dialect.fromOptionValue(dialectOption);
+            if (dialect == null) {
+                messager.printMessage(Diagnostic.Kind.ERROR, String.format("Unknown dialect '%s' for option %s", dialectOption, Dialect.OPTION));
+                dialect = Dialect.SQLITE_ANDROID;
+            }
+        }
+        databaseType = dialect.createDatabaseType();
+        accessorGenerator = new AccessorGenerator(typeUtils, elementUtils);
+        columnsGenerator = new ColumnsGenerator(typeUtils, elementUtils, messager);
+        tableConfigGenerator = new TableConfigGenerator(typeUtils, elementUtils);
+        asyncDaoGenerator = new AsyncDaoGenerator(typeUtils, elementUtils, dialect, MAIN_CLASS_NAME.packageName());
+        dateStringPersisterGenerator = new DateStringPersisterGenerator(typeUtils, elementUtils, databaseType, MAIN_CLASS_NAME.packageName());
+        rowMapperGenerator = new RowMapperGenerator(typeUtils, elementUtils, databaseType, messager, dateStringPersisterGenerator);
+        statementsGenerator = new StatementsGenerator(typeUtils, elementUtils, databaseType, dialect, messager, dateStringPersisterGenerator);
+        sqliteBinderGenerator = new SQLiteBinderGenerator(typeUtils, elementUtils, messager, statementsGenerator, MAIN_CLASS_NAME.packageName());
+        batchWriterGenerator = new BatchWriterGenerator(typeUtils, elementUtils, databaseType, dialect);
+        schemaGenerator = new SchemaGenerator(typeUtils, elementUtils, databaseType, dialect, messager);
+        objectCacheGenerator = new ObjectCacheGenerator(typeUtils, elementUtils, messager);
+        collectionLoaderGenerator = new CollectionLoaderGenerator(typeUtils, elementUtils, databaseType, messager);
+        joinQueryGenerator = new JoinQueryGenerator(typeUtils, elementUtils, databaseType, messager, rowMapperGenerator);
+        projectionGenerator = new ProjectionGenerator(typeUtils, elementUtils, databaseType, messager, rowMapperGenerator);
+        enumPersisterGenerator = new EnumPersisterGenerator(typeUtils, elementUtils);
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        generatedClasses = new ArrayList<ClassName>();
+        generatedTables = new ArrayList<TableBindings>();
+        mappedTables = new ArrayList<TableBindings>();
+        schemaTables = new ArrayList<TableBindings>();
+        binderTables = new ArrayList<TableBindings>();
+        asyncTables = new ArrayList<TableBindings>();
+        schemaHashes = new HashMap<TableBindings, Long>();
+        fieldBindingsCache = new HashMap<TypeElement, List<FieldBindings>>();
+        stats = new ProcessingStats();
+        Map<String, TableBindings> tables = new LinkedHashMap<String, TableBindings>();
 
         for (Element annotatedElement : roundEnv.getElementsAnnotatedWith(DatabaseTable.class)) {
             if (!annotatedElement.getKind().isClass()) {
                 error(annotatedElement, "Only classes can be annotated with %s", DatabaseTable.class.getSimpleName());
                 return false;
             }
+            long start = System.nanoTime();
             TypeElement typeElement = (TypeElement) annotatedElement;
             String tableName = extractTableName(typeElement);
-            List<FieldBindings> fieldConfigs = new ArrayList<FieldBindings>();
-            // walk up the classes finding the fields
-            TypeElement working = typeElement;
-            while (working != null) {
-                for (Element element : working.getEnclosedElements()) {
-                    if (element.getKind().isField()) {
-                        if (element.getAnnotation(DatabaseField.class) != null) {
-                            DatabaseField databaseField = element.getAnnotation(DatabaseField.class);
-                            if (!databaseField.persisted()) {
-                                continue;
-                            }
-                            FieldBindings fieldConfig = FieldBindings.fromDatabaseField(databaseType, element, databaseField, typeUtils, messager);
-                            if (fieldConfig != null) {
-                                fieldConfigs.add(fieldConfig);
-                            }
-                        } else if (element.getAnnotation(ForeignCollectionField.class) != null) {
-                            ForeignCollectionField foreignCollectionField = element.getAnnotation(ForeignCollectionField.class);
-                            FieldBindings fieldConfig = FieldBindings.fromForeignCollection(element, foreignCollectionField);
-                            if (fieldConfig != null) {
-                                fieldConfigs.add(fieldConfig);
-                            }
-                        }
-                    }
-                }
-                if (working.getSuperclass().getKind().equals(TypeKind.NONE)) {
-                    break;
-                }
-                working = (TypeElement) typeUtils.asElement(working.getSuperclass());
-            }
+            List<FieldBindings> fieldConfigs = new ArrayList<FieldBindings>(getFieldBindings(typeElement));
             if (fieldConfigs.isEmpty()) {
                 error(
                         typeElement,
@@ -116,35 +164,256 @@ public class AnnotationProcessor extends AbstractProcessor {
                 );
                 return false;
             }
-            JavaFile javaFile = generateFile(typeElement, fieldConfigs, tableName);
+            tables.put(typeElement.getQualifiedName().toString(), new TableBindings(typeElement, tableName, fieldConfigs));
+            stats.addTime(typeElement.getQualifiedName().toString(), System.nanoTime() - start);
+        }
+
+        // the persisters of enums and dates can be shared by tables, so they are found before the other classes refer to them
+        enumPersisterGenerator.prepare(tables.values());
+        dateStringPersisterGenerator.prepare(tables.values());
+        try {
+            for (JavaFile enumPersister : enumPersisterGenerator.generate()) {
+                write(enumPersister, null);
+            }
+            for (JavaFile dateStringPersister : dateStringPersisterGenerator.generate()) {
+                write(dateStringPersister, null);
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Code gen failed: failed to generate persisters: " + e);
+            return false;
+        }
+
+        // all tables are known before generating, so the row mappers can create the objects of foreign fields
+        for (TableBindings table : tables.values()) {
+            long start = System.nanoTime();
+            try {
+                write(generateFile(table), table);
+                write(tableConfigGenerator.generate(table), table);
+                write(accessorGenerator.generate(table), table);
+                write(columnsGenerator.generate(table), table);
+                JavaFile objectCache = objectCacheGenerator.generate(table);
+                if (objectCache != null) {
+                    write(objectCache, table);
+                }
+                Map<String, String> schemaStatements = schemaGenerator.getStatements(table, tables);
+                long schemaHash = schemaStatements != null ? SchemaGenerator.getSchemaHash(schemaStatements.values()) : getSchemaHash(table);
+                schemaHashes.put(table, schemaHash);
+                if (schemaStatements != null) {
+                    write(schemaGenerator.generate(table, schemaStatements, schemaHash, tables), table);
+                    schemaTables.add(table);
+                }
+                JavaFile rowMapper = rowMapperGenerator.generate(table, tables);
+                if (rowMapper != null) {
+                    write(rowMapper, table);
+                    mappedTables.add(table);
+                    JavaFile statements = statementsGenerator.generate(table, tables);
+                    if (statements != null) {
+                        write(statements, table);
+                        if (table.getElement().getAnnotation(TrackChanges.class) != null) {
+                            JavaFile changeTracker = statementsGenerator.generateChangeTracker(table, tables);
+                            if (changeTracker != null) {
+                                write(changeTracker, table);
+                            }
+                        }
+                        write(asyncDaoGenerator.generate(table), table);
+                        asyncTables.add(table);
+                        JavaFile batchWriter = batchWriterGenerator.generate(table);
+                        if (batchWriter != null) {
+                            write(batchWriter, table);
+                        }
+                        // the binders use the Android classes, so they are only generated when these can be found
+                        if (dialect == Dialect.SQLITE_ANDROID && sqliteBinderGenerator.isAvailable()) {
+                            JavaFile binder = sqliteBinderGenerator.generate(table, tables);
+                            if (binder != null) {
+                                write(binder, table);
+                                binderTables.add(table);
+                            }
+                        }
+                    }
+                }
+                JavaFile joinQuery = joinQueryGenerator.generate(table, tables);
+                if (joinQuery != null) {
+                    write(joinQuery, table);
+                }
+            } catch (IOException e) {
+                error(table.getElement(), "Code gen failed: " + e);
+                return false;
+            }
+            stats.addTime(table.getElement().getQualifiedName().toString(), System.nanoTime() - start);
+        }
+
+        // the children of foreign collections are read with their row mapper, so all row mappers have to be known first
+        for (TableBindings table : tables.values()) {
+            long start = System.nanoTime();
+            try {
+                JavaFile collectionLoader = collectionLoaderGenerator.generate(table, tables, mappedTables);
+                if (collectionLoader != null) {
+                    write(collectionLoader, table);
+                }
+            } catch (IOException e) {
+                error(table.getElement(), "Code gen failed: " + e);
+                return false;
+            }
+            stats.addTime(table.getElement().getQualifiedName().toString(), System.nanoTime() - start);
+        }
+
+        for (Element annotatedElement : roundEnv.getElementsAnnotatedWith(Projection.class)) {
+            if (!annotatedElement.getKind().isClass()) {
+                error(annotatedElement, "Only classes can be annotated with %s", Projection.class.getSimpleName());
+                return false;
+            }
+            TypeElement typeElement = (TypeElement) annotatedElement;
+            TableBindings table = getProjectionTable(typeElement, tables);
+            if (table == null) {
+                return false;
+            }
+            long start = System.nanoTime();
+            JavaFile projection = projectionGenerator.generate(typeElement, table, tables);
+            if (projection == null) {
+                return false;
+            }
             try {
-                javaFile.writeTo(filer);
+                write(projection, table);
             } catch (IOException e) {
                 error(typeElement, "Code gen failed: " + e);
                 return false;
             }
+            stats.addTime(table.getElement().getQualifiedName().toString(), System.nanoTime() - start);
         }
 
-        if (!generatedClasses.isEmpty()) {
+        if (!asyncTables.isEmpty()) {
+            try {
+                write(asyncDaoGenerator.generateWriter(asyncTables), null);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Code gen failed: failed to generate group commit writer: " + e);
+                return false;
+            }
+        }
+
+        if (!binderTables.isEmpty()) {
+            try {
+                write(sqliteBinderGenerator.generatePool(binderTables), null);
+            } catch (IOException e) {
+                messager.printMessage(Diagnostic.Kind.ERROR, "Code gen failed: failed to generate statement pool: " + e);
+                return false;
+            }
+        }
+
+        if (!generatedTables.isEmpty()) {
             JavaFile javaFile = generateMainFile();
             try {
-                javaFile.writeTo(filer);
+                write(javaFile, null);
             } catch (IOException e) {
                 messager.printMessage(Diagnostic.Kind.ERROR, "Code gen failed: failed to generate main class: " + e);
                 return false;
             }
         }
 
+        if (!tables.isEmpty() && Boolean.parseBoolean(processingEnv.getOptions().get(ProcessingStats.OPTION))) {
+            messager.printMessage(Diagnostic.Kind.NOTE, stats.getReport());
+        }
+
         return false;
     }
 
+    /**
+     * Returns the bindings of the persisted fields of the class and its superclasses. The fields of every class are
+     * only read once per round, so tables sharing a base class don't read its fields and their persister classes again.
+     */
+    private List<FieldBindings> getFieldBindings(TypeElement typeElement) {
+        List<FieldBindings> fieldConfigs = fieldBindingsCache.get(typeElement);
+        if (fieldConfigs != null) {
+            return fieldConfigs;
+        }
+        fieldConfigs = new ArrayList<FieldBindings>();
+        for (Element element : typeElement.getEnclosedElements()) {
+            if (element.getKind().isField()) {
+                if (element.getAnnotation(DatabaseField.class) != null) {
+                    DatabaseField databaseField = element.getAnnotation(DatabaseField.class);
+                    if (!databaseField.persisted()) {
+                        continue;
+                    }
+                    FieldBindings fieldConfig = FieldBindings.fromDatabaseField(databaseType, element, databaseField, typeUtils, messager);
+                    if (fieldConfig != null) {
+                        fieldConfigs.add(fieldConfig);
+                    }
+                } else if (element.getAnnotation(ForeignCollectionField.class) != null) {
+                    ForeignCollectionField foreignCollectionField = element.getAnnotation(ForeignCollectionField.class);
+                    FieldBindings fieldConfig = FieldBindings.fromForeignCollection(element, foreignCollectionField);
+                    if (fieldConfig != null) {
+                        fieldConfigs.add(fieldConfig);
+                    }
+                }
+            }
+        }
+        // the fields of the superclasses follow the fields of the class itself
+        if (!typeElement.getSuperclass().getKind().equals(TypeKind.NONE)) {
+            fieldConfigs.addAll(getFieldBindings((TypeElement) typeUtils.asElement(typeElement.getSuperclass())));
+        }
+        fieldBindingsCache.put(typeElement, fieldConfigs);
+        return fieldConfigs;
+    }
+
+    /**
+     * Returns the table of which the projection reads the columns, or null if it isn't a table, in which case an error
+     * has been printed. Tables which aren't compiled in this round are read as well.
+     */
+    private TableBindings getProjectionTable(TypeElement projectionElement, Map<String, TableBindings> tables) {
+        TypeMirror typeMirror;
+        try {
+            projectionElement.getAnnotation(Projection.class).value();
+            throw new IllegalStateException("Class of projection " + projectionElement + " was loaded");
+        } catch (MirroredTypeException e) {
+            typeMirror = e.getTypeMirror();
+        }
+        Element element = typeUtils.asElement(typeMirror);
+        if (element == null || element.getAnnotation(DatabaseTable.class) == null) {
+            error(projectionElement, "%s of projection %s must be annotated with %s", typeMirror, projectionElement, DatabaseTable.class.getSimpleName());
+            return null;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        TableBindings table = tables.get(typeElement.getQualifiedName().toString());
+        if (table != null) {
+            return table;
+        }
+        return new TableBindings(typeElement, extractTableName(typeElement), getFieldBindings(typeElement));
+    }
+
+    /**
+     * Returns the hash of a table of which the schema is only known at runtime, which is made of the configuration of
+     * its fields instead of its statements. Unlike the hash of the statements, it also changes with settings which don't
+     * affect the schema.
+     */
+    private long getSchemaHash(TableBindings table) {
+        List<String> parts = new ArrayList<String>();
+        parts.add(table.getTableName());
+        for (FieldBindings field : table.getColumnFields()) {
+            parts.add(field.getFieldName());
+            parts.add(typeUtils.erasure(field.getElement().asType()).toString());
+            parts.add(getFieldConfig(table, field).toString());
+        }
+        return SchemaGenerator.getSchemaHash(parts);
+    }
+
+    private void write(JavaFile javaFile, TableBindings table) throws IOException {
+        javaFile.writeTo(filer);
+        stats.addFile(table == null ? null : table.getElement().getQualifiedName().toString());
+    }
+
     private JavaFile generateMainFile() {
-        ClassName className = ClassName.get("com.koenv.ormlite.processor", "OrmLiteProcessor");
+        ClassName className = MAIN_CLASS_NAME;
 
         TypeSpec.Builder configBuilder = TypeSpec.classBuilder(className.simpleName())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generated on $L\n", new SimpleDateFormat("yyyy/MM/dd hh:mm:ss").format(new Date()));
 
+        // generated from every table, which makes this an aggregating processor for incremental compilation
+        for (TableBindings table : generatedTables) {
+            for (TypeElement element : table.getOriginatingElements()) {
+                configBuilder.addOriginatingElement(element);
+            }
+        }
+
         ParameterizedTypeName databaseTableConfig = ParameterizedTypeName.get(ClassName.get(DatabaseTableConfig.class), WildcardTypeName.subtypeOf(Object.class));
 
         ParameterizedTypeName collectionOfTableConfigs = ParameterizedTypeName.get(ClassName.get(Collection.class), databaseTableConfig);
@@ -153,37 +422,254 @@ public class AnnotationProcessor extends AbstractProcessor {
         MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("init")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .returns(TypeName.VOID)
-                .addJavadoc("Call this method when initializing your application\n")
-                .addStatement("$T configs = new $T()", collectionOfTableConfigs, listOfTableConfigs);
+                .addJavadoc("Call this method when initializing your application to build the configurations of all tables up front.\n")
+                .addJavadoc("Use createDao instead to only build the configuration of a table when its DAO is first created.\n")
+                .addStatement("$T listener = OrmLiteProcessor.listener", LISTENER_CLASS_NAME)
+                .addStatement("long start = listener == null ? 0 : $T.nanoTime()", System.class)
+                .addStatement("$T configs = new $T($L)", collectionOfTableConfigs, listOfTableConfigs, generatedTables.size());
 
-        for (ClassName tableConfig : generatedClasses) {
-            methodBuilder.addStatement("configs.add($T.getTableConfig())", tableConfig);
+        int fieldConfigCount = 0;
+        for (TableBindings table : generatedTables) {
+            methodBuilder.addStatement("configs.add($T.TABLE_CONFIG)", table.getGeneratedClassName(CONFIGURATION_SUFFIX));
+            fieldConfigCount += table.getFields().size();
         }
 
         methodBuilder.addStatement("$T.addCachedDatabaseConfigs(configs)", DaoManager.class);
+        methodBuilder.beginControlFlow("if (listener != null)");
+        methodBuilder.addStatement("listener.onInitialized($L, $L, $T.nanoTime() - start)", generatedTables.size(), fieldConfigCount, System.class);
+        methodBuilder.endControlFlow();
 
         configBuilder.addMethod(methodBuilder.build());
 
+        configBuilder.addType(TypeSpec.interfaceBuilder(LISTENER_CLASS_NAME.simpleName())
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("Receives how long building the configurations takes, for example to log it or to keep track of the startup time.\n")
+                .addMethod(MethodSpec.methodBuilder("onTableConfigBuilt")
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .addJavadoc("Called after the configuration of a table is built, which happens once per table.\n")
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "dataClass")
+                        .addParameter(TypeName.INT, "fieldConfigCount")
+                        .addParameter(TypeName.LONG, "durationNanos")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("onInitialized")
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .addJavadoc("Called at the end of init(), with the time it took to build and register the configurations of all tables.\n")
+                        .addParameter(TypeName.INT, "tableCount")
+                        .addParameter(TypeName.INT, "fieldConfigCount")
+                        .addParameter(TypeName.LONG, "durationNanos")
+                        .build())
+                .build());
+
+        configBuilder.addField(FieldSpec.builder(LISTENER_CLASS_NAME, "listener", Modifier.PRIVATE, Modifier.STATIC, Modifier.VOLATILE)
+                .build());
+
+        configBuilder.addMethod(MethodSpec.methodBuilder("setListener")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addJavadoc("Sets the listener which is told how long building the configurations takes, or null to remove it.\n")
+                .addJavadoc("Set it before calling init() or creating the first DAO to measure all tables.\n")
+                .addParameter(LISTENER_CLASS_NAME, "listener")
+                .addStatement("OrmLiteProcessor.listener = listener")
+                .build());
+
+        configBuilder.addMethod(MethodSpec.methodBuilder("getListener")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(LISTENER_CLASS_NAME)
+                .addJavadoc("Returns the listener set with setListener, or null if there is none.\n")
+                .addStatement("return listener")
+                .build());
+
+        TypeVariableName typeVariable = TypeVariableName.get("T");
+        TypeName tableConfigOfT = ParameterizedTypeName.get(ClassName.get(DatabaseTableConfig.class), typeVariable);
+
+        MethodSpec.Builder tableConfigBuilder = MethodSpec.methodBuilder("getTableConfig")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addTypeVariable(typeVariable)
+                .returns(tableConfigOfT)
+                .addJavadoc("Returns the configuration of the class, which is built the first time it is requested, or null if the class isn't a table.\n")
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), typeVariable), "dataClass");
+
+        for (int i = 0; i < generatedTables.size(); i++) {
+            TableBindings table = generatedTables.get(i);
+            String controlFlow = "if (dataClass == $T.class)";
+            if (i == 0) {
+                tableConfigBuilder.beginControlFlow(controlFlow, table.getClassName());
+            } else {
+                tableConfigBuilder.addCode("$<} else " + controlFlow + " {\n$>", table.getClassName());
+            }
+            tableConfigBuilder.addStatement("return ($T) $T.TABLE_CONFIG", tableConfigOfT, table.getGeneratedClassName(CONFIGURATION_SUFFIX));
+        }
+        tableConfigBuilder.endControlFlow();
+        tableConfigBuilder.addStatement("return null");
+
+        configBuilder.addMethod(tableConfigBuilder.build());
+
+        TypeVariableName daoVariable = TypeVariableName.get("D", ParameterizedTypeName.get(ClassName.get(Dao.class), typeVariable, WildcardTypeName.subtypeOf(Object.class)));
+
+        configBuilder.addMethod(MethodSpec.methodBuilder("createDao")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addTypeVariable(daoVariable)
+                .addTypeVariable(typeVariable)
+                .returns(daoVariable)
+                .addJavadoc("Creates or looks up the DAO of the class like $T does, building the configuration of the class\n", DaoManager.class)
+                .addJavadoc("only when it is first needed. The DAO is configured to use the generated code of the class.\n")
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), typeVariable), "dataClass")
+                .addException(SQLException.class)
+                .addStatement("$T tableConfig = getTableConfig(dataClass)", tableConfigOfT)
+                .addStatement("$T dao", daoVariable)
+                .beginControlFlow("if (tableConfig == null)")
+                .addStatement("dao = $T.createDao(connectionSource, dataClass)", DaoManager.class)
+                .addCode("$<} else {\n$>")
+                .addStatement("dao = $T.createDao(connectionSource, tableConfig)", DaoManager.class)
+                .addStatement("configureDao(dao)")
+                .endControlFlow()
+                .addStatement("return dao")
+                .build());
+
+        MethodSpec.Builder configureDaoBuilder = MethodSpec.methodBuilder("configureDao")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addJavadoc("Call this method with a newly created DAO to let it use the generated code of its class\n")
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Dao.class), WildcardTypeName.subtypeOf(Object.class), WildcardTypeName.subtypeOf(Object.class)), "dao")
+                .addStatement("$T dataClass = dao.getDataClass()", ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)));
+
+        for (int i = 0; i < generatedTables.size(); i++) {
+            TableBindings table = generatedTables.get(i);
+            String controlFlow = "if (dataClass == $T.class)";
+            if (i == 0) {
+                configureDaoBuilder.beginControlFlow(controlFlow, table.getClassName());
+            } else {
+                configureDaoBuilder.addCode("$<} else " + controlFlow + " {\n$>", table.getClassName());
+            }
+            TypeName daoType = ParameterizedTypeName.get(ClassName.get(Dao.class), table.getClassName(), WildcardTypeName.subtypeOf(Object.class));
+            configureDaoBuilder.addStatement("$T.configureDao(($T) dao)", table.getGeneratedClassName(CONFIGURATION_SUFFIX), daoType);
+        }
+        configureDaoBuilder.endControlFlow();
+
+        configBuilder.addMethod(configureDaoBuilder.build());
+
+        MethodSpec.Builder rowMapperBuilder = MethodSpec.methodBuilder("getRowMapper")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addTypeVariable(typeVariable)
+                .returns(ParameterizedTypeName.get(ClassName.get(GenericRowMapper.class), typeVariable))
+                .addJavadoc("Returns the generated row mapper of the class for the columns of the results, or null if the class doesn't have one.\n")
+                .addJavadoc("Use it instead of the row mapper of the DAO, for example with DatabaseConnection.queryForOne, to read results without reflection.\n")
+                .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build())
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), typeVariable), "dataClass")
+                .addParameter(DatabaseResults.class, "results")
+                .addException(SQLException.class);
+
+        for (int i = 0; i < mappedTables.size(); i++) {
+            TableBindings table = mappedTables.get(i);
+            String controlFlow = "if (dataClass == $T.class)";
+            if (i == 0) {
+                rowMapperBuilder.beginControlFlow(controlFlow, table.getClassName());
+            } else {
+                rowMapperBuilder.addCode("$<} else " + controlFlow + " {\n$>", table.getClassName());
+            }
+            rowMapperBuilder.addStatement("return ($T) $T.forResults(results)", ParameterizedTypeName.get(ClassName.get(GenericRowMapper.class), typeVariable), table.getGeneratedClassName(RowMapperGenerator.SUFFIX));
+        }
+        if (!mappedTables.isEmpty()) {
+            rowMapperBuilder.endControlFlow();
+        }
+        rowMapperBuilder.addStatement("return null");
+
+        configBuilder.addMethod(rowMapperBuilder.build());
+
+        // sorted by table name, so the hash doesn't depend on the order in which the compiler finds the classes
+        Map<String, Long> sortedSchemaHashes = new TreeMap<String, Long>();
+        for (TableBindings table : generatedTables) {
+            sortedSchemaHashes.put(table.getTableName(), schemaHashes.get(table));
+        }
+        List<String> schemaHashParts = new ArrayList<String>();
+        for (Map.Entry<String, Long> schemaHash : sortedSchemaHashes.entrySet()) {
+            schemaHashParts.add(schemaHash.getKey());
+            schemaHashParts.add(Long.toHexString(schemaHash.getValue()));
+        }
+        configBuilder.addField(FieldSpec.builder(TypeName.LONG, "SCHEMA_HASH", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The hash of the schemas of all tables, which only changes when a table is added, removed or changed.\n")
+                .addJavadoc("Store it, for example in a table of your own, to skip creating or checking the tables when it didn't change.\n")
+                .initializer("$L", SchemaGenerator.toLiteral(SchemaGenerator.getSchemaHash(schemaHashParts)))
+                .build());
+
+        MethodSpec.Builder schemaHashBuilder = MethodSpec.methodBuilder("getSchemaHash")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.LONG)
+                .addJavadoc("Returns the hash of the schema of the class, which only changes when its table or indexes change, or 0 if the\n")
+                .addJavadoc("class isn't a table.\n")
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Class.class), WildcardTypeName.subtypeOf(Object.class)), "dataClass");
+
+        for (int i = 0; i < generatedTables.size(); i++) {
+            TableBindings table = generatedTables.get(i);
+            String controlFlow = "if (dataClass == $T.class)";
+            if (i == 0) {
+                schemaHashBuilder.beginControlFlow(controlFlow, table.getClassName());
+            } else {
+                schemaHashBuilder.addCode("$<} else " + controlFlow + " {\n$>", table.getClassName());
+            }
+            schemaHashBuilder.addStatement("return $L", SchemaGenerator.toLiteral(schemaHashes.get(table)));
+        }
+        schemaHashBuilder.endControlFlow();
+        schemaHashBuilder.addStatement("return 0");
+
+        configBuilder.addMethod(schemaHashBuilder.build());
+
+        MethodSpec.Builder callBuilder = MethodSpec.methodBuilder("call")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Void.class)
+                .addException(Exception.class)
+                .addStatement("$T connection = connectionSource.getReadWriteConnection()", DatabaseConnection.class)
+                .beginControlFlow("try");
+        for (TableBindings table : generatedTables) {
+            if (schemaTables.contains(table)) {
+                callBuilder.addStatement("$T.createTable(connection)", table.getGeneratedClassName(SchemaGenerator.SUFFIX));
+            } else {
+                callBuilder.addStatement("$T.createTable(connectionSource, $T.TABLE_CONFIG)", TableUtils.class, table.getGeneratedClassName(CONFIGURATION_SUFFIX));
+            }
+        }
+        callBuilder.addCode("$<} finally {\n$>")
+                .addStatement("connectionSource.releaseConnection(connection)")
+                .endControlFlow()
+                .addStatement("return null");
+
+        configBuilder.addMethod(MethodSpec.methodBuilder("createAll")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addJavadoc("Creates the tables of all classes and their indexes in a single transaction, with the statements generated\n")
+                .addJavadoc("at compile-time where possible.\n")
+                .addParameter(ConnectionSource.class, "connectionSource", Modifier.FINAL)
+                .addException(SQLException.class)
+                .addStatement("$T.callInTransaction(connectionSource, $L)", TransactionManager.class, TypeSpec.anonymousClassBuilder("")
+                        .addSuperinterface(ParameterizedTypeName.get(Callable.class, Void.class))
+                        .addMethod(callBuilder.build())
+                        .build())
+                .build());
+
         return JavaFile.builder(className.packageName(), configBuilder.build()).build();
     }
 
-    private JavaFile generateFile(TypeElement element, List<FieldBindings> fieldConfigs, String tableName) {
-        ClassName className = ClassName.get(element);
-        ClassName configName = ClassName.get(className.packageName(), Joiner.on('$').join(className.simpleNames()) + "$$Configuration");
+    private JavaFile generateFile(TableBindings table) {
+        TypeElement element = table.getElement();
+        List<FieldBindings> fieldConfigs = table.getFields();
+        ClassName configName = table.getGeneratedClassName(CONFIGURATION_SUFFIX);
 
         TypeSpec.Builder configBuilder = TypeSpec.classBuilder(configName.simpleName())
                 .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
                 .addJavadoc("Generated on $L\n", new SimpleDateFormat("yyyy/MM/dd hh:mm:ss").format(new Date()));
 
+        for (TypeElement originatingElement : table.getOriginatingElements()) {
+            configBuilder.addOriginatingElement(originatingElement);
+        }
+
         TypeName databaseTableConfig = ParameterizedTypeName.get(ClassName.get(DatabaseTableConfig.class), ClassName.get(element));
 
         MethodSpec.Builder tableConfigMethodBuilder = MethodSpec.methodBuilder("getTableConfig")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
-                .returns(databaseTableConfig)
-                .addStatement("$T config = new $T()", databaseTableConfig, databaseTableConfig);
-
-        tableConfigMethodBuilder.addStatement("config.setDataClass($T.class)", element);
-        tableConfigMethodBuilder.addStatement("config.setTableName($S)", tableName);
+                .returns(databaseTableConfig);
 
         TypeName listOfFieldConfigs = ParameterizedTypeName.get(List.class, DatabaseFieldConfig.class);
         TypeName arrayListOfFieldConfigs = ParameterizedTypeName.get(ArrayList.class, DatabaseFieldConfig.class);
@@ -191,12 +677,29 @@ public class AnnotationProcessor extends AbstractProcessor {
         MethodSpec.Builder fieldConfigsMethodBuilder = MethodSpec.methodBuilder("getFieldConfigs")
                 .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
                 .returns(listOfFieldConfigs)
-                .addStatement("$T list = new $T()", listOfFieldConfigs, arrayListOfFieldConfigs);
-
-        fieldConfigsMethodBuilder.addStatement("$T config = null", DatabaseFieldConfig.class);
+                .addStatement("$T list = new $T($L)", listOfFieldConfigs, arrayListOfFieldConfigs, fieldConfigs.size());
 
+        // fields without any other settings are added in a single statement, so the local is only declared when needed
+        List<CodeBlock> fieldSetters = new ArrayList<CodeBlock>(fieldConfigs.size());
+        boolean needsLocal = false;
         for (FieldBindings config : fieldConfigs) {
-            fieldConfigsMethodBuilder.addCode(getFieldConfig(config, tableName));
+            CodeBlock setters = getFieldConfig(table, config);
+            fieldSetters.add(setters);
+            needsLocal |= !setters.isEmpty();
+        }
+        if (needsLocal) {
+            fieldConfigsMethodBuilder.addStatement("$T config", DatabaseFieldConfig.class);
+        }
+
+        for (int i = 0; i < fieldConfigs.size(); i++) {
+            String fieldName = fieldConfigs.get(i).getFieldName();
+            CodeBlock setters = fieldSetters.get(i);
+            if (setters.isEmpty()) {
+                fieldConfigsMethodBuilder.addStatement("list.add(new $T($S))", DatabaseFieldConfig.class, fieldName);
+                continue;
+            }
+            fieldConfigsMethodBuilder.addStatement("config = new $T($S)", DatabaseFieldConfig.class, fieldName);
+            fieldConfigsMethodBuilder.addCode(setters);
             fieldConfigsMethodBuilder.addStatement("list.add(config)");
         }
 
@@ -206,22 +709,70 @@ public class AnnotationProcessor extends AbstractProcessor {
 
         configBuilder.addMethod(fieldConfigsMethod);
 
-        tableConfigMethodBuilder.addStatement("config.setFieldConfigs($N())", fieldConfigsMethod);
-        tableConfigMethodBuilder.addStatement("return config");
+        tableConfigMethodBuilder.addStatement("return new $T($N())", table.getGeneratedClassName(TableConfigGenerator.SUFFIX), fieldConfigsMethod);
 
-        configBuilder.addMethod(tableConfigMethodBuilder.build());
+        MethodSpec tableConfigMethod = tableConfigMethodBuilder.build();
 
-        generatedClasses.add(configName);
+        // only report to the listener when there is one, so building the configuration costs nothing extra otherwise
+        MethodSpec buildTableConfigMethod = MethodSpec.methodBuilder("buildTableConfig")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(databaseTableConfig)
+                .addStatement("$T listener = $T.getListener()", LISTENER_CLASS_NAME, MAIN_CLASS_NAME)
+                .beginControlFlow("if (listener == null)")
+                .addStatement("return $N()", tableConfigMethod)
+                .endControlFlow()
+                .addStatement("long start = $T.nanoTime()", System.class)
+                .addStatement("$T config = $N()", databaseTableConfig, tableConfigMethod)
+                .addStatement("listener.onTableConfigBuilt($T.class, $L, $T.nanoTime() - start)", element, fieldConfigs.size(), System.class)
+                .addStatement("return config")
+                .build();
+
+        configBuilder.addField(FieldSpec.builder(databaseTableConfig, "TABLE_CONFIG", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The configuration shared by OrmLiteProcessor and the DAOs, which is built when this class is first used.\n")
+                .initializer("$N()", buildTableConfigMethod)
+                .build());
+
+        configBuilder.addMethod(tableConfigMethod);
+        configBuilder.addMethod(buildTableConfigMethod);
+
+        configBuilder.addMethod(MethodSpec.methodBuilder("configureDao")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Dao.class), table.getClassName(), WildcardTypeName.subtypeOf(Object.class)), "dao")
+                .addStatement("dao.setObjectFactory($T.OBJECT_FACTORY)", table.getGeneratedClassName(AccessorGenerator.SUFFIX))
+                .build());
+
+        generatedTables.add(table);
 
         return JavaFile.builder(configName.packageName(), configBuilder.build()).build();
     }
 
-    private CodeBlock getFieldConfig(FieldBindings config, String tableName) {
-        CodeBlock.Builder builder = CodeBlock.builder()
-                .addStatement("config = new $T()", DatabaseFieldConfig.class);
-        if (config.getFieldName() != null) {
-            builder.addStatement("config.setFieldName($S)", config.getFieldName());
+    /**
+     * Returns whether the persister class declares the public static {@code getSingleton} method OrmLite calls, so it
+     * can be called directly.
+     */
+    private boolean hasSingleton(TypeElement persisterClass) {
+        if (!persisterClass.getModifiers().contains(Modifier.PUBLIC)) {
+            return false;
+        }
+        TypeMirror dataPersister = typeUtils.erasure(elementUtils.getTypeElement(DataPersister.class.getCanonicalName()).asType());
+        for (ExecutableElement method : ElementFilter.methodsIn(persisterClass.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("getSingleton") && method.getParameters().isEmpty()
+                    && method.getModifiers().containsAll(EnumSet.of(Modifier.PUBLIC, Modifier.STATIC))
+                    && typeUtils.isAssignable(method.getReturnType(), dataPersister)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    /**
+     * Returns the setter calls for the settings of the field which differ from the defaults, which is empty if the field
+     * only needs its name.
+     */
+    private CodeBlock getFieldConfig(TableBindings table, FieldBindings config) {
+        String tableName = table.getTableName();
+        CodeBlock.Builder builder = CodeBlock.builder();
         if (config.getColumnName() != null) {
             builder.addStatement("config.setColumnName($S)", config.getColumnName());
         }
@@ -255,6 +806,18 @@ public class AnnotationProcessor extends AbstractProcessor {
         if (config.getUnknownEnumValue() != null) {
             builder.addStatement("config.setUnknownEnumValue($T.$L)", config.getUnknownEnumValue(), config.getUnknownEnumValue());
         }
+        ClassName enumPersisterName = enumPersisterGenerator.getPersisterName(table, config);
+        if (enumPersisterName != null) {
+            if (config.getUnknownEnumValue() != null) {
+                builder.addStatement("config.setDataPersister(new $T($T.$L))", enumPersisterName, config.getUnknownEnumValue(), config.getUnknownEnumValue());
+            } else {
+                builder.addStatement("config.setDataPersister($T.getSingleton())", enumPersisterName);
+            }
+        }
+        ClassName dateStringPersisterName = dateStringPersisterGenerator.getPersisterName(table, config);
+        if (dateStringPersisterName != null) {
+            builder.addStatement("config.setDataPersister($T.getSingleton())", dateStringPersisterName);
+        }
         if (config.isThrowIfNull()) {
             builder.addStatement("config.setThrowIfNull($L)", config.isThrowIfNull());
         }
@@ -285,6 +848,10 @@ public class AnnotationProcessor extends AbstractProcessor {
         }
         if (config.getPersisterClass() != null && !config.getPersisterClass().getQualifiedName().toString().equals("com.j256.ormlite.field.types.VoidType")) {
             builder.addStatement("config.setPersisterClass($T.class)", config.getPersisterClass());
+            // OrmLite would otherwise call getSingleton through reflection for every DAO
+            if (config.getDataType() == DEFAULT_DATA_TYPE && enumPersisterName == null && dateStringPersisterName == null && hasSingleton(config.getPersisterClass())) {
+                builder.addStatement("config.setDataPersister($T.getSingleton())", config.getPersisterClass());
+            }
         }
         if (config.isAllowGeneratedIdInsert()) {
             builder.addStatement("config.setAllowGeneratedIdInsert($L)", config.isAllowGeneratedIdInsert());
@@ -338,9 +905,18 @@ public class AnnotationProcessor extends AbstractProcessor {
     public Set<String> getSupportedAnnotationTypes() {
         Set<String> annotations = new LinkedHashSet<String>();
         annotations.add(DatabaseTable.class.getCanonicalName());
+        annotations.add(Projection.class.getCanonicalName());
         return annotations;
     }
 
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> options = new LinkedHashSet<String>();
+        options.add(ProcessingStats.OPTION);
+        options.add(Dialect.OPTION);
+        return options;
+    }
+
     @Override
     public SourceVersion getSupportedSourceVersion() {
         return SourceVersion.latestSupported();
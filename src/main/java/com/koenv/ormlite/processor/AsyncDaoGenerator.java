@@ -0,0 +1,379 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates the {@code $$AsyncDao} class of a table, which queues the inserts, updates and deletes of the
+ * {@code $$Statements} class on a {@code GroupCommitWriter} and returns a {@link Future} of the number of rows changed.
+ * <p>
+ * The {@code GroupCommitWriter} is generated once. It runs the writes of all tables on a single thread and commits the
+ * writes queued at the same time in one transaction, so threads writing small objects concurrently don't wait for the
+ * connection and don't pay for a transaction each.
+ */
+class AsyncDaoGenerator extends Generator {
+    public static final String SUFFIX = "$$AsyncDao";
+    public static final String WRITER_SIMPLE_NAME = "GroupCommitWriter";
+
+    private static final int DEFAULT_MAX_BATCH_SIZE = 500;
+    private static final int DEFAULT_MAX_LATENCY_MILLIS = 0;
+
+    private final Dialect dialect;
+    private final ClassName writerName;
+    private final ClassName writeName;
+
+    public AsyncDaoGenerator(Types typeUtils, Elements elementUtils, Dialect dialect, String packageName) {
+        super(typeUtils, elementUtils);
+        this.dialect = dialect;
+        this.writerName = ClassName.get(packageName, WRITER_SIMPLE_NAME);
+        this.writeName = ClassName.get(packageName, WRITER_SIMPLE_NAME, "Write");
+    }
+
+    /**
+     * Returns the generated async DAO of the table. Only call this for tables of which the statements are generated.
+     */
+    public JavaFile generate(TableBindings table) {
+        ClassName modelName = table.getClassName();
+        ClassName asyncDaoName = table.getGeneratedClassName(SUFFIX);
+        ClassName statementsName = table.getGeneratedClassName(StatementsGenerator.SUFFIX);
+
+        FieldBindings idField = table.getIdField();
+        boolean canUpdate = false;
+        for (FieldBindings field : table.getColumnFields()) {
+            if (field != idField && !field.isReadOnly()) {
+                canUpdate = idField != null;
+            }
+        }
+
+        TypeSpec.Builder asyncDaoBuilder = classBuilder(asyncDaoName, table, null);
+        asyncDaoBuilder.addMethod(writeMethod("insert", statementsName, modelName, "model"));
+        if (canUpdate) {
+            asyncDaoBuilder.addMethod(writeMethod("update", statementsName, modelName, "model"));
+        }
+        if (idField != null) {
+            asyncDaoBuilder.addMethod(writeMethod("deleteById", statementsName, getFieldType(table.getElement(), idField.getElement()), "id"));
+        }
+        asyncDaoBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        return JavaFile.builder(asyncDaoName.packageName(), asyncDaoBuilder.build()).build();
+    }
+
+    /**
+     * Returns the method which queues the call of the method of the {@code $$Statements} class with the same name.
+     */
+    private MethodSpec writeMethod(String name, ClassName statementsName, TypeName parameterType, String parameterName) {
+        ParameterizedTypeName callable = ParameterizedTypeName.get(Callable.class, Integer.class);
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ParameterizedTypeName.get(Future.class, Integer.class))
+                .addParameter(writerName, "writer", Modifier.FINAL)
+                .addParameter(parameterType, parameterName, Modifier.FINAL)
+                .addStatement("return writer.submit($L)", TypeSpec.anonymousClassBuilder("")
+                        .addSuperinterface(callable)
+                        .addMethod(MethodSpec.methodBuilder("call")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .returns(Integer.class)
+                                .addException(Exception.class)
+                                .addStatement("return $T.$L(writer.getConnectionSource(), $L)", statementsName, name, parameterName)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    public JavaFile generateWriter(List<TableBindings> tables) {
+        TypeName writeOfAny = ParameterizedTypeName.get(writeName, WildcardTypeName.subtypeOf(Object.class));
+        TypeName listOfWrites = ParameterizedTypeName.get(ClassName.get(List.class), writeOfAny);
+        TypeVariableName t = TypeVariableName.get("T");
+
+        TypeSpec.Builder writerBuilder = TypeSpec.classBuilder(writerName.simpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("Generated on $L\n", new SimpleDateFormat("yyyy/MM/dd hh:mm:ss").format(new Date()))
+                .addJavadoc("<p>\n")
+                .addJavadoc("Runs writes on a single thread, which commits the writes queued at the same time in one transaction. The\n")
+                .addJavadoc("future of a write completes when its transaction is committed. A write which throws only fails its own\n")
+                .addJavadoc("future, the other writes of the transaction are still committed.\n");
+        for (TableBindings table : tables) {
+            for (TypeElement element : table.getOriginatingElements()) {
+                writerBuilder.addOriginatingElement(element);
+            }
+        }
+
+        writerBuilder.addField(FieldSpec.builder(TypeName.INT, "DEFAULT_MAX_BATCH_SIZE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The maximum number of writes committed in one transaction.\n")
+                .initializer("$L", DEFAULT_MAX_BATCH_SIZE)
+                .build());
+        writerBuilder.addField(FieldSpec.builder(TypeName.LONG, "DEFAULT_MAX_LATENCY_MILLIS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("How long the first write of a transaction waits for more writes, which is 0 to only commit the writes which\n")
+                .addJavadoc("are already queued.\n")
+                .initializer("$L", DEFAULT_MAX_LATENCY_MILLIS)
+                .build());
+        writerBuilder.addField(FieldSpec.builder(writeOfAny, "STOP", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Queued by close to stop the thread after the writes queued before it.\n")
+                .initializer("new $T<$T>($L)", writeName, Void.class, TypeSpec.anonymousClassBuilder("")
+                        .addSuperinterface(ParameterizedTypeName.get(Callable.class, Void.class))
+                        .addMethod(MethodSpec.methodBuilder("call")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .returns(Void.class)
+                                .addStatement("return null")
+                                .build())
+                        .build())
+                .build());
+        writerBuilder.addField(ConnectionSource.class, "connectionSource", Modifier.PRIVATE, Modifier.FINAL);
+        writerBuilder.addField(TypeName.INT, "maxBatchSize", Modifier.PRIVATE, Modifier.FINAL);
+        writerBuilder.addField(TypeName.LONG, "maxLatencyNanos", Modifier.PRIVATE, Modifier.FINAL);
+        writerBuilder.addField(FieldSpec.builder(ParameterizedTypeName.get(ClassName.get(BlockingQueue.class), writeOfAny), "queue", Modifier.PRIVATE, Modifier.FINAL)
+                .initializer("new $T()", ParameterizedTypeName.get(ClassName.get(LinkedBlockingQueue.class), writeOfAny))
+                .build());
+        writerBuilder.addField(Thread.class, "thread", Modifier.PRIVATE, Modifier.FINAL);
+        writerBuilder.addField(TypeName.BOOLEAN, "closed", Modifier.PRIVATE);
+
+        writerBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addStatement("this(connectionSource, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LATENCY_MILLIS, $T.MILLISECONDS)", TimeUnit.class)
+                .build());
+        writerBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("Starts the thread of the writer.\n")
+                .addJavadoc("\n")
+                .addJavadoc("@param maxBatchSize The maximum number of writes committed in one transaction.\n")
+                .addJavadoc("@param maxLatency How long the first write of a transaction waits for more writes.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addParameter(TypeName.INT, "maxBatchSize")
+                .addParameter(TypeName.LONG, "maxLatency")
+                .addParameter(TimeUnit.class, "unit")
+                .beginControlFlow("if (maxBatchSize < 1)")
+                .addStatement("throw new $T($S + maxBatchSize)", IllegalArgumentException.class, "maxBatchSize must be at least 1, but was ")
+                .endControlFlow()
+                .addStatement("this.connectionSource = connectionSource")
+                .addStatement("this.maxBatchSize = maxBatchSize")
+                .addStatement("this.maxLatencyNanos = unit.toNanos(maxLatency)")
+                .addStatement("thread = new $T($L, $S)", Thread.class, TypeSpec.anonymousClassBuilder("")
+                        .addSuperinterface(Runnable.class)
+                        .addMethod(MethodSpec.methodBuilder("run")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PUBLIC)
+                                .returns(TypeName.VOID)
+                                .addStatement("runWrites()")
+                                .build())
+                        .build(), "ormlite-group-commit")
+                .addStatement("thread.setDaemon(true)")
+                .addStatement("thread.start()")
+                .build());
+
+        writerBuilder.addMethod(MethodSpec.methodBuilder("getConnectionSource")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ConnectionSource.class)
+                .addStatement("return connectionSource")
+                .build());
+
+        writerBuilder.addMethod(MethodSpec.methodBuilder("submit")
+                .addJavadoc("Queues the write, which is called on the thread of the writer in a transaction with the other queued\n")
+                .addJavadoc("writes. Objects passed to the write shouldn't be changed until the returned future is done.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addTypeVariable(t)
+                .returns(ParameterizedTypeName.get(ClassName.get(Future.class), t))
+                .addParameter(ParameterizedTypeName.get(ClassName.get(Callable.class), t), "callable")
+                .addStatement("$T write = new $T(callable)", ParameterizedTypeName.get(writeName, t), ParameterizedTypeName.get(writeName, t))
+                .beginControlFlow("synchronized (this)")
+                .beginControlFlow("if (closed)")
+                .addStatement("throw new $T($S)", IllegalStateException.class, "The writer is closed")
+                .endControlFlow()
+                .addStatement("queue.add(write)")
+                .endControlFlow()
+                .addStatement("return write")
+                .build());
+
+        writerBuilder.addMethod(MethodSpec.methodBuilder("close")
+                .addJavadoc("Commits the queued writes and stops the thread of the writer, after which no writes can be submitted.\n")
+                .addJavadoc("Waits for the thread to stop, unless called from a write.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.VOID)
+                .beginControlFlow("synchronized (this)")
+                .beginControlFlow("if (closed)")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("closed = true")
+                .addStatement("queue.add(STOP)")
+                .endControlFlow()
+                .beginControlFlow("if ($T.currentThread() != thread)", Thread.class)
+                .beginControlFlow("try")
+                .addStatement("thread.join()")
+                .addCode("$<} catch ($T e) {\n$>", InterruptedException.class)
+                .addStatement("$T.currentThread().interrupt()", Thread.class)
+                .endControlFlow()
+                .endControlFlow()
+                .build());
+
+        writerBuilder.addMethod(MethodSpec.methodBuilder("runWrites")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(TypeName.VOID)
+                .addStatement("$T batch = new $T()", listOfWrites, ParameterizedTypeName.get(ClassName.get(ArrayList.class), writeOfAny))
+                .addStatement("boolean stopped = false")
+                .beginControlFlow("while (!stopped)")
+                .beginControlFlow("try")
+                .addStatement("$T write = queue.take()", writeOfAny)
+                .addStatement("long deadline = $T.nanoTime() + maxLatencyNanos", System.class)
+                .beginControlFlow("while (write != STOP)")
+                .addStatement("batch.add(write)")
+                .beginControlFlow("if (batch.size() >= maxBatchSize)")
+                .addStatement("break")
+                .endControlFlow()
+                .addStatement("long remaining = deadline - $T.nanoTime()", System.class)
+                .addStatement("write = remaining > 0 ? queue.poll(remaining, $T.NANOSECONDS) : queue.poll()", TimeUnit.class)
+                .beginControlFlow("if (write == null)")
+                .addStatement("break")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("stopped = write == STOP")
+                .addCode("$<} catch ($T e) {\n$>", InterruptedException.class)
+                .addCode("// only close stops the writer, the writes taken so far are still committed\n")
+                .endControlFlow()
+                .beginControlFlow("if (!batch.isEmpty())")
+                .addStatement("commit(batch)")
+                .addStatement("batch.clear()")
+                .endControlFlow()
+                .endControlFlow()
+                .build());
+
+        MethodSpec.Builder callBuilder = MethodSpec.methodBuilder("call")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Void.class)
+                .addException(Exception.class);
+        if (dialect == Dialect.POSTGRES) {
+            // Postgres aborts the whole transaction when a statement fails, so every write gets a savepoint
+            callBuilder.addStatement("$T connection = connectionSource.getReadWriteConnection()", DatabaseConnection.class)
+                    .beginControlFlow("try")
+                    .beginControlFlow("for ($T write : batch)", writeOfAny)
+                    .beginControlFlow("if (write.isCancelled())")
+                    .addStatement("continue")
+                    .endControlFlow()
+                    .addStatement("$T savePoint = connection.setSavePoint($S)", Savepoint.class, "ORMLITE_WRITE")
+                    .beginControlFlow("if (!write.execute() && savePoint != null)")
+                    .addStatement("connection.rollback(savePoint)")
+                    .endControlFlow()
+                    .endControlFlow()
+                    .addCode("$<} finally {\n$>")
+                    .addStatement("connectionSource.releaseConnection(connection)")
+                    .endControlFlow();
+        } else {
+            // a failed statement doesn't end the transaction, so the other writes are still committed
+            callBuilder.beginControlFlow("for ($T write : batch)", writeOfAny)
+                    .beginControlFlow("if (!write.isCancelled())")
+                    .addStatement("write.execute()")
+                    .endControlFlow()
+                    .endControlFlow();
+        }
+        callBuilder.addStatement("return null");
+
+        writerBuilder.addMethod(MethodSpec.methodBuilder("commit")
+                .addJavadoc("Runs the writes in one transaction and completes their futures when it is committed, or fails all of them\n")
+                .addJavadoc("when the transaction can't be committed.\n")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(TypeName.VOID)
+                .addParameter(listOfWrites, "batch", Modifier.FINAL)
+                .beginControlFlow("try")
+                .addStatement("$T.callInTransaction(connectionSource, $L)", TransactionManager.class, TypeSpec.anonymousClassBuilder("")
+                        .addSuperinterface(ParameterizedTypeName.get(Callable.class, Void.class))
+                        .addMethod(callBuilder.build())
+                        .build())
+                .addCode("$<} catch ($T e) {\n$>", SQLException.class)
+                .beginControlFlow("for ($T write : batch)", writeOfAny)
+                .addStatement("write.fail(e)")
+                .endControlFlow()
+                .addStatement("return")
+                .endControlFlow()
+                .beginControlFlow("for ($T write : batch)", writeOfAny)
+                .addStatement("write.finish()")
+                .endControlFlow()
+                .build());
+
+        writerBuilder.addType(TypeSpec.classBuilder(writeName.simpleName())
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("A future which is completed by the writer after the transaction of the write, instead of by running it.\n")
+                .addTypeVariable(t)
+                .superclass(ParameterizedTypeName.get(ClassName.get(FutureTask.class), t))
+                .addField(ParameterizedTypeName.get(ClassName.get(Callable.class), t), "callable", Modifier.PRIVATE, Modifier.FINAL)
+                .addField(t, "result", Modifier.PRIVATE)
+                .addField(Exception.class, "exception", Modifier.PRIVATE)
+                .addMethod(MethodSpec.constructorBuilder()
+                        .addParameter(ParameterizedTypeName.get(ClassName.get(Callable.class), t), "callable")
+                        .addStatement("super(callable)")
+                        .addStatement("this.callable = callable")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("execute")
+                        .addJavadoc("Calls the write and returns whether it succeeded.\n")
+                        .returns(TypeName.BOOLEAN)
+                        .beginControlFlow("try")
+                        .addStatement("result = callable.call()")
+                        .addStatement("return true")
+                        .addCode("$<} catch ($T e) {\n$>", Exception.class)
+                        .addStatement("exception = e")
+                        .addStatement("return false")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("finish")
+                        .returns(TypeName.VOID)
+                        .beginControlFlow("if (exception != null)")
+                        .addStatement("setException(exception)")
+                        .addCode("$<} else {\n$>")
+                        .addStatement("set(result)")
+                        .endControlFlow()
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("fail")
+                        .returns(TypeName.VOID)
+                        .addParameter(Exception.class, "e")
+                        .addStatement("setException(e)")
+                        .build())
+                .build());
+
+        return JavaFile.builder(writerName.packageName(), writerBuilder.build()).build();
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+/**
+ * Generates the {@code $$BatchWriter} class of a table, which inserts many objects with a single {@code INSERT}
+ * statement per chunk of rows instead of a statement per object.
+ * <p>
+ * SQLite allows at most 999 arguments in a statement and at most 500 rows in a single {@code VALUES} clause, so the
+ * number of rows per statement is worked out at compile-time from the number of columns. The rows are bound with the
+ * {@code bindInsert} method of the {@code $$Statements} class, so a batch writer is only generated next to one.
+ * <p>
+ * SQLite gives the rows of one statement consecutive ids when the id column is declared {@code AUTOINCREMENT}, which both
+ * the generated schema and OrmLite do for generated ids, so the ids of a chunk are counted back from the last inserted id.
+ * Other databases don't guarantee consecutive ids, so there tables with a generated id insert one row per statement,
+ * reusing a single compiled statement, and read the id of every row right after it. Databases of which the last inserted
+ * id can't be read get no batch writer for these tables.
+ */
+class BatchWriterGenerator extends Generator {
+    public static final String SUFFIX = "$$BatchWriter";
+
+    private static final int MAX_VARIABLES = 999;
+    private static final int MAX_ROWS = 500;
+
+    private final DatabaseType databaseType;
+    private final Dialect dialect;
+
+    public BatchWriterGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Dialect dialect) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.dialect = dialect;
+    }
+
+    /**
+     * Returns the generated batch writer of the table or null if the table has no columns to insert, which are needed
+     * to insert multiple rows in a single statement, or if the ids generated by the database can't be read back.
+     */
+    public JavaFile generate(TableBindings table) {
+        List<FieldBindings> createFields = getCreateFields(table);
+        if (createFields.isEmpty()) {
+            return null;
+        }
+
+        ClassName modelName = table.getClassName();
+        ClassName batchWriterName = table.getGeneratedClassName(SUFFIX);
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        ClassName statementsName = table.getGeneratedClassName(StatementsGenerator.SUFFIX);
+
+        FieldBindings idField = table.getIdField();
+        TypeMirror idTypeMirror = idField == null ? null : getFieldTypeMirror(table.getElement(), idField.getElement());
+        boolean selfGeneratedId = idField != null && idField.isGeneratedId() && isSelfGeneratedId(idField, idTypeMirror);
+        boolean rowId = idField != null && idField.isGeneratedId() && !selfGeneratedId;
+        if (rowId && dialect.getLastInsertIdQuery() == null) {
+            return null;
+        }
+        FieldBindings versionField = null;
+        for (FieldBindings field : createFields) {
+            if (field.isVersion() && !TypeName.get(getFieldTypeMirror(table.getElement(), field.getElement())).isPrimitive()) {
+                versionField = field;
+            }
+        }
+        boolean singleRow = rowId && !dialect.isSqlite();
+        boolean keepChunk = rowId || versionField != null;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("INSERT INTO ");
+        databaseType.appendEscapedEntityName(sb, table.getTableName());
+        sb.append(" (");
+        for (int i = 0; i < createFields.size(); i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            databaseType.appendEscapedEntityName(sb, createFields.get(i).getEffectiveColumnName());
+            sb.append(' ');
+        }
+        sb.append(") VALUES ");
+        String prefix = sb.toString();
+
+        sb = new StringBuilder();
+        sb.append('(');
+        for (int i = 0; i < createFields.size(); i++) {
+            if (i > 0) {
+                sb.append(",");
+            }
+            sb.append("?");
+        }
+        sb.append(')');
+        String row = sb.toString();
+
+        TypeSpec.Builder batchWriterBuilder = classBuilder(batchWriterName, table, null);
+
+        batchWriterBuilder.addField(FieldSpec.builder(TypeName.INT, "COLUMN_COUNT", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", createFields.size())
+                .build());
+        FieldSpec.Builder rowsPerStatementBuilder = FieldSpec.builder(TypeName.INT, "ROWS_PER_STATEMENT", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL);
+        if (singleRow) {
+            rowsPerStatementBuilder.addJavadoc("The number of rows inserted by a single statement, which is 1 so the generated id of every row can be read.\n")
+                    .initializer("1");
+        } else {
+            rowsPerStatementBuilder.addJavadoc("The maximum number of rows inserted by a single statement, which keeps the number of arguments below $L.\n", MAX_VARIABLES)
+                    .initializer("$L", Math.min(MAX_ROWS, MAX_VARIABLES / createFields.size()));
+        }
+        batchWriterBuilder.addField(rowsPerStatementBuilder.build());
+        batchWriterBuilder.addField(FieldSpec.builder(String.class, "INSERT_PREFIX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", prefix)
+                .build());
+        batchWriterBuilder.addField(FieldSpec.builder(String.class, "ROW", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", row)
+                .build());
+        batchWriterBuilder.addField(FieldSpec.builder(String.class, "INSERT_CHUNK", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("buildInsert(ROWS_PER_STATEMENT)")
+                .build());
+        batchWriterBuilder.addField(FieldSpec.builder(FieldType[].class, "NO_FIELD_TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[0]", FieldType.class)
+                .build());
+
+        batchWriterBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        TypeName collectionOfModels = ParameterizedTypeName.get(ClassName.get(Collection.class), modelName);
+
+        TypeSpec callable = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(Callable.class), ClassName.get(Integer.class)))
+                .addMethod(MethodSpec.methodBuilder("call")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(Integer.class)
+                        .addException(Exception.class)
+                        .addStatement("$T connection = connectionSource.getReadWriteConnection()", DatabaseConnection.class)
+                        .beginControlFlow("try")
+                        .addStatement("return insertAll(connection, models)")
+                        .addCode("$<} finally {\n$>")
+                        .addStatement("connectionSource.releaseConnection(connection)")
+                        .endControlFlow()
+                        .build())
+                .build();
+        batchWriterBuilder.addMethod(MethodSpec.methodBuilder("insertAll")
+                .addJavadoc("Inserts all objects in a single transaction and returns the number of inserted rows.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(ConnectionSource.class, "connectionSource", Modifier.FINAL)
+                .addParameter(collectionOfModels, "models", Modifier.FINAL)
+                .addException(SQLException.class)
+                .addStatement("return $T.callInTransaction(connectionSource, $L)", TransactionManager.class, callable)
+                .build());
+
+        MethodSpec.Builder insertAllBuilder = MethodSpec.methodBuilder("insertAll")
+                .addJavadoc("Inserts all objects on the connection, without starting a transaction, and returns the number of\n")
+                .addJavadoc("inserted rows.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(DatabaseConnection.class, "connection")
+                .addParameter(collectionOfModels, "models")
+                .addException(SQLException.class)
+                .addStatement("int rows = 0");
+        String idName = idField == null ? null : capitalize(idField.getElement().getSimpleName().toString());
+        String idCast = rowId && box(TypeName.get(idTypeMirror)).equals(ClassName.get(Integer.class)) ? "(int) " : "";
+        String versionName = versionField == null ? null : capitalize(versionField.getElement().getSimpleName().toString());
+        if (singleRow) {
+            // the statement inserts a single row, so it's compiled once and the last inserted id is the id of that row
+            insertAllBuilder.addStatement("$T statement = connection.compileStatement(INSERT_CHUNK, $T.UPDATE, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                    CompiledStatement.class, StatementBuilder.StatementType.class, DatabaseConnection.class);
+            insertAllBuilder.beginControlFlow("try");
+            insertAllBuilder.beginControlFlow("for ($T model : models)", modelName);
+            insertAllBuilder.addStatement("$T.bindInsert(statement, 0, model)", statementsName);
+            insertAllBuilder.addStatement("int inserted = statement.runUpdate()");
+            insertAllBuilder.beginControlFlow("if (inserted > 0)");
+            insertAllBuilder.addStatement("$T.set$L(model, $Lconnection.queryForLong($S))", accessorName, idName, idCast, dialect.getLastInsertIdQuery());
+            if (versionField != null) {
+                insertAllBuilder.beginControlFlow("if ($T.get$L(model) == null)", accessorName, versionName);
+                insertAllBuilder.addStatement("$T.set$L(model, 1$L)", accessorName, versionName, isLong(versionField) ? "L" : "");
+                insertAllBuilder.endControlFlow();
+            }
+            insertAllBuilder.endControlFlow();
+            insertAllBuilder.addStatement("rows += inserted");
+            insertAllBuilder.endControlFlow();
+            insertAllBuilder.addCode("$<} finally {\n$>");
+            insertAllBuilder.addStatement("statement.close()");
+            insertAllBuilder.endControlFlow();
+        } else {
+            insertAllBuilder.addStatement("int remaining = models.size()");
+            insertAllBuilder.addStatement("$T<$T> iterator = models.iterator()", Iterator.class, modelName);
+            if (keepChunk) {
+                insertAllBuilder.addStatement("$T[] chunk = new $T[$T.min(remaining, ROWS_PER_STATEMENT)]", modelName, modelName, Math.class);
+            }
+            insertAllBuilder.beginControlFlow("while (remaining > 0)");
+            insertAllBuilder.addStatement("int count = $T.min(remaining, ROWS_PER_STATEMENT)", Math.class);
+            insertAllBuilder.addStatement("$T statement = connection.compileStatement(count == ROWS_PER_STATEMENT ? INSERT_CHUNK : buildInsert(count), $T.UPDATE, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                    CompiledStatement.class, StatementBuilder.StatementType.class, DatabaseConnection.class);
+            insertAllBuilder.beginControlFlow("try");
+            insertAllBuilder.addStatement("int index = 0");
+            insertAllBuilder.beginControlFlow("for (int i = 0; i < count; i++)");
+            insertAllBuilder.addStatement("$T model = iterator.next()", modelName);
+            if (selfGeneratedId) {
+                insertAllBuilder.addStatement("$T.set$L(model, $T.randomUUID())", accessorName, idName, UUID.class);
+            }
+            insertAllBuilder.addStatement("index = $T.bindInsert(statement, index, model)", statementsName);
+            if (keepChunk) {
+                insertAllBuilder.addStatement("chunk[i] = model");
+            }
+            insertAllBuilder.endControlFlow();
+            insertAllBuilder.addStatement("int inserted = statement.runUpdate()");
+            if (keepChunk) {
+                insertAllBuilder.beginControlFlow("if (inserted > 0)");
+                if (rowId) {
+                    // SQLite assigns consecutive ids to the rows of a single statement in an AUTOINCREMENT column
+                    insertAllBuilder.addStatement("long firstId = connection.queryForLong($S) - count + 1", dialect.getLastInsertIdQuery());
+                }
+                insertAllBuilder.beginControlFlow("for (int i = 0; i < count; i++)");
+                if (rowId) {
+                    insertAllBuilder.addStatement("$T.set$L(chunk[i], $L)", accessorName, idName, idCast.isEmpty() ? "firstId + i" : idCast + "(firstId + i)");
+                }
+                if (versionField != null) {
+                    insertAllBuilder.beginControlFlow("if ($T.get$L(chunk[i]) == null)", accessorName, versionName);
+                    insertAllBuilder.addStatement("$T.set$L(chunk[i], 1$L)", accessorName, versionName, isLong(versionField) ? "L" : "");
+                    insertAllBuilder.endControlFlow();
+                }
+                insertAllBuilder.endControlFlow();
+                insertAllBuilder.endControlFlow();
+            }
+            insertAllBuilder.addStatement("rows += inserted");
+            insertAllBuilder.addCode("$<} finally {\n$>");
+            insertAllBuilder.addStatement("statement.close()");
+            insertAllBuilder.endControlFlow();
+            insertAllBuilder.addStatement("remaining -= count");
+            insertAllBuilder.endControlFlow();
+        }
+        insertAllBuilder.addStatement("return rows");
+        batchWriterBuilder.addMethod(insertAllBuilder.build());
+
+        batchWriterBuilder.addMethod(MethodSpec.methodBuilder("buildInsert")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(TypeName.INT, "rows")
+                .addStatement("$T sb = new $T(INSERT_PREFIX.length() + rows * (ROW.length() + 1))", StringBuilder.class, StringBuilder.class)
+                .addStatement("sb.append(INSERT_PREFIX)")
+                .beginControlFlow("for (int i = 0; i < rows; i++)")
+                .beginControlFlow("if (i > 0)")
+                .addStatement("sb.append(',')")
+                .endControlFlow()
+                .addStatement("sb.append(ROW)")
+                .endControlFlow()
+                .addStatement("return sb.toString()")
+                .build());
+
+        return JavaFile.builder(batchWriterName.packageName(), batchWriterBuilder.build()).build();
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.dao.ForeignCollection;
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the {@code $$CollectionLoader} class of a table with foreign collections, which loads the children of many
+ * objects with a query per chunk of objects, instead of the query per object OrmLite runs for eager collections.
+ * <p>
+ * The children are read with the row mapper of their table and assigned to a list, so only foreign collections which are
+ * declared as a {@link Collection} are loaded. A {@link ForeignCollection} can only be filled by OrmLite itself.
+ */
+class CollectionLoaderGenerator extends Generator {
+    public static final String SUFFIX = "$$CollectionLoader";
+
+    private static final int MAX_VARIABLES = 999;
+
+    private final DatabaseType databaseType;
+    private final Messager messager;
+
+    public CollectionLoaderGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Messager messager) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.messager = messager;
+    }
+
+    /**
+     * Returns the generated collection loader of the table or null if none of its foreign collections can be loaded.
+     *
+     * @param tables       All tables in this round by their qualified name, used to find the tables of the children.
+     * @param mappedTables The tables which have a row mapper, which is used to read the children.
+     */
+    public JavaFile generate(TableBindings table, Map<String, TableBindings> tables, List<TableBindings> mappedTables) {
+        ClassName modelName = table.getClassName();
+        ClassName loaderName = table.getGeneratedClassName(SUFFIX);
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+
+        FieldBindings idField = table.getIdField();
+        List<FieldBindings> collectionFields = new ArrayList<FieldBindings>();
+        for (FieldBindings field : table.getFields()) {
+            if (field.isForeignCollection()) {
+                collectionFields.add(field);
+            }
+        }
+        if (collectionFields.isEmpty()) {
+            return null;
+        }
+        if (idField == null) {
+            for (FieldBindings field : collectionFields) {
+                note(modelName, field, "belongs to a class without an id");
+            }
+            return null;
+        }
+
+        TypeMirror idTypeMirror = getFieldTypeMirror(table.getElement(), idField.getElement());
+        TypeName idType = box(TypeName.get(idTypeMirror));
+        DataType idDataType = DataTypes.resolve(idField, idTypeMirror, elementUtils);
+        if (idDataType == null || !(idType.equals(ClassName.get(Integer.class)) || idType.equals(ClassName.get(Long.class))
+                || idType.equals(ClassName.get(String.class)))) {
+            for (FieldBindings field : collectionFields) {
+                note(modelName, field, "belongs to a class of which the id isn't an int, a long or a string");
+            }
+            return null;
+        }
+        SqlType idSqlType = databaseType.getFieldConverter(idDataType.getDataPersister()).getSqlType();
+        String idName = capitalize(idField.getElement().getSimpleName().toString());
+
+        TypeSpec.Builder loaderBuilder = classBuilder(loaderName, table, tables);
+        loaderBuilder.addField(FieldSpec.builder(TypeName.INT, "IDS_PER_QUERY", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The maximum number of objects of which the children are loaded by a single query, which keeps the number of arguments\n")
+                .addJavadoc("below $L.\n", MAX_VARIABLES)
+                .initializer("$L", MAX_VARIABLES)
+                .build());
+        loaderBuilder.addField(FieldSpec.builder(FieldType[].class, "NO_FIELD_TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[0]", FieldType.class)
+                .build());
+        loaderBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        TypeName collectionOfModels = ParameterizedTypeName.get(ClassName.get(Collection.class), WildcardTypeName.subtypeOf(modelName));
+        MethodSpec.Builder loadAllBuilder = MethodSpec.methodBuilder("loadAll")
+                .addJavadoc("Loads all foreign collections of the objects which can be loaded in batches.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addParameter(collectionOfModels, "models")
+                .addException(SQLException.class);
+        List<MethodSpec> loadMethods = new ArrayList<MethodSpec>();
+
+        for (FieldBindings field : collectionFields) {
+            String name = field.getElement().getSimpleName().toString();
+            TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+            TypeMirror childTypeMirror = getElementType(typeMirror);
+            TableBindings childTable = childTypeMirror == null ? null : getTable(childTypeMirror, tables);
+            if (childTable == null || !mappedTables.contains(childTable)) {
+                note(modelName, field, "doesn't contain objects of a table with a row mapper");
+                continue;
+            }
+            if (typeUtils.isAssignable(typeUtils.erasure(typeMirror), typeUtils.erasure(elementUtils.getTypeElement(ForeignCollection.class.getName()).asType()))
+                    || !typeUtils.isAssignable(typeUtils.erasure(elementUtils.getTypeElement(ArrayList.class.getName()).asType()), typeUtils.erasure(typeMirror))) {
+                note(modelName, field, "isn't declared as a Collection");
+                continue;
+            }
+            FieldBindings parentField = getParentField(table, childTable, field);
+            if (parentField == null) {
+                note(modelName, field, "doesn't contain objects with a foreign field of this class");
+                continue;
+            }
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("SELECT * FROM ");
+            databaseType.appendEscapedEntityName(sb, childTable.getTableName());
+            sb.append(" WHERE ");
+            databaseType.appendEscapedEntityName(sb, parentField.getEffectiveColumnName());
+            sb.append(" IN (");
+            String prefix = sb.toString();
+            sb = new StringBuilder();
+            sb.append(')');
+            if (field.getForeignCollectionOrderColumnName() != null) {
+                sb.append(" ORDER BY ");
+                databaseType.appendEscapedEntityName(sb, field.getForeignCollectionOrderColumnName());
+                if (!field.isForeignCollectionOrderAscending()) {
+                    sb.append(" DESC");
+                }
+            }
+            String suffix = sb.toString();
+
+            ClassName childName = childTable.getClassName();
+            ClassName childAccessorName = childTable.getGeneratedClassName(AccessorGenerator.SUFFIX);
+            ClassName childRowMapperName = childTable.getGeneratedClassName(RowMapperGenerator.SUFFIX);
+            String parentName = capitalize(parentField.getElement().getSimpleName().toString());
+            TypeName listOfChildren = ParameterizedTypeName.get(ClassName.get(List.class), childName);
+            TypeName listOfIds = ParameterizedTypeName.get(ClassName.get(List.class), idType);
+            String constantName = toConstantName(name);
+
+            loaderBuilder.addField(FieldSpec.builder(String.class, "SELECT_" + constantName + "_PREFIX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", prefix)
+                    .build());
+            loaderBuilder.addField(FieldSpec.builder(String.class, "SELECT_" + constantName + "_SUFFIX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", suffix)
+                    .build());
+
+            MethodSpec.Builder loadBuilder = MethodSpec.methodBuilder("load" + capitalize(name))
+                    .addJavadoc("Sets the {@code $L} field of every object to a list of its children, which are loaded with a query per $L objects.\n", name, "{@link #IDS_PER_QUERY}")
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .addParameter(ConnectionSource.class, "connectionSource")
+                    .addParameter(collectionOfModels, "models")
+                    .addException(SQLException.class)
+                    .addStatement("$T<$T, $T> modelsById = new $T<$T, $T>()", Map.class, idType, modelName, HashMap.class, idType, modelName)
+                    .addStatement("$T<$T, $T> childrenById = new $T<$T, $T>()", Map.class, idType, listOfChildren, HashMap.class, idType, listOfChildren)
+                    .beginControlFlow("for ($T model : models)", modelName)
+                    .addStatement("$T id = $T.get$L(model)", idType, accessorName, idName)
+                    .addStatement("$T children = childrenById.get(id)", listOfChildren)
+                    .beginControlFlow("if (children == null)")
+                    .addStatement("children = new $T<$T>()", ArrayList.class, childName)
+                    .addStatement("childrenById.put(id, children)")
+                    .addStatement("modelsById.put(id, model)")
+                    .endControlFlow()
+                    .addStatement("$T.set$L(model, children)", accessorName, capitalize(name))
+                    .endControlFlow()
+                    .addStatement("$T ids = new $T<$T>(modelsById.keySet())", listOfIds, ArrayList.class, idType);
+            if (!TypeName.get(idTypeMirror).isPrimitive()) {
+                loadBuilder.addStatement("ids.remove(null)");
+            }
+            loadBuilder.beginControlFlow("if (ids.isEmpty())")
+                    .addStatement("return")
+                    .endControlFlow()
+                    .addStatement("$T connection = connectionSource.getReadOnlyConnection()", DatabaseConnection.class)
+                    .beginControlFlow("try")
+                    .beginControlFlow("for (int start = 0; start < ids.size(); start += IDS_PER_QUERY)")
+                    .addStatement("int count = $T.min(IDS_PER_QUERY, ids.size() - start)", Math.class)
+                    .addStatement("$T statement = connection.compileStatement(buildSelect(SELECT_$L_PREFIX, count, SELECT_$L_SUFFIX), $T.SELECT, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                            CompiledStatement.class, constantName, constantName, StatementBuilder.StatementType.class, DatabaseConnection.class)
+                    .beginControlFlow("try")
+                    .beginControlFlow("for (int i = 0; i < count; i++)")
+                    .addStatement("statement.setObject(i, ids.get(start + i), $T.$L)", SqlType.class, idSqlType)
+                    .endControlFlow()
+                    .addStatement("$T results = statement.runQuery(null)", DatabaseResults.class)
+                    .beginControlFlow("try")
+                    .beginControlFlow("if (results.first())")
+                    .addStatement("$T rowMapper = $T.forResults(results)", childRowMapperName, childRowMapperName)
+                    .beginControlFlow("do")
+                    .addStatement("$T child = rowMapper.mapRow(results)", childName)
+                    .addCode("// the row mapper only sets the id of the parent, so it is replaced by the object itself\n")
+                    .addStatement("$T id = $T.get$L($T.get$L(child))", idType, accessorName, idName, childAccessorName, parentName)
+                    .addStatement("childrenById.get(id).add(child)")
+                    .addStatement("$T.set$L(child, modelsById.get(id))", childAccessorName, parentName)
+                    .endControlFlow("while (results.next())")
+                    .endControlFlow()
+                    .addCode("$<} finally {\n$>")
+                    .addStatement("results.close()")
+                    .endControlFlow()
+                    .addCode("$<} finally {\n$>")
+                    .addStatement("statement.close()")
+                    .endControlFlow()
+                    .endControlFlow()
+                    .addCode("$<} finally {\n$>")
+                    .addStatement("connectionSource.releaseConnection(connection)")
+                    .endControlFlow();
+            MethodSpec loadMethod = loadBuilder.build();
+            loadMethods.add(loadMethod);
+            loadAllBuilder.addStatement("$N(connectionSource, models)", loadMethod);
+        }
+
+        if (loadMethods.isEmpty()) {
+            return null;
+        }
+        loaderBuilder.addMethod(loadAllBuilder.build());
+        for (MethodSpec loadMethod : loadMethods) {
+            loaderBuilder.addMethod(loadMethod);
+        }
+        loaderBuilder.addMethod(MethodSpec.methodBuilder("buildSelect")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(String.class, "prefix")
+                .addParameter(TypeName.INT, "count")
+                .addParameter(String.class, "suffix")
+                .addStatement("$T sb = new $T(prefix.length() + count * 2 + suffix.length())", StringBuilder.class, StringBuilder.class)
+                .addStatement("sb.append(prefix)")
+                .beginControlFlow("for (int i = 0; i < count; i++)")
+                .addStatement("sb.append(i == 0 ? $S : $S)", "?", ",?")
+                .endControlFlow()
+                .addStatement("sb.append(suffix)")
+                .addStatement("return sb.toString()")
+                .build());
+
+        return JavaFile.builder(loaderName.packageName(), loaderBuilder.build()).build();
+    }
+
+    /**
+     * Returns the field of the child table which refers to the parent table, in the same way OrmLite finds it: the field
+     * named by {@code foreignFieldName} or otherwise the first foreign field of the type of the parent. Returns null if
+     * there is no such field or if the field has a different type, which the generated code can't assign the parent to.
+     */
+    private FieldBindings getParentField(TableBindings table, TableBindings childTable, FieldBindings collectionField) {
+        String foreignFieldName = collectionField.getForeignCollectionForeignFieldName();
+        for (FieldBindings field : childTable.getColumnFields()) {
+            if (!field.isForeign() || field.getForeignColumnName() != null) {
+                continue;
+            }
+            boolean sameType = typeUtils.isSameType(typeUtils.erasure(table.getElement().asType()),
+                    typeUtils.erasure(getFieldTypeMirror(childTable.getElement(), field.getElement())));
+            if (foreignFieldName == null ? sameType : field.getFieldName().equals(foreignFieldName)) {
+                return sameType ? field : null;
+            }
+        }
+        return null;
+    }
+
+    private static TypeMirror getElementType(TypeMirror type) {
+        if (type.getKind() != TypeKind.DECLARED || ((DeclaredType) type).getTypeArguments().size() != 1) {
+            return null;
+        }
+        return ((DeclaredType) type).getTypeArguments().get(0);
+    }
+
+    private static TableBindings getTable(TypeMirror type, Map<String, TableBindings> tables) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return tables.get(((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString());
+    }
+
+    private void note(ClassName modelName, FieldBindings field, String reason) {
+        messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                String.format("Foreign collection %s of %s isn't loaded in batches, because it %s", field.getFieldName(), modelName, reason),
+                field.getElement()
+        );
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generates the {@code $$Columns} class of a table, which contains the name of the column of every field as a constant,
+ * for example to use in a {@link com.j256.ormlite.stmt.QueryBuilder} instead of writing the names by hand. The
+ * constants are named after the fields, so {@code createdAt} results in {@code CREATED_AT}. Fields of which the constant
+ * is already taken, by another field or by {@code TABLE_NAME}, are reported with a warning and don't get a constant.
+ */
+class ColumnsGenerator extends Generator {
+    public static final String SUFFIX = "$$Columns";
+
+    private final Messager messager;
+
+    public ColumnsGenerator(Types typeUtils, Elements elementUtils, Messager messager) {
+        super(typeUtils, elementUtils);
+        this.messager = messager;
+    }
+
+    public JavaFile generate(TableBindings table) {
+        ClassName columnsName = table.getGeneratedClassName(SUFFIX);
+
+        TypeSpec.Builder columnsBuilder = classBuilder(columnsName, table, null)
+                .addField(FieldSpec.builder(String.class, "TABLE_NAME", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$S", table.getTableName())
+                        .build());
+
+        // the field of every constant, or null for the table name
+        Map<String, String> constantFields = new HashMap<String, String>();
+        constantFields.put("TABLE_NAME", null);
+        for (FieldBindings field : table.getColumnFields()) {
+            String name = field.getElement().getSimpleName().toString();
+            String constantName = toConstantName(name);
+            // fields such as fooBar and foo_bar result in the same constant, of which only the first is kept
+            if (constantFields.containsKey(constantName)) {
+                String otherField = constantFields.get(constantName);
+                messager.printMessage(
+                        Diagnostic.Kind.WARNING,
+                        String.format("Field %s of %s has no constant in %s, because %s is already the constant of %s",
+                                name, table.getClassName(), columnsName, constantName, otherField == null ? "the table name" : "field " + otherField),
+                        field.getElement()
+                );
+                continue;
+            }
+            constantFields.put(constantName, name);
+            columnsBuilder.addField(FieldSpec.builder(String.class, constantName, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .addJavadoc("The column of {@link $T#$L}, of type {@code $T}.\n", table.getClassName(), name, getFieldType(table.getElement(), field.getElement()))
+                    .initializer("$S", field.getEffectiveColumnName())
+                    .build());
+        }
+
+        columnsBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        return JavaFile.builder(columnsName.packageName(), columnsBuilder.build()).build();
+    }
+}
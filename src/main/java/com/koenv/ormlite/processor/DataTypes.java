@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataPersister;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.FieldConverter;
+import com.j256.ormlite.field.types.VoidType;
+
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Works out at compile-time which {@link DataType} OrmLite is going to use for a field, the same way
+ * {@link com.j256.ormlite.field.DataPersisterManager} does at runtime.
+ */
+final class DataTypes {
+    private static final Map<String, DataType> builtInTypes = new HashMap<String, DataType>();
+    private static final Map<String, DataType> persisterTypes = new HashMap<String, DataType>();
+
+    static {
+        for (DataType dataType : DataType.values()) {
+            DataPersister persister = dataType.getDataPersister();
+            if (persister == null) {
+                continue;
+            }
+            for (Class<?> clazz : persister.getAssociatedClasses()) {
+                builtInTypes.put(clazz.getName(), dataType);
+            }
+            String[] associatedClassNames = persister.getAssociatedClassNames();
+            if (associatedClassNames != null) {
+                for (String className : associatedClassNames) {
+                    builtInTypes.put(className, dataType);
+                }
+            }
+            if (!persisterTypes.containsKey(persister.getClass().getName())) {
+                persisterTypes.put(persister.getClass().getName(), dataType);
+            }
+        }
+    }
+
+    private DataTypes() {
+    }
+
+    /**
+     * Returns the data type OrmLite will use for the field, or null if it can only be known at runtime. This is the
+     * case for custom persisters and for types which are registered with
+     * {@link com.j256.ormlite.field.DataPersisterManager#registerDataPersisters}.
+     */
+    public static DataType resolve(FieldBindings field, TypeMirror type, Elements elementUtils) {
+        TypeElement persisterClass = field.getPersisterClass();
+        if (persisterClass != null && !persisterClass.getQualifiedName().contentEquals(VoidType.class.getName())) {
+            return persisterTypes.get(elementUtils.getBinaryName(persisterClass).toString());
+        }
+        if (field.getDataType() != DataType.UNKNOWN) {
+            return field.getDataType();
+        }
+        if (type.getKind().isPrimitive()) {
+            return builtInTypes.get(type.getKind().name().toLowerCase());
+        }
+        if (!(type instanceof DeclaredType)) {
+            return null;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        DataType dataType = builtInTypes.get(elementUtils.getBinaryName(typeElement).toString());
+        if (dataType == null && typeElement.getKind() == ElementKind.ENUM) {
+            dataType = DataType.ENUM_STRING;
+        }
+        return dataType;
+    }
+
+    /**
+     * Returns the data type that is actually stored in the database. Some database types convert a data type to
+     * another one, Android for example stores a {@link DataType#DATE} as a {@link DataType#DATE_STRING}.
+     */
+    public static DataType getStoredType(DatabaseType databaseType, DataType dataType) {
+        FieldConverter converter = databaseType.getFieldConverter(dataType.getDataPersister());
+        if (converter != dataType.getDataPersister()) {
+            for (DataType storedType : DataType.values()) {
+                if (storedType.getDataPersister() == converter) {
+                    return storedType;
+                }
+            }
+        }
+        return dataType;
+    }
+}
@@ -0,0 +1,477 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.field.types.BaseDateType;
+import com.j256.ormlite.field.types.DateStringType;
+import com.j256.ormlite.field.types.VoidType;
+import com.j256.ormlite.misc.SqlExceptionUtil;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.sql.SQLException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a persister for every format of the dates which are stored as strings, to replace {@link DateStringType}.
+ * This includes all dates on Android, which stores a {@link DataType#DATE} as a {@link DataType#DATE_STRING}.
+ * {@link DateStringType} parses and formats every value with a {@link SimpleDateFormat}, while the generated
+ * persisters read and write the digits of every field at its fixed position and only fall back to the
+ * {@link SimpleDateFormat} for values which don't match the format exactly, such as dates after the year
+ * 9999.
+ * <p>
+ * Only formats of which every field has a fixed width are supported: {@code yyyy}, {@code MM}, {@code dd}, {@code HH},
+ * {@code mm}, {@code ss} and {@code SSS} or longer, separated by characters other than letters and quotes. Dates with
+ * another format keep the persister of OrmLite.
+ */
+class DateStringPersisterGenerator extends Generator {
+    public static final String PREFIX = "DateStringPersister$$";
+
+    /**
+     * The format {@link DateStringType} uses when a field doesn't have one.
+     */
+    private static final String DEFAULT_FORMAT = "yyyy-MM-dd HH:mm:ss.SSSSSS";
+
+    private final DatabaseType databaseType;
+    private final String packageName;
+    private final Map<String, Persister> persisters = new LinkedHashMap<String, Persister>();
+
+    /**
+     * @param packageName The package the persisters are generated in, as they are shared by the tables of all packages.
+     */
+    public DateStringPersisterGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, String packageName) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.packageName = packageName;
+    }
+
+    /**
+     * Finds the formats of the dates of all tables in this round, which is needed before the other generated classes
+     * can refer to the persisters with {@link #getPersisterName}.
+     */
+    public void prepare(Iterable<TableBindings> tables) {
+        persisters.clear();
+        List<String> simpleNames = new ArrayList<String>();
+        for (TableBindings table : tables) {
+            for (FieldBindings field : table.getColumnFields()) {
+                String format = getFormat(field, getFieldTypeMirror(table.getElement(), field.getElement()));
+                if (format == null) {
+                    continue;
+                }
+                Persister persister = persisters.get(format);
+                if (persister == null) {
+                    List<Token> tokens = tokenize(format);
+                    if (tokens == null) {
+                        continue;
+                    }
+                    String simpleName = PREFIX + format.replaceAll("[^A-Za-z0-9]+", "_");
+                    String uniqueName = simpleName;
+                    for (int i = 2; simpleNames.contains(uniqueName); i++) {
+                        uniqueName = simpleName + "_" + i;
+                    }
+                    simpleNames.add(uniqueName);
+                    persister = new Persister(ClassName.get(packageName, uniqueName), tokens);
+                    persisters.put(format, persister);
+                }
+                if (!persister.tables.contains(table)) {
+                    persister.tables.add(table);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the generated persister of the field or null if the field doesn't have one.
+     */
+    public ClassName getPersisterName(TableBindings table, FieldBindings field) {
+        return getPersisterName(field, getFieldTypeMirror(table.getElement(), field.getElement()));
+    }
+
+    /**
+     * Returns the name of the generated persister of the field with the type or null if the field doesn't have one.
+     */
+    public ClassName getPersisterName(FieldBindings field, TypeMirror type) {
+        String format = getFormat(field, type);
+        Persister persister = format == null ? null : persisters.get(format);
+        return persister == null ? null : persister.className;
+    }
+
+    /**
+     * Returns the generated persisters of all formats found by {@link #prepare}.
+     */
+    public List<JavaFile> generate() {
+        List<JavaFile> files = new ArrayList<JavaFile>(persisters.size());
+        for (Map.Entry<String, Persister> entry : persisters.entrySet()) {
+            files.add(generate(entry.getKey(), entry.getValue()));
+        }
+        return files;
+    }
+
+    private JavaFile generate(String format, Persister persister) {
+        ClassName persisterName = persister.className;
+        // the configuration of OrmLite's formats is protected, which the persisters can use as a subclass
+        ClassName baseDateTypeName = ClassName.get(BaseDateType.class);
+        ClassName formatConfigName = ClassName.get(baseDateTypeName.packageName(), baseDateTypeName.simpleName(), "DateStringFormatConfig");
+        TypeName threadLocalOfCalendar = ParameterizedTypeName.get(ThreadLocal.class, Calendar.class);
+
+        TypeSpec.Builder persisterBuilder = classBuilder(persisterName, persister.tables.get(0), null)
+                .superclass(DateStringType.class);
+        for (TableBindings table : persister.tables.subList(1, persister.tables.size())) {
+            for (TypeElement element : table.getOriginatingElements()) {
+                persisterBuilder.addOriginatingElement(element);
+            }
+        }
+
+        int length = 0;
+        for (Token token : persister.tokens) {
+            length += token.count;
+        }
+
+        persisterBuilder.addField(FieldSpec.builder(String.class, "FORMAT", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", format)
+                .build());
+        persisterBuilder.addField(FieldSpec.builder(TypeName.INT, "LENGTH", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", length)
+                .build());
+        persisterBuilder.addField(FieldSpec.builder(persisterName, "SINGLETON", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T()", persisterName)
+                .build());
+        persisterBuilder.addField(FieldSpec.builder(formatConfigName, "FORMAT_CONFIG", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T(FORMAT)", formatConfigName)
+                .build());
+        // the calendar is created the same way as the one of a SimpleDateFormat, so the time zone and the fields match
+        persisterBuilder.addField(FieldSpec.builder(threadLocalOfCalendar, "CALENDAR", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$L", TypeSpec.anonymousClassBuilder("")
+                        .superclass(threadLocalOfCalendar)
+                        .addMethod(MethodSpec.methodBuilder("initialValue")
+                                .addAnnotation(Override.class)
+                                .addModifiers(Modifier.PROTECTED)
+                                .returns(Calendar.class)
+                                .addStatement("return $T.getInstance()", Calendar.class)
+                                .build())
+                        .build())
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .addStatement("super($T.STRING, new $T<?>[0])", SqlType.class, Class.class)
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("getSingleton")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(persisterName)
+                .addStatement("return SINGLETON")
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("makeConfigObject")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(FieldType.class, "fieldType")
+                .addStatement("return FORMAT_CONFIG")
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("javaToSqlArg")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(FieldType.class, "fieldType")
+                .addParameter(Object.class, "javaObject")
+                .addStatement("return format(($T) javaObject)", Date.class)
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("sqlArgToJava")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(FieldType.class, "fieldType")
+                .addParameter(Object.class, "sqlArg")
+                .addParameter(TypeName.INT, "columnPos")
+                .addException(SQLException.class)
+                .addStatement("return parse(($T) sqlArg, columnPos)", String.class)
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("parse")
+                .addJavadoc("Parses the value of the column the same way as {@link $T}.\n", DateStringType.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(Date.class)
+                .addParameter(String.class, "value")
+                .addParameter(TypeName.INT, "columnPos")
+                .addException(SQLException.class)
+                .beginControlFlow("try")
+                .addStatement("return parse(value)")
+                .addCode("$<} catch ($T e) {\n$>", ParseException.class)
+                .addStatement("throw $T.create($S + columnPos + $S + value + $S + FORMAT + $S, e)", SqlExceptionUtil.class,
+                        "Problems with column ", " parsing date-string '", "' using '", "'")
+                .endControlFlow()
+                .build());
+
+        MethodSpec.Builder parseBuilder = MethodSpec.methodBuilder("parse")
+                .addJavadoc("Parses the value, which only uses a {@link $T} if it doesn't match the format exactly.\n", SimpleDateFormat.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(Date.class)
+                .addParameter(String.class, "value")
+                .addException(ParseException.class);
+        CodeBlock.Builder condition = CodeBlock.builder().add("value.length() == LENGTH$>$>");
+        int position = 0;
+        for (Token token : persister.tokens) {
+            if (token.literal != null) {
+                for (int i = 0; i < token.count; i++) {
+                    condition.add("\n&& value.charAt($L) == $L", position + i, characterLiteral(token.literal.charAt(i)));
+                }
+            }
+            position += token.count;
+        }
+        parseBuilder.beginControlFlow("if ($L$<$<)", condition.build());
+        CodeBlock.Builder valid = CodeBlock.builder();
+        position = 0;
+        for (Token token : persister.tokens) {
+            if (token.field != null) {
+                parseBuilder.addStatement("int $L = digits(value, $L, $L)", token.field.name, position, position + token.count);
+                valid.add(valid.build().isEmpty() ? "$>$>" : "\n&& ");
+                valid.add("$L >= $L && $L <= $L", token.field.name, token.field.min, token.field.name, token.field.max);
+            }
+            position += token.count;
+        }
+        parseBuilder.beginControlFlow("if ($L$<$<)", valid.build())
+                .addStatement("$T calendar = CALENDAR.get()", Calendar.class)
+                .addStatement("calendar.clear()");
+        for (Token token : persister.tokens) {
+            if (token.field != null) {
+                parseBuilder.addStatement("calendar.set($T.$L, $L$L)", Calendar.class, token.field.calendarField, token.field.name,
+                        token.field == DateField.MONTH ? " - 1" : "");
+            }
+        }
+        parseBuilder.addStatement("return calendar.getTime()")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return FORMAT_CONFIG.getDateFormat().parse(value)");
+        persisterBuilder.addMethod(parseBuilder.build());
+
+        MethodSpec.Builder formatBuilder = MethodSpec.methodBuilder("format")
+                .addJavadoc("Formats the date, which only uses a {@link $T} for years after 9999.\n", SimpleDateFormat.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(String.class)
+                .addParameter(Date.class, "date")
+                .addStatement("$T calendar = CALENDAR.get()", Calendar.class)
+                .addStatement("calendar.setTime(date)")
+                .beginControlFlow("if (calendar.get($T.YEAR) > 9999)", Calendar.class)
+                .addStatement("return FORMAT_CONFIG.getDateFormat().format(date)")
+                .endControlFlow()
+                .addStatement("char[] chars = new char[LENGTH]");
+        position = 0;
+        for (Token token : persister.tokens) {
+            if (token.literal != null) {
+                for (int i = 0; i < token.count; i++) {
+                    formatBuilder.addStatement("chars[$L] = $L", position + i, characterLiteral(token.literal.charAt(i)));
+                }
+            } else {
+                formatBuilder.addStatement("putDigits(chars, $L, $L, calendar.get($T.$L)$L)", position, position + token.count, Calendar.class,
+                        token.field.calendarField, token.field == DateField.MONTH ? " + 1" : "");
+            }
+            position += token.count;
+        }
+        formatBuilder.addStatement("return new $T(chars)", String.class);
+        persisterBuilder.addMethod(formatBuilder.build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("digits")
+                .addJavadoc("Returns the number of the digits from {@code start} to {@code end} or -1 if one of them isn't a digit.\n")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(String.class, "value")
+                .addParameter(TypeName.INT, "start")
+                .addParameter(TypeName.INT, "end")
+                .addStatement("int result = 0")
+                .beginControlFlow("for (int i = start; i < end; i++)")
+                .addStatement("char c = value.charAt(i)")
+                .beginControlFlow("if (c < '0' || c > '9')")
+                .addStatement("return -1")
+                .endControlFlow()
+                .addStatement("result = result * 10 + (c - '0')")
+                .endControlFlow()
+                .addStatement("return result")
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("putDigits")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .addParameter(char[].class, "chars")
+                .addParameter(TypeName.INT, "start")
+                .addParameter(TypeName.INT, "end")
+                .addParameter(TypeName.INT, "value")
+                .beginControlFlow("for (int i = end - 1; i >= start; i--)")
+                .addStatement("chars[i] = (char) ('0' + value % 10)")
+                .addStatement("value /= 10")
+                .endControlFlow()
+                .build());
+
+        return JavaFile.builder(persisterName.packageName(), persisterBuilder.build()).build();
+    }
+
+    /**
+     * Returns the format of the field if it is a date which is stored as a string by OrmLite's persister, or null
+     * otherwise.
+     */
+    private String getFormat(FieldBindings field, TypeMirror type) {
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.isForeignCollection()) {
+            return null;
+        }
+        TypeElement persisterClass = field.getPersisterClass();
+        if (persisterClass != null && !persisterClass.getQualifiedName().contentEquals(VoidType.class.getName())) {
+            return null;
+        }
+        if (!TypeName.get(type).equals(ClassName.get(Date.class))) {
+            return null;
+        }
+        DataType dataType = DataTypes.resolve(field, type, elementUtils);
+        if (dataType == null || DataTypes.getStoredType(databaseType, dataType) != DataType.DATE_STRING) {
+            return null;
+        }
+        return field.getFormat() == null ? DEFAULT_FORMAT : field.getFormat();
+    }
+
+    /**
+     * Splits the format into fields and literals, or returns null if it contains something else than the supported
+     * fields or a field more than once.
+     */
+    private static List<Token> tokenize(String format) {
+        List<Token> tokens = new ArrayList<Token>();
+        List<DateField> fields = new ArrayList<DateField>();
+        int i = 0;
+        while (i < format.length()) {
+            char c = format.charAt(i);
+            int end = i + 1;
+            if (Character.isLetter(c) && c < 128) {
+                while (end < format.length() && format.charAt(end) == c) {
+                    end++;
+                }
+                DateField field = DateField.forLetter(c, end - i);
+                if (field == null || fields.contains(field)) {
+                    return null;
+                }
+                fields.add(field);
+                tokens.add(new Token(field, null, end - i));
+            } else if (c == '\'' || Character.isLetter(c)) {
+                return null;
+            } else {
+                while (end < format.length() && !Character.isLetter(format.charAt(end)) && format.charAt(end) != '\'') {
+                    end++;
+                }
+                tokens.add(new Token(null, format.substring(i, end), end - i));
+            }
+            i = end;
+        }
+        return fields.isEmpty() ? null : tokens;
+    }
+
+    private static String characterLiteral(char c) {
+        if (c == '\\') {
+            return "'\\\\'";
+        } else if (c < 32 || c > 126) {
+            return String.format("'\\u%04x'", (int) c);
+        }
+        return "'" + c + "'";
+    }
+
+    /**
+     * A field of a date with a fixed width, with the range in which its value is accepted without the
+     * {@link SimpleDateFormat}.
+     */
+    private enum DateField {
+        YEAR('y', "year", "YEAR", 0, 9999),
+        MONTH('M', "month", "MONTH", 1, 12),
+        DAY('d', "day", "DAY_OF_MONTH", 1, 31),
+        HOUR('H', "hour", "HOUR_OF_DAY", 0, 23),
+        MINUTE('m', "minute", "MINUTE", 0, 59),
+        SECOND('s', "second", "SECOND", 0, 59),
+        MILLISECOND('S', "millisecond", "MILLISECOND", 0, 999);
+
+        private final char letter;
+        private final String name;
+        private final String calendarField;
+        private final int min;
+        private final int max;
+
+        DateField(char letter, String name, String calendarField, int min, int max) {
+            this.letter = letter;
+            this.name = name;
+            this.calendarField = calendarField;
+            this.min = min;
+            this.max = max;
+        }
+
+        /**
+         * Returns the field of the letter if it has a fixed width when repeated {@code count} times, which is 4 for
+         * years, at least 3 for milliseconds and 2 for the other fields.
+         */
+        private static DateField forLetter(char letter, int count) {
+            for (DateField field : values()) {
+                if (field.letter != letter) {
+                    continue;
+                }
+                if (field == YEAR ? count == 4 : field == MILLISECOND ? count >= 3 && count <= 9 : count == 2) {
+                    return field;
+                }
+            }
+            return null;
+        }
+    }
+
+    private static class Token {
+        private final DateField field;
+        private final String literal;
+        private final int count;
+
+        private Token(DateField field, String literal, int count) {
+            this.field = field;
+            this.literal = literal;
+            this.count = count;
+        }
+    }
+
+    private static class Persister {
+        private final ClassName className;
+        private final List<Token> tokens;
+        private final List<TableBindings> tables = new ArrayList<TableBindings>();
+
+        private Persister(ClassName className, List<Token> tokens) {
+            this.className = className;
+            this.tokens = tokens;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.db.H2DatabaseType;
+import com.j256.ormlite.db.PostgresDatabaseType;
+import com.j256.ormlite.db.SqliteAndroidDatabaseType;
+import com.j256.ormlite.db.SqliteDatabaseType;
+
+/**
+ * The databases the processor generates SQL for, of which one is chosen with the {@code ormlite.dialect} option. The
+ * generated classes have the same names for every dialect, so a build generates the code of a single dialect; use a
+ * separate module for every database the tables are used with.
+ */
+enum Dialect {
+    SQLITE_ANDROID("sqlite-android", "SELECT last_insert_rowid()"),
+    SQLITE("sqlite", "SELECT last_insert_rowid()"),
+    H2("h2", "CALL IDENTITY()"),
+    POSTGRES("postgres", null);
+
+    public static final String OPTION = "ormlite.dialect";
+
+    private final String optionValue;
+    private final String lastInsertIdQuery;
+
+    Dialect(String optionValue, String lastInsertIdQuery) {
+        this.optionValue = optionValue;
+        this.lastInsertIdQuery = lastInsertIdQuery;
+    }
+
+    public String getOptionValue() {
+        return optionValue;
+    }
+
+    /**
+     * Returns the query which returns the id the database generated for the last inserted row on the connection, or
+     * null if OrmLite gets a generated id from a sequence before inserting instead.
+     */
+    public String getLastInsertIdQuery() {
+        return lastInsertIdQuery;
+    }
+
+    /**
+     * Returns whether the database is SQLite, which declares generated ids with the column and assigns consecutive ids to
+     * the rows inserted by a statement.
+     */
+    public boolean isSqlite() {
+        return this == SQLITE_ANDROID || this == SQLITE;
+    }
+
+    public DatabaseType createDatabaseType() {
+        switch (this) {
+            case SQLITE:
+                return new SqliteDatabaseType();
+            case H2:
+                return new H2DatabaseType();
+            case POSTGRES:
+                return new PostgresDatabaseType();
+            default:
+                return new SqliteAndroidDatabaseType();
+        }
+    }
+
+    /**
+     * Returns the dialect of the value of the option, or null if there is none.
+     */
+    public static Dialect fromOptionValue(String optionValue) {
+        for (Dialect dialect : values()) {
+            if (dialect.optionValue.equals(optionValue)) {
+                return dialect;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,279 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.google.common.base.Joiner;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.field.types.EnumIntegerType;
+import com.j256.ormlite.field.types.EnumStringType;
+import com.j256.ormlite.field.types.VoidType;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates a persister for every enum which is stored by name or by ordinal in a table, to replace
+ * {@link EnumStringType} and {@link EnumIntegerType}. These build a map of all constants for every field when its DAO is
+ * created and look up every value in it, while the generated persisters use a {@code switch} on the name or an array
+ * indexed by the ordinal.
+ * <p>
+ * The persisters are generated in the package of the tables using them, as the enum itself may not be part of the
+ * sources, and are named after the enum: {@code Outer.Status} results in {@code Outer$Status$$EnumStringPersister}. The
+ * configuration of a field creates a persister with the {@code unknownEnumName} of the field, so the fallback doesn't
+ * have to be looked up while reading.
+ */
+class EnumPersisterGenerator extends Generator {
+    public static final String STRING_SUFFIX = "$$EnumStringPersister";
+    public static final String INTEGER_SUFFIX = "$$EnumIntegerPersister";
+
+    private final Map<ClassName, Persister> persisters = new LinkedHashMap<ClassName, Persister>();
+
+    public EnumPersisterGenerator(Types typeUtils, Elements elementUtils) {
+        super(typeUtils, elementUtils);
+    }
+
+    /**
+     * Finds the enum fields of all tables in this round, which is needed before the configuration of a table can refer
+     * to the persisters with {@link #getPersisterName}.
+     */
+    public void prepare(Iterable<TableBindings> tables) {
+        persisters.clear();
+        for (TableBindings table : tables) {
+            for (FieldBindings field : table.getColumnFields()) {
+                TypeElement enumElement = getEnumElement(table, field);
+                if (enumElement == null) {
+                    continue;
+                }
+                boolean integer = isInteger(table, field);
+                ClassName persisterName = getPersisterName(table, enumElement, integer);
+                Persister persister = persisters.get(persisterName);
+                if (persister == null) {
+                    persister = new Persister(enumElement, integer);
+                    persisters.put(persisterName, persister);
+                }
+                // enums with the same name in different packages can't share a persister, the second one uses OrmLite's
+                if (persister.enumElement.equals(enumElement) && !persister.tables.contains(table)) {
+                    persister.tables.add(table);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the name of the generated persister of the field or null if the field doesn't have one.
+     */
+    public ClassName getPersisterName(TableBindings table, FieldBindings field) {
+        TypeElement enumElement = getEnumElement(table, field);
+        if (enumElement == null) {
+            return null;
+        }
+        ClassName persisterName = getPersisterName(table, enumElement, isInteger(table, field));
+        Persister persister = persisters.get(persisterName);
+        return persister != null && persister.enumElement.equals(enumElement) ? persisterName : null;
+    }
+
+    /**
+     * Returns the generated persisters of all enum fields found by {@link #prepare}.
+     */
+    public List<JavaFile> generate() {
+        List<JavaFile> files = new ArrayList<JavaFile>(persisters.size());
+        for (Map.Entry<ClassName, Persister> entry : persisters.entrySet()) {
+            files.add(generate(entry.getKey(), entry.getValue()));
+        }
+        return files;
+    }
+
+    private JavaFile generate(ClassName persisterName, Persister persister) {
+        ClassName enumName = ClassName.get(persister.enumElement);
+
+        TypeSpec.Builder persisterBuilder = classBuilder(persisterName, persister.tables.get(0), null)
+                .superclass(persister.integer ? EnumIntegerType.class : EnumStringType.class);
+        for (TableBindings table : persister.tables.subList(1, persister.tables.size())) {
+            for (TypeElement element : table.getOriginatingElements()) {
+                persisterBuilder.addOriginatingElement(element);
+            }
+        }
+
+        persisterBuilder.addField(FieldSpec.builder(persisterName, "SINGLETON", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T(null)", persisterName)
+                .build());
+        if (persister.integer) {
+            persisterBuilder.addField(FieldSpec.builder(ArrayTypeName.of(enumName), "VALUES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$T.values()", enumName)
+                    .build());
+        }
+        persisterBuilder.addField(enumName, "unknownValue", Modifier.PRIVATE, Modifier.FINAL);
+
+        persisterBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("@param unknownValue The value of names or ordinals which aren't known, or null to use the one of the field.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(enumName, "unknownValue")
+                .addStatement("super($T.$L, new $T<?>[] { $T.class })", SqlType.class, persister.integer ? "INTEGER" : "STRING", Class.class, enumName)
+                .addStatement("this.unknownValue = unknownValue")
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("getSingleton")
+                .addJavadoc("Returns the persister which is used by {@code persisterClass}, which falls back to the {@code unknownEnumName} of the field.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(persisterName)
+                .addStatement("return SINGLETON")
+                .build());
+
+        persisterBuilder.addMethod(MethodSpec.methodBuilder("makeConfigObject")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(FieldType.class, "fieldType")
+                .addCode("// the values are looked up by generated code, so there is no map to build\n")
+                .addStatement("return null")
+                .build());
+
+        MethodSpec.Builder sqlArgToJavaBuilder = MethodSpec.methodBuilder("sqlArgToJava")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(Object.class)
+                .addParameter(FieldType.class, "fieldType")
+                .addParameter(Object.class, "sqlArg")
+                .addParameter(TypeName.INT, "columnPos")
+                .addException(SQLException.class)
+                .beginControlFlow("if (fieldType == null)")
+                .addStatement("return sqlArg")
+                .endControlFlow()
+                .addStatement("$T value = ($T) sqlArg", persister.integer ? TypeName.INT : ClassName.get(String.class), persister.integer ? ClassName.get(Integer.class) : ClassName.get(String.class))
+                .addStatement("$T result = toEnum(value)", enumName)
+                .beginControlFlow("if (result != null)")
+                .addStatement("return result")
+                .endControlFlow()
+                .beginControlFlow("if (unknownValue != null)")
+                .addStatement("return unknownValue")
+                .endControlFlow()
+                .addStatement("return enumVal(fieldType, value, null, fieldType.getUnknownEnumVal())");
+        persisterBuilder.addMethod(sqlArgToJavaBuilder.build());
+
+        MethodSpec.Builder toEnumBuilder = MethodSpec.methodBuilder("toEnum")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(enumName);
+        if (persister.integer) {
+            toEnumBuilder.addJavadoc("Returns the constant with the ordinal or null if there is none.\n")
+                    .addParameter(TypeName.INT, "ordinal")
+                    .beginControlFlow("if (ordinal >= 0 && ordinal < VALUES.length)")
+                    .addStatement("return VALUES[ordinal]")
+                    .endControlFlow()
+                    .addStatement("return null");
+        } else {
+            toEnumBuilder.addJavadoc("Returns the constant with the name or null if there is none.\n")
+                    .addParameter(String.class, "name")
+                    .beginControlFlow("switch (name)");
+            for (Element element : persister.enumElement.getEnclosedElements()) {
+                if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                    toEnumBuilder.addCode("case $S:\n$>", element.getSimpleName())
+                            .addStatement("return $T.$L", enumName, element.getSimpleName())
+                            .addCode("$<");
+                }
+            }
+            toEnumBuilder.addCode("default:\n$>")
+                    .addStatement("return null")
+                    .addCode("$<")
+                    .endControlFlow();
+        }
+        persisterBuilder.addMethod(toEnumBuilder.build());
+
+        return JavaFile.builder(persisterName.packageName(), persisterBuilder.build()).build();
+    }
+
+    /**
+     * Returns the enum of the field if it is stored by name or by ordinal with OrmLite's persister, or null otherwise.
+     */
+    private TypeElement getEnumElement(TableBindings table, FieldBindings field) {
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.isForeignCollection()) {
+            return null;
+        }
+        TypeElement persisterClass = field.getPersisterClass();
+        if (persisterClass != null && !persisterClass.getQualifiedName().contentEquals(VoidType.class.getName())) {
+            return null;
+        }
+        TypeMirror type = getFieldTypeMirror(table.getElement(), field.getElement());
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement typeElement = (TypeElement) ((DeclaredType) type).asElement();
+        if (typeElement.getKind() != ElementKind.ENUM || !isAccessible(typeElement, table.getClassName().packageName())) {
+            return null;
+        }
+        DataType dataType = DataTypes.resolve(field, type, elementUtils);
+        if (dataType != DataType.ENUM_STRING && dataType != DataType.ENUM_INTEGER) {
+            return null;
+        }
+        return typeElement;
+    }
+
+    private boolean isInteger(TableBindings table, FieldBindings field) {
+        return DataTypes.resolve(field, getFieldTypeMirror(table.getElement(), field.getElement()), elementUtils) == DataType.ENUM_INTEGER;
+    }
+
+    private static ClassName getPersisterName(TableBindings table, TypeElement enumElement, boolean integer) {
+        return ClassName.get(table.getClassName().packageName(),
+                Joiner.on('$').join(ClassName.get(enumElement).simpleNames()) + (integer ? INTEGER_SUFFIX : STRING_SUFFIX));
+    }
+
+    /**
+     * Returns whether the enum can be used by a class in the package, which needs the enum and the classes it is
+     * declared in to be public, or not private if they are in the same package.
+     */
+    private boolean isAccessible(TypeElement element, String packageName) {
+        boolean samePackage = elementUtils.getPackageOf(element).getQualifiedName().contentEquals(packageName);
+        for (Element e = element; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (samePackage ? e.getModifiers().contains(Modifier.PRIVATE) : !e.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Persister {
+        private final TypeElement enumElement;
+        private final boolean integer;
+        private final List<TableBindings> tables = new ArrayList<TableBindings>();
+
+        private Persister(TypeElement enumElement, boolean integer) {
+            this.enumElement = enumElement;
+            this.integer = integer;
+        }
+    }
+}
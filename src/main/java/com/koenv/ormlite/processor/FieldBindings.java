@@ -21,6 +21,7 @@ package com.koenv.ormlite.processor;
 import com.j256.ormlite.db.DatabaseType;
 import com.j256.ormlite.field.DataType;
 import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.field.FieldType;
 import com.j256.ormlite.field.ForeignCollectionField;
 
 import javax.annotation.processing.Messager;
@@ -46,6 +47,7 @@ public class FieldBindings {
     public static final boolean DEFAULT_CAN_BE_NULL = true;
     public static final boolean DEFAULT_FOREIGN_COLLECTION_ORDER_ASCENDING = true;
 
+    private VariableElement element;
     private String fieldName;
     private String columnName;
     private DataType dataType = DEFAULT_DATA_TYPE;
@@ -87,6 +89,13 @@ public class FieldBindings {
     public FieldBindings() {
     }
 
+    /**
+     * Return the element of the field in the class.
+     */
+    public VariableElement getElement() {
+        return element;
+    }
+
     /**
      * Return the name of the field in the class.
      */
@@ -101,6 +110,24 @@ public class FieldBindings {
         return columnName;
     }
 
+    /**
+     * Return the name of the column in the database. Just like OrmLite does, this defaults to the name of the field,
+     * with a suffix for foreign fields.
+     */
+    public String getEffectiveColumnName() {
+        if (columnName != null) {
+            return columnName;
+        }
+        if (foreign || foreignAutoRefresh || foreignColumnName != null) {
+            if (foreignColumnName == null) {
+                return fieldName + FieldType.FOREIGN_ID_FIELD_SUFFIX;
+            } else {
+                return fieldName + "_" + foreignColumnName;
+            }
+        }
+        return fieldName;
+    }
+
     /**
      * @see DatabaseField#dataType()
      */
@@ -184,16 +211,20 @@ public class FieldBindings {
         return uniqueCombo;
     }
 
+    /**
+     * Return the name of the index, which defaults to a name derived from the table. The default isn't saved, because
+     * the bindings of a base class are shared by all tables that extend it.
+     */
     public String getIndexName(String tableName) {
         if (index && indexName == null) {
-            indexName = findIndexName(tableName);
+            return findIndexName(tableName);
         }
         return indexName;
     }
 
     public String getUniqueIndexName(String tableName) {
         if (uniqueIndex && uniqueIndexName == null) {
-            uniqueIndexName = findIndexName(tableName);
+            return findIndexName(tableName);
         }
         return uniqueIndexName;
     }
@@ -268,6 +299,7 @@ public class FieldBindings {
 
     public static FieldBindings fromDatabaseField(DatabaseType databaseType, Element field, DatabaseField databaseField, Types typeUtils, Messager messager) {
         FieldBindings bindings = new FieldBindings();
+        bindings.element = (VariableElement) field;
         bindings.fieldName = field.getSimpleName().toString();
         if (databaseType.isEntityNamesMustBeUpCase()) {
             bindings.fieldName = bindings.fieldName.toUpperCase();
@@ -347,6 +379,7 @@ public class FieldBindings {
 
     public static FieldBindings fromForeignCollection(Element field, ForeignCollectionField foreignCollection) {
         FieldBindings bindings = new FieldBindings();
+        bindings.element = (VariableElement) field;
         bindings.fieldName = field.getSimpleName().toString();
         if (foreignCollection.columnName().length() > 0) {
             bindings.columnName = foreignCollection.columnName();
@@ -0,0 +1,271 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.DataType;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class of the generators of the classes that are generated next to every table class.
+ */
+abstract class Generator {
+    protected final Types typeUtils;
+    protected final Elements elementUtils;
+
+    protected Generator(Types typeUtils, Elements elementUtils) {
+        this.typeUtils = typeUtils;
+        this.elementUtils = elementUtils;
+    }
+
+    /**
+     * Returns the builder of a class generated for the table. The classes it is generated from are added as
+     * originating elements, so incremental compilation knows which generated files to remove when a class changes.
+     *
+     * @param tables All tables in this round, to add the tables of foreign fields as well, or null if the generated
+     *               class only depends on the table itself.
+     */
+    protected TypeSpec.Builder classBuilder(ClassName className, TableBindings table, Map<String, TableBindings> tables) {
+        TypeSpec.Builder builder = TypeSpec.classBuilder(className.simpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("Generated on $L\n", new SimpleDateFormat("yyyy/MM/dd hh:mm:ss").format(new Date()));
+        for (TypeElement element : table.getOriginatingElements()) {
+            builder.addOriginatingElement(element);
+        }
+        if (tables != null) {
+            for (FieldBindings field : table.getColumnFields()) {
+                if (!field.isForeign() && !field.isForeignAutoRefresh() && field.getForeignColumnName() == null) {
+                    continue;
+                }
+                TableBindings foreignTable = getForeignTable(getFieldTypeMirror(table.getElement(), field.getElement()), tables);
+                if (foreignTable != null && foreignTable != table) {
+                    for (TypeElement element : foreignTable.getOriginatingElements()) {
+                        builder.addOriginatingElement(element);
+                    }
+                }
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the type of the field as seen from the table class, so type variables declared by superclasses are
+     * resolved. Types that still contain type variables are erased.
+     */
+    protected TypeMirror getFieldTypeMirror(TypeElement element, VariableElement field) {
+        TypeMirror type = field.asType();
+        if (element.asType().getKind() == TypeKind.DECLARED) {
+            type = typeUtils.asMemberOf((DeclaredType) element.asType(), field);
+        }
+        if (containsTypeVariable(type)) {
+            type = typeUtils.erasure(type);
+        }
+        return type;
+    }
+
+    protected TypeName getFieldType(TypeElement element, VariableElement field) {
+        return TypeName.get(getFieldTypeMirror(element, field));
+    }
+
+    /**
+     * Returns the table of a foreign field, or null if the type of the field isn't one of the tables in this round or
+     * doesn't have an id field.
+     */
+    protected static TableBindings getForeignTable(TypeMirror type, Map<String, TableBindings> tables) {
+        if (type.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement foreignElement = (TypeElement) ((DeclaredType) type).asElement();
+        TableBindings foreignTable = tables.get(foreignElement.getQualifiedName().toString());
+        if (foreignTable == null || foreignTable.getIdField() == null) {
+            return null;
+        }
+        return foreignTable;
+    }
+
+    /**
+     * Returns the fields which OrmLite inserts, which are all columns except read-only fields and ids which are
+     * generated by the database.
+     */
+    protected List<FieldBindings> getCreateFields(TableBindings table) {
+        List<FieldBindings> createFields = new ArrayList<FieldBindings>();
+        for (FieldBindings field : table.getColumnFields()) {
+            if (field.isReadOnly()) {
+                continue;
+            }
+            if (field.isGeneratedId() && !isSelfGeneratedId(field, getFieldTypeMirror(table.getElement(), field.getElement()))) {
+                continue;
+            }
+            createFields.add(field);
+        }
+        return createFields;
+    }
+
+    /**
+     * Returns whether the id is generated by OrmLite instead of by the database, which is the case for UUIDs.
+     */
+    protected boolean isSelfGeneratedId(FieldBindings field, TypeMirror type) {
+        DataType dataType = DataTypes.resolve(field, type, elementUtils);
+        return dataType != null && dataType.getDataPersister().isSelfGeneratedId();
+    }
+
+    protected static boolean isLong(FieldBindings field) {
+        TypeMirror type = field.getElement().asType();
+        return type.getKind() == TypeKind.LONG || box(TypeName.get(type)).equals(ClassName.get(Long.class));
+    }
+
+    protected boolean hasVisibleNoArgConstructor(TypeElement element, PackageElement packageElement) {
+        if (element.getModifiers().contains(Modifier.ABSTRACT)) {
+            return false;
+        }
+        if (element.getNestingKind() == NestingKind.MEMBER && !element.getModifiers().contains(Modifier.STATIC)) {
+            return false;
+        }
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(element.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty()) {
+                return isVisible(constructor, packageElement);
+            }
+        }
+        return false;
+    }
+
+    protected ExecutableElement findGetter(VariableElement field, PackageElement packageElement) {
+        String name = capitalize(field.getSimpleName().toString());
+        ExecutableElement getter = findMethod(field, packageElement, "get" + name, false);
+        if (getter == null && field.asType().getKind() == TypeKind.BOOLEAN) {
+            getter = findMethod(field, packageElement, "is" + name, false);
+        }
+        return getter;
+    }
+
+    protected ExecutableElement findSetter(VariableElement field, PackageElement packageElement) {
+        return findMethod(field, packageElement, "set" + capitalize(field.getSimpleName().toString()), true);
+    }
+
+    private ExecutableElement findMethod(VariableElement field, PackageElement packageElement, String name, boolean setter) {
+        for (ExecutableElement method : ElementFilter.methodsIn(field.getEnclosingElement().getEnclosedElements())) {
+            if (!method.getSimpleName().contentEquals(name) || !isVisible(method, packageElement)) {
+                continue;
+            }
+            if (setter) {
+                if (method.getParameters().size() == 1 && typeUtils.isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                    return method;
+                }
+            } else if (method.getParameters().isEmpty() && typeUtils.isSameType(method.getReturnType(), field.asType())) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    protected boolean isVisible(Element member, PackageElement packageElement) {
+        if (member.getModifiers().contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return member.getModifiers().contains(Modifier.PUBLIC) || elementUtils.getPackageOf(member).equals(packageElement);
+    }
+
+    private static boolean containsTypeVariable(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return containsTypeVariable(((ArrayType) type).getComponentType());
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                return (wildcardType.getExtendsBound() != null && containsTypeVariable(wildcardType.getExtendsBound()))
+                        || (wildcardType.getSuperBound() != null && containsTypeVariable(wildcardType.getSuperBound()));
+            case DECLARED:
+                for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+                    if (containsTypeVariable(typeArgument)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    protected static TypeName box(TypeName type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type.equals(TypeName.BOOLEAN)) {
+            return ClassName.get(Boolean.class);
+        } else if (type.equals(TypeName.BYTE)) {
+            return ClassName.get(Byte.class);
+        } else if (type.equals(TypeName.SHORT)) {
+            return ClassName.get(Short.class);
+        } else if (type.equals(TypeName.INT)) {
+            return ClassName.get(Integer.class);
+        } else if (type.equals(TypeName.LONG)) {
+            return ClassName.get(Long.class);
+        } else if (type.equals(TypeName.CHAR)) {
+            return ClassName.get(Character.class);
+        } else if (type.equals(TypeName.FLOAT)) {
+            return ClassName.get(Float.class);
+        } else {
+            return ClassName.get(Double.class);
+        }
+    }
+
+    protected static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    protected static String toConstantName(String name) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(name.charAt(i - 1))) {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        return sb.toString();
+    }
+}
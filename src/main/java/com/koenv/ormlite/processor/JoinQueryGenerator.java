@@ -0,0 +1,470 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the {@code $$JoinQuery} class of a table with auto-refreshed foreign fields. OrmLite refreshes every
+ * auto-refreshed foreign object with a query of its own, so reading a single row can take as many queries as there are
+ * foreign objects up to the maximum level. The generated class reads the row and all of these foreign objects with a
+ * single {@code SELECT} which joins their tables.
+ * <p>
+ * The tables are joined in the same way OrmLite refreshes: the maximum level is taken from the auto-refreshed field of
+ * the table itself and foreign objects beyond it only get their id. Every table is joined with its own alias, so the
+ * same table can be joined more than once. A joined object is read from the columns of its own table and is null when
+ * no row is joined, as OrmLite's refresh leaves it, so the foreign id columns of joined fields are only used to join.
+ */
+class JoinQueryGenerator extends Generator {
+    public static final String SUFFIX = "$$JoinQuery";
+
+    /**
+     * The maximum number of tables SQLite allows in a join.
+     */
+    private static final int MAX_TABLES = 64;
+    /**
+     * The number of joined tables above which a warning is printed, because every row reads all of their columns.
+     */
+    private static final int MAX_JOINED_TABLES_WITHOUT_WARNING = 8;
+
+    private final DatabaseType databaseType;
+    private final Messager messager;
+    private final RowMapperGenerator rowMapperGenerator;
+
+    public JoinQueryGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Messager messager, RowMapperGenerator rowMapperGenerator) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.messager = messager;
+        this.rowMapperGenerator = rowMapperGenerator;
+    }
+
+    /**
+     * Returns the generated join query of the table or null if it doesn't have auto-refreshed foreign fields or if one
+     * of the joined fields can't be read by generated code.
+     *
+     * @param tables All tables in this round by their qualified name, used to find the tables of foreign fields.
+     */
+    public JavaFile generate(TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName queryName = table.getGeneratedClassName(SUFFIX);
+
+        boolean hasJoins = false;
+        for (FieldBindings field : table.getColumnFields()) {
+            hasJoins |= getJoinedTable(table, field, tables) != null;
+        }
+        if (!hasJoins) {
+            return null;
+        }
+
+        String cycle = findCycle(table, tables, new ArrayList<TableBindings>(), new ArrayList<FieldBindings>());
+        if (cycle != null) {
+            messager.printMessage(
+                    Diagnostic.Kind.WARNING,
+                    String.format("The auto-refreshed foreign fields of %s form a cycle (%s), so the same tables are read again until the maximum level of auto-refreshing is reached", modelName, cycle),
+                    table.getElement()
+            );
+        }
+
+        List<Node> nodes = new ArrayList<Node>();
+        Node root = new Node(table, null, null, 0, 0);
+        nodes.add(root);
+        if (!addJoinedNodes(root, tables, nodes)) {
+            messager.printMessage(
+                    Diagnostic.Kind.NOTE,
+                    String.format("No join query is generated for %s, because its auto-refreshed foreign fields need more than %d tables", modelName, MAX_TABLES),
+                    table.getElement()
+            );
+            return null;
+        }
+        if (nodes.size() - 1 > MAX_JOINED_TABLES_WITHOUT_WARNING) {
+            messager.printMessage(
+                    Diagnostic.Kind.WARNING,
+                    String.format("The join query of %s joins %d tables for its auto-refreshed foreign fields, consider lowering maxForeignAutoRefreshLevel", modelName, nodes.size() - 1),
+                    table.getElement()
+            );
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT ");
+        int column = 0;
+        for (Node node : nodes) {
+            for (FieldBindings field : node.table.getColumnFields()) {
+                if (node.joined.containsKey(field)) {
+                    continue;
+                }
+                if (column > 0) {
+                    sb.append(", ");
+                }
+                appendColumnName(sb, node, field);
+                node.columns.put(field, column++);
+            }
+        }
+        sb.append(" FROM ");
+        databaseType.appendEscapedEntityName(sb, table.getTableName());
+        sb.append(' ').append(root.getAlias());
+        for (Node node : nodes) {
+            if (node.parent == null) {
+                continue;
+            }
+            sb.append(" LEFT JOIN ");
+            databaseType.appendEscapedEntityName(sb, node.table.getTableName());
+            sb.append(' ').append(node.getAlias()).append(" ON ");
+            appendColumnName(sb, node, node.table.getIdField());
+            sb.append(" = ");
+            appendColumnName(sb, node.parent, node.field);
+        }
+        String select = sb.toString();
+
+        TypeSpec.Builder queryBuilder = classBuilder(queryName, table, tables)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(GenericRowMapper.class), modelName));
+
+        List<MethodSpec> mapMethods = new ArrayList<MethodSpec>();
+        for (Node node : nodes) {
+            MethodSpec mapMethod = mapNode(node, tables, queryBuilder);
+            if (mapMethod == null) {
+                return null;
+            }
+            mapMethods.add(mapMethod);
+        }
+
+        queryBuilder.addField(FieldSpec.builder(String.class, "SELECT", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Selects the columns of the table and of all joined tables, which are read by {@link #mapRow}.\n")
+                .initializer("$S", select)
+                .build());
+
+        FieldBindings idField = table.getIdField();
+        TypeMirror idTypeMirror = idField == null ? null : getFieldTypeMirror(table.getElement(), idField.getElement());
+        TypeName idType = idTypeMirror == null ? null : box(TypeName.get(idTypeMirror));
+        DataType idDataType = idField == null ? null : DataTypes.resolve(idField, idTypeMirror, elementUtils);
+        boolean canQueryForId = idDataType != null && (idType.equals(ClassName.get(Integer.class))
+                || idType.equals(ClassName.get(Long.class)) || idType.equals(ClassName.get(String.class)));
+        if (canQueryForId) {
+            sb = new StringBuilder();
+            sb.append(select).append(" WHERE ");
+            appendColumnName(sb, root, idField);
+            sb.append(" = ?");
+            queryBuilder.addField(FieldSpec.builder(String.class, "SELECT_BY_ID", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", sb.toString())
+                    .build());
+        }
+
+        queryBuilder.addField(FieldSpec.builder(queryName, "ROW_MAPPER", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Reads the rows of {@link #SELECT}, of which the columns are always at the same positions.\n")
+                .initializer("new $T()", queryName)
+                .build());
+        queryBuilder.addField(FieldSpec.builder(FieldType[].class, "NO_FIELD_TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[0]", FieldType.class)
+                .build());
+        queryBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        if (canQueryForId) {
+            SqlType idSqlType = databaseType.getFieldConverter(idDataType.getDataPersister()).getSqlType();
+            MethodSpec.Builder queryForIdBuilder = queryMethodBuilder("queryForId", modelName, "SELECT_BY_ID")
+                    .addJavadoc("Returns the object with the id and its auto-refreshed foreign objects or null if there is none.\n")
+                    .addParameter(idType, "id")
+                    .addStatement("statement.setObject(0, id, $T.$L)", SqlType.class, idSqlType)
+                    .addStatement("$T results = statement.runQuery(null)", DatabaseResults.class)
+                    .beginControlFlow("try")
+                    .beginControlFlow("if (!results.first())")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("return ROW_MAPPER.mapRow(results)")
+                    .addCode("$<} finally {\n$>")
+                    .addStatement("results.close()")
+                    .endControlFlow();
+            endQuery(queryForIdBuilder);
+            queryBuilder.addMethod(queryForIdBuilder.build());
+        }
+
+        TypeName listOfModels = ParameterizedTypeName.get(ClassName.get(List.class), modelName);
+        MethodSpec.Builder queryForAllBuilder = queryMethodBuilder("queryForAll", listOfModels, "SELECT")
+                .addJavadoc("Returns all objects with their auto-refreshed foreign objects.\n")
+                .addStatement("$T results = statement.runQuery(null)", DatabaseResults.class)
+                .beginControlFlow("try")
+                .addStatement("$T list = new $T()", listOfModels, ParameterizedTypeName.get(ClassName.get(ArrayList.class), modelName))
+                .beginControlFlow("if (results.first())")
+                .beginControlFlow("do")
+                .addStatement("list.add(ROW_MAPPER.mapRow(results))")
+                .endControlFlow("while (results.next())")
+                .endControlFlow()
+                .addStatement("return list")
+                .addCode("$<} finally {\n$>")
+                .addStatement("results.close()")
+                .endControlFlow();
+        endQuery(queryForAllBuilder);
+        queryBuilder.addMethod(queryForAllBuilder.build());
+
+        for (MethodSpec mapMethod : mapMethods) {
+            queryBuilder.addMethod(mapMethod);
+        }
+
+        return JavaFile.builder(queryName.packageName(), queryBuilder.build()).build();
+    }
+
+    /**
+     * Adds a node for every foreign object of the node which is refreshed, and for the foreign objects of these nodes.
+     * Returns false if more tables would be joined than allowed.
+     */
+    private boolean addJoinedNodes(Node node, Map<String, TableBindings> tables, List<Node> nodes) {
+        for (FieldBindings field : node.table.getColumnFields()) {
+            TableBindings foreignTable = getJoinedTable(node.table, field, tables);
+            if (foreignTable == null) {
+                continue;
+            }
+            // like OrmLite, the maximum level of the field which started refreshing is used for all levels below it
+            int maxLevel = node.parent == null ? getMaxLevel(field) : node.maxLevel;
+            if (node.level >= maxLevel) {
+                continue;
+            }
+            if (nodes.size() == MAX_TABLES) {
+                return false;
+            }
+            Node joined = new Node(foreignTable, node, field, node.level + 1, maxLevel);
+            joined.index = nodes.size();
+            node.joined.put(field, joined);
+            nodes.add(joined);
+            if (!addJoinedNodes(joined, tables, nodes)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the method which reads the object of the node and the objects joined to it, which is {@code mapRow} for
+     * the table itself. Returns null if one of the fields can't be read by generated code.
+     */
+    private MethodSpec mapNode(Node node, Map<String, TableBindings> tables, TypeSpec.Builder queryBuilder) {
+        ClassName modelName = node.table.getClassName();
+        ClassName accessorName = node.table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        String helperPrefix = node.parent == null ? "" : capitalize(node.getAlias());
+        List<FieldBindings> columnFields = node.table.getColumnFields();
+        FieldBindings idField = node.table.getIdField();
+
+        MethodSpec.Builder builder;
+        if (node.parent == null) {
+            builder = MethodSpec.methodBuilder("mapRow")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC);
+        } else {
+            builder = MethodSpec.methodBuilder(node.getMethodName())
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC);
+        }
+        builder.returns(modelName)
+                .addParameter(DatabaseResults.class, "results")
+                .addException(SQLException.class);
+
+        if (node.parent != null) {
+            // the joined row is missing when the foreign id is null or when there is no row with the foreign id
+            String idName = idField.getElement().getSimpleName().toString();
+            TypeMirror idTypeMirror = getFieldTypeMirror(node.table.getElement(), idField.getElement());
+            TypeName idType = box(TypeName.get(idTypeMirror));
+            CodeBlock.Builder code = CodeBlock.builder();
+            CodeBlock idValue = rowMapperGenerator.readValue(idField, idTypeMirror, idType, idName, String.valueOf(node.columns.get(idField)),
+                    helperPrefix, queryBuilder, code);
+            if (idValue == null) {
+                note(node, idField);
+                return null;
+            }
+            builder.addCode(code.build())
+                    .addStatement("$T id = $L", idType, idValue)
+                    .beginControlFlow("if (id == null)")
+                    .addStatement("return null")
+                    .endControlFlow()
+                    .addStatement("$T model = $T.newInstance()", modelName, accessorName)
+                    .addStatement("$T.set$L(model, id)", accessorName, capitalize(idName));
+        } else {
+            builder.addStatement("$T model = $T.newInstance()", modelName, accessorName);
+        }
+
+        for (int i = 0; i < columnFields.size(); i++) {
+            FieldBindings field = columnFields.get(i);
+            if (node.parent != null && field == idField) {
+                continue;
+            }
+            Node joined = node.joined.get(field);
+            String column = String.valueOf(node.columns.get(field));
+            CodeBlock code;
+            if (joined != null) {
+                code = CodeBlock.builder()
+                        .addStatement("$T.set$L(model, $L(results))", accessorName, capitalize(field.getElement().getSimpleName().toString()), joined.getMethodName())
+                        .build();
+            } else if (getJoinedTable(node.table, field, tables) != null) {
+                // beyond the maximum level, OrmLite only sets the id of the foreign object
+                code = rowMapperGenerator.readForeignId(node.table, field, getJoinedTable(node.table, field, tables), column, helperPrefix, queryBuilder);
+            } else {
+                code = rowMapperGenerator.readField(node.table, field, column, tables, helperPrefix, queryBuilder);
+            }
+            if (code == null) {
+                note(node, field);
+                return null;
+            }
+            builder.addCode(code);
+        }
+
+        return builder.addStatement("return model").build();
+    }
+
+    /**
+     * Returns a path of auto-refreshed foreign fields which leads from the first table on the path back to itself, or
+     * null if there is none. Cycles which don't contain the first table are reported for the tables on them instead.
+     */
+    private String findCycle(TableBindings table, Map<String, TableBindings> tables, List<TableBindings> path, List<FieldBindings> pathFields) {
+        int start = path.indexOf(table);
+        if (start > 0) {
+            return null;
+        } else if (start == 0) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < path.size(); i++) {
+                sb.append(path.get(i).getClassName().simpleName()).append('.').append(pathFields.get(i).getFieldName()).append(" -> ");
+            }
+            return sb.append(table.getClassName().simpleName()).toString();
+        }
+        path.add(table);
+        for (FieldBindings field : table.getColumnFields()) {
+            TableBindings foreignTable = getJoinedTable(table, field, tables);
+            if (foreignTable == null) {
+                continue;
+            }
+            pathFields.add(field);
+            String cycle = findCycle(foreignTable, tables, path, pathFields);
+            pathFields.remove(pathFields.size() - 1);
+            if (cycle != null) {
+                return cycle;
+            }
+        }
+        path.remove(path.size() - 1);
+        return null;
+    }
+
+    /**
+     * Returns the table of the field if it is an auto-refreshed foreign field which can be joined on the id of the
+     * foreign table, or null otherwise.
+     */
+    private TableBindings getJoinedTable(TableBindings table, FieldBindings field, Map<String, TableBindings> tables) {
+        if (!field.isForeignAutoRefresh() || field.getForeignColumnName() != null) {
+            return null;
+        }
+        return getForeignTable(getFieldTypeMirror(table.getElement(), field.getElement()), tables);
+    }
+
+    private static int getMaxLevel(FieldBindings field) {
+        int maxLevel = field.getMaxForeignAutoRefreshLevel();
+        return maxLevel == DatabaseField.NO_MAX_FOREIGN_AUTO_REFRESH_LEVEL_SPECIFIED ? DatabaseField.DEFAULT_MAX_FOREIGN_AUTO_REFRESH_LEVEL : maxLevel;
+    }
+
+    private void appendColumnName(StringBuilder sb, Node node, FieldBindings field) {
+        sb.append(node.getAlias()).append('.');
+        databaseType.appendEscapedEntityName(sb, field.getEffectiveColumnName());
+    }
+
+    private static MethodSpec.Builder queryMethodBuilder(String name, TypeName returnType, String sql) {
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(returnType)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addException(SQLException.class)
+                .addStatement("$T connection = connectionSource.getReadOnlyConnection()", DatabaseConnection.class)
+                .beginControlFlow("try")
+                .addStatement("$T statement = connection.compileStatement($L, $T.SELECT, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                        CompiledStatement.class, sql, StatementBuilder.StatementType.class, DatabaseConnection.class)
+                .beginControlFlow("try");
+    }
+
+    private static void endQuery(MethodSpec.Builder builder) {
+        builder.addCode("$<} finally {\n$>")
+                .addStatement("statement.close()")
+                .endControlFlow()
+                .addCode("$<} finally {\n$>")
+                .addStatement("connectionSource.releaseConnection(connection)")
+                .endControlFlow();
+    }
+
+    private void note(Node node, FieldBindings field) {
+        Node root = node;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                String.format("No join query is generated for %s, because field %s of %s can't be read by generated code", root.table.getClassName(), field.getFieldName(), node.table.getClassName()),
+                root.table.getElement()
+        );
+    }
+
+    /**
+     * A table in the join, with the field of the table it is joined to.
+     */
+    private static class Node {
+        private final TableBindings table;
+        private final Node parent;
+        private final FieldBindings field;
+        private final int level;
+        private final int maxLevel;
+        private final Map<FieldBindings, Node> joined = new HashMap<FieldBindings, Node>();
+        private final Map<FieldBindings, Integer> columns = new HashMap<FieldBindings, Integer>();
+        private int index;
+
+        private Node(TableBindings table, Node parent, FieldBindings field, int level, int maxLevel) {
+            this.table = table;
+            this.parent = parent;
+            this.field = field;
+            this.level = level;
+            this.maxLevel = maxLevel;
+        }
+
+        private String getAlias() {
+            return "t" + index;
+        }
+
+        private String getMethodName() {
+            return "mapT" + index;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.dao.ObjectCache;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates the {@code $$ObjectCache} class of a table with an {@code int} or {@code long} id, which is an
+ * {@link ObjectCache} for only that table. Instead of boxed ids in a map per class, the ids are kept in a primitive
+ * array of an open-addressing hash table with linear probing, so looking up an object doesn't allocate.
+ * <p>
+ * The entries are also linked in the order in which they were used, so the least recently used object can be removed
+ * when the cache is bounded by {@link IdCache#maxSize()}. Removed entries are filled by shifting the entries after them
+ * back instead of leaving tombstones, which would slow down later lookups.
+ */
+class ObjectCacheGenerator extends Generator {
+    public static final String SUFFIX = "$$ObjectCache";
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Messager messager;
+
+    public ObjectCacheGenerator(Types typeUtils, Elements elementUtils, Messager messager) {
+        super(typeUtils, elementUtils);
+        this.messager = messager;
+    }
+
+    /**
+     * Returns the generated object cache of the table or null if the table doesn't have an {@code int} or {@code long}
+     * id.
+     */
+    public JavaFile generate(TableBindings table) {
+        ClassName modelName = table.getClassName();
+        IdCache idCache = table.getElement().getAnnotation(IdCache.class);
+
+        FieldBindings idField = table.getIdField();
+        TypeName idType = idField == null ? null : box(getFieldType(table.getElement(), idField.getElement()));
+        TypeName keyType;
+        if (ClassName.get(Long.class).equals(idType)) {
+            keyType = TypeName.LONG;
+        } else if (ClassName.get(Integer.class).equals(idType)) {
+            keyType = TypeName.INT;
+        } else {
+            if (idCache != null) {
+                messager.printMessage(
+                        Diagnostic.Kind.WARNING,
+                        String.format("No object cache is generated for %s, because it doesn't have an int or long id", modelName),
+                        table.getElement()
+                );
+            }
+            return null;
+        }
+        if (idCache != null && idCache.maxSize() < 0) {
+            messager.printMessage(
+                    Diagnostic.Kind.ERROR,
+                    String.format("The maxSize of %s must be 0 or positive", IdCache.class.getSimpleName()),
+                    table.getElement()
+            );
+            return null;
+        }
+
+        ClassName objectCacheName = table.getGeneratedClassName(SUFFIX);
+        TypeName keysType = ArrayTypeName.of(keyType);
+        TypeVariableName t = TypeVariableName.get("T");
+        TypeVariableName id = TypeVariableName.get("ID");
+        TypeName classOfT = ParameterizedTypeName.get(ClassName.get(Class.class), t);
+        AnnotationSpec unchecked = AnnotationSpec.builder(SuppressWarnings.class).addMember("value", "$S", "unchecked").build();
+
+        TypeSpec.Builder objectCacheBuilder = classBuilder(objectCacheName, table, null)
+                .addSuperinterface(ObjectCache.class);
+
+        objectCacheBuilder.addField(FieldSpec.builder(TypeName.INT, "MAX_SIZE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The maximum number of objects of the cache created by the constructor without arguments, or 0 if it is unbounded.\n")
+                .initializer("$L", idCache == null ? 0 : idCache.maxSize())
+                .build());
+        objectCacheBuilder.addField(FieldSpec.builder(TypeName.INT, "NONE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("-1")
+                .build());
+        objectCacheBuilder.addField(TypeName.INT, "maxSize", Modifier.PRIVATE, Modifier.FINAL);
+        objectCacheBuilder.addField(keysType, "keys", Modifier.PRIVATE);
+        objectCacheBuilder.addField(Object[].class, "values", Modifier.PRIVATE);
+        objectCacheBuilder.addField(int[].class, "before", Modifier.PRIVATE);
+        objectCacheBuilder.addField(int[].class, "after", Modifier.PRIVATE);
+        objectCacheBuilder.addField(FieldSpec.builder(TypeName.INT, "eldest", Modifier.PRIVATE).initializer("NONE").build());
+        objectCacheBuilder.addField(FieldSpec.builder(TypeName.INT, "newest", Modifier.PRIVATE).initializer("NONE").build());
+        objectCacheBuilder.addField(TypeName.INT, "size", Modifier.PRIVATE);
+
+        objectCacheBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("this(MAX_SIZE)")
+                .build());
+        objectCacheBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(TypeName.INT, "maxSize")
+                .beginControlFlow("if (maxSize < 0)")
+                .addStatement("throw new $T($S + maxSize)", IllegalArgumentException.class, "maxSize must be 0 or positive: ")
+                .endControlFlow()
+                .addStatement("this.maxSize = maxSize")
+                .addStatement("allocate($L)", INITIAL_CAPACITY)
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("registerClass")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addTypeVariable(t)
+                .addParameter(classOfT, "clazz")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("get")
+                .addAnnotation(Override.class)
+                .addAnnotation(unchecked)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .addTypeVariable(t)
+                .addTypeVariable(id)
+                .returns(t)
+                .addParameter(classOfT, "clazz")
+                .addParameter(id, "id")
+                .beginControlFlow("if (clazz != $T.class || id == null)", modelName)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("int index = indexOf(toKey(id))")
+                .beginControlFlow("if (index == NONE)")
+                .addStatement("return null")
+                .endControlFlow()
+                .beginControlFlow("if (maxSize > 0)")
+                .addStatement("unlink(index)")
+                .addStatement("linkNewest(index)")
+                .endControlFlow()
+                .addStatement("return (T) values[index]")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("put")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .addTypeVariable(t)
+                .addTypeVariable(id)
+                .addParameter(classOfT, "clazz")
+                .addParameter(id, "id")
+                .addParameter(t, "data")
+                .beginControlFlow("if (clazz == $T.class && id != null && data != null)", modelName)
+                .addStatement("insert(toKey(id), data)")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("remove")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .addTypeVariable(t)
+                .addTypeVariable(id)
+                .addParameter(classOfT, "clazz")
+                .addParameter(id, "id")
+                .beginControlFlow("if (clazz != $T.class || id == null)", modelName)
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("int index = indexOf(toKey(id))")
+                .beginControlFlow("if (index != NONE)")
+                .addStatement("removeAt(index)")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("updateId")
+                .addAnnotation(Override.class)
+                .addAnnotation(unchecked)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .addTypeVariable(t)
+                .addTypeVariable(id)
+                .returns(t)
+                .addParameter(classOfT, "clazz")
+                .addParameter(id, "oldId")
+                .addParameter(id, "newId")
+                .beginControlFlow("if (clazz != $T.class || oldId == null || newId == null)", modelName)
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("int index = indexOf(toKey(oldId))")
+                .beginControlFlow("if (index == NONE)")
+                .addStatement("return null")
+                .endControlFlow()
+                .addStatement("Object data = values[index]")
+                .addStatement("removeAt(index)")
+                .addStatement("insert(toKey(newId), data)")
+                .addStatement("return (T) data")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("clear")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addTypeVariable(t)
+                .addParameter(classOfT, "clazz")
+                .beginControlFlow("if (clazz == $T.class)", modelName)
+                .addStatement("clearAll()")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("clearAll")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .addStatement("allocate($L)", INITIAL_CAPACITY)
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("size")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addTypeVariable(t)
+                .returns(TypeName.INT)
+                .addParameter(classOfT, "clazz")
+                .addStatement("return clazz == $T.class ? sizeAll() : 0", modelName)
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("sizeAll")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .returns(TypeName.INT)
+                .addStatement("return size")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("toKey")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(keyType)
+                .addParameter(Object.class, "id")
+                .addStatement("return (($T) id).$LValue()", Number.class, keyType)
+                .build());
+
+        CodeBlock.Builder hash = CodeBlock.builder();
+        if (keyType.equals(TypeName.LONG)) {
+            hash.addStatement("int h = (int) (key ^ (key >>> 32)) * 0x9E3779B9");
+        } else {
+            hash.addStatement("int h = key * 0x9E3779B9");
+        }
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("hash")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(keyType, "key")
+                .addCode(hash.build())
+                .addStatement("return h ^ (h >>> 16)")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("allocate")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(TypeName.INT, "capacity")
+                .addStatement("keys = new $T[capacity]", keyType)
+                .addStatement("values = new Object[capacity]")
+                .addStatement("before = new int[capacity]")
+                .addStatement("after = new int[capacity]")
+                .addStatement("eldest = NONE")
+                .addStatement("newest = NONE")
+                .addStatement("size = 0")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("indexOf")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(TypeName.INT)
+                .addParameter(keyType, "key")
+                .addStatement("int mask = keys.length - 1")
+                .addStatement("int index = hash(key) & mask")
+                .beginControlFlow("while (values[index] != null)")
+                .beginControlFlow("if (keys[index] == key)")
+                .addStatement("return index")
+                .endControlFlow()
+                .addStatement("index = (index + 1) & mask")
+                .endControlFlow()
+                .addStatement("return NONE")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("insert")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(keyType, "key")
+                .addParameter(Object.class, "value")
+                .addStatement("int index = indexOf(key)")
+                .beginControlFlow("if (index != NONE)")
+                .addStatement("values[index] = value")
+                .addStatement("unlink(index)")
+                .addStatement("linkNewest(index)")
+                .addStatement("return")
+                .endControlFlow()
+                .addStatement("place(key, value)")
+                .beginControlFlow("if (maxSize > 0 && size > maxSize)")
+                .addStatement("removeAt(eldest)")
+                .endControlFlow()
+                .beginControlFlow("if (size * 2 > keys.length)")
+                .addStatement("resize(keys.length * 2)")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("place")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(keyType, "key")
+                .addParameter(Object.class, "value")
+                .addStatement("int mask = keys.length - 1")
+                .addStatement("int index = hash(key) & mask")
+                .beginControlFlow("while (values[index] != null)")
+                .addStatement("index = (index + 1) & mask")
+                .endControlFlow()
+                .addStatement("keys[index] = key")
+                .addStatement("values[index] = value")
+                .addStatement("linkNewest(index)")
+                .addStatement("size++")
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("resize")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(TypeName.INT, "capacity")
+                .addStatement("$T oldKeys = keys", keysType)
+                .addStatement("Object[] oldValues = values")
+                .addStatement("int[] oldAfter = after")
+                .addStatement("int index = eldest")
+                .addStatement("allocate(capacity)")
+                .addCode("// placing the entries from eldest to newest keeps the order in which they were used\n")
+                .beginControlFlow("while (index != NONE)")
+                .addStatement("place(oldKeys[index], oldValues[index])")
+                .addStatement("index = oldAfter[index]")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("removeAt")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(TypeName.INT, "index")
+                .addStatement("unlink(index)")
+                .addStatement("values[index] = null")
+                .addStatement("size--")
+                .addStatement("int mask = keys.length - 1")
+                .addStatement("int hole = index")
+                .addStatement("int next = (hole + 1) & mask")
+                .beginControlFlow("while (values[next] != null)")
+                .addStatement("int home = hash(keys[next]) & mask")
+                .addCode("// an entry can fill the hole if the hole lies between its home slot and its current slot\n")
+                .beginControlFlow("if (((next - home) & mask) >= ((next - hole) & mask))")
+                .addStatement("move(next, hole)")
+                .addStatement("hole = next")
+                .endControlFlow()
+                .addStatement("next = (next + 1) & mask")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("move")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(TypeName.INT, "from")
+                .addParameter(TypeName.INT, "to")
+                .addStatement("keys[to] = keys[from]")
+                .addStatement("values[to] = values[from]")
+                .addStatement("values[from] = null")
+                .addStatement("before[to] = before[from]")
+                .addStatement("after[to] = after[from]")
+                .beginControlFlow("if (before[to] == NONE)")
+                .addStatement("eldest = to")
+                .addCode("$<} else {\n$>")
+                .addStatement("after[before[to]] = to")
+                .endControlFlow()
+                .beginControlFlow("if (after[to] == NONE)")
+                .addStatement("newest = to")
+                .addCode("$<} else {\n$>")
+                .addStatement("before[after[to]] = to")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("unlink")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(TypeName.INT, "index")
+                .beginControlFlow("if (before[index] == NONE)")
+                .addStatement("eldest = after[index]")
+                .addCode("$<} else {\n$>")
+                .addStatement("after[before[index]] = after[index]")
+                .endControlFlow()
+                .beginControlFlow("if (after[index] == NONE)")
+                .addStatement("newest = before[index]")
+                .addCode("$<} else {\n$>")
+                .addStatement("before[after[index]] = before[index]")
+                .endControlFlow()
+                .build());
+
+        objectCacheBuilder.addMethod(MethodSpec.methodBuilder("linkNewest")
+                .addModifiers(Modifier.PRIVATE)
+                .addParameter(TypeName.INT, "index")
+                .addStatement("before[index] = newest")
+                .addStatement("after[index] = NONE")
+                .beginControlFlow("if (newest == NONE)")
+                .addStatement("eldest = index")
+                .addCode("$<} else {\n$>")
+                .addStatement("after[newest] = index")
+                .endControlFlow()
+                .addStatement("newest = index")
+                .build());
+
+        return JavaFile.builder(objectCacheName.packageName(), objectCacheBuilder.build()).build();
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keeps track of how long processing every table takes and how many files are generated for it during a round. The
+ * processor prints the report when the {@code ormlite.stats} option is set to {@code true}.
+ */
+final class ProcessingStats {
+    public static final String OPTION = "ormlite.stats";
+
+    private final long start = System.nanoTime();
+    private final Map<String, Entry> entries = new LinkedHashMap<String, Entry>();
+    private int sharedFileCount;
+
+    /**
+     * Adds time spent on the table with the given qualified name, which may be measured in multiple steps.
+     */
+    public void addTime(String tableName, long durationNanos) {
+        getEntry(tableName).durationNanos += durationNanos;
+    }
+
+    /**
+     * Counts a generated file of the table with the given qualified name, or a file shared by all tables if it is null.
+     */
+    public void addFile(String tableName) {
+        if (tableName == null) {
+            sharedFileCount++;
+        } else {
+            getEntry(tableName).fileCount++;
+        }
+    }
+
+    /**
+     * Returns the report of the round, with the tables which took the longest first.
+     */
+    public String getReport() {
+        List<Entry> sortedEntries = new ArrayList<Entry>(entries.values());
+        Collections.sort(sortedEntries, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry lhs, Entry rhs) {
+                return lhs.durationNanos < rhs.durationNanos ? 1 : (lhs.durationNanos == rhs.durationNanos ? 0 : -1);
+            }
+        });
+        int fileCount = sharedFileCount;
+        for (Entry entry : sortedEntries) {
+            fileCount += entry.fileCount;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.US, "OrmLite processor: %d tables in %.1f ms, %d files generated",
+                sortedEntries.size(), toMillis(System.nanoTime() - start), fileCount));
+        for (Entry entry : sortedEntries) {
+            sb.append(String.format(Locale.US, "\n  %s: %.1f ms, %d files", entry.tableName, toMillis(entry.durationNanos), entry.fileCount));
+        }
+        if (sharedFileCount > 0) {
+            sb.append(String.format(Locale.US, "\n  shared by all tables: %d files", sharedFileCount));
+        }
+        return sb.toString();
+    }
+
+    private Entry getEntry(String tableName) {
+        Entry entry = entries.get(tableName);
+        if (entry == null) {
+            entry = new Entry(tableName);
+            entries.put(tableName, entry);
+        }
+        return entry;
+    }
+
+    private static double toMillis(long durationNanos) {
+        return durationNanos / 1000000.0;
+    }
+
+    private static final class Entry {
+        private final String tableName;
+        private long durationNanos;
+        private int fileCount;
+
+        private Entry(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+}
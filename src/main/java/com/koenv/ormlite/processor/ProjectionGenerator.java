@@ -0,0 +1,288 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.google.common.base.Joiner;
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the {@code $$Projection} class of a class annotated with {@link Projection}, a {@link GenericRowMapper}
+ * which reads only the columns of the fields of the projection, and the {@code SELECT} statement of these columns.
+ * <p>
+ * The columns are read the same way as the {@code $$RowMapper} of the table reads them, but are assigned to the fields
+ * of the projection directly or through their setter.
+ */
+class ProjectionGenerator extends Generator {
+    public static final String SUFFIX = "$$Projection";
+
+    private static final ClassName STATEMENT_TYPE = ClassName.get(StatementBuilder.StatementType.class);
+
+    private final DatabaseType databaseType;
+    private final Messager messager;
+    private final RowMapperGenerator rowMapperGenerator;
+
+    public ProjectionGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Messager messager, RowMapperGenerator rowMapperGenerator) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.messager = messager;
+        this.rowMapperGenerator = rowMapperGenerator;
+    }
+
+    /**
+     * Returns the generated class of the projection or null if one of its fields can't be read, in which case an error
+     * has been printed.
+     *
+     * @param table  The table of which the projection reads the columns.
+     * @param tables All tables in this round by their qualified name, used to read the ids of foreign fields.
+     */
+    public JavaFile generate(TypeElement element, TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = ClassName.get(element);
+        ClassName projectionName = ClassName.get(modelName.packageName(), Joiner.on('$').join(modelName.simpleNames()) + SUFFIX);
+        PackageElement packageElement = elementUtils.getPackageOf(element);
+
+        if (!hasVisibleNoArgConstructor(element, packageElement)) {
+            error(element, "Projection %s needs a no-arg constructor which is visible from its package", modelName);
+            return null;
+        }
+
+        TypeSpec.Builder projectionBuilder = classBuilder(projectionName, table, tables)
+                .addOriginatingElement(element)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(GenericRowMapper.class), modelName));
+
+        MethodSpec.Builder mapRowBuilder = MethodSpec.methodBuilder("mapRow")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(modelName)
+                .addParameter(DatabaseResults.class, "results")
+                .addException(SQLException.class)
+                .addStatement("$T model = new $T()", modelName, modelName);
+
+        List<FieldBindings> columnFields = new ArrayList<FieldBindings>();
+        StringBuilder select = new StringBuilder("SELECT ");
+        for (VariableElement fieldElement : ElementFilter.fieldsIn(element.getEnclosedElements())) {
+            if (fieldElement.getModifiers().contains(Modifier.STATIC) || fieldElement.getModifiers().contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+            String name = fieldElement.getSimpleName().toString();
+            FieldBindings field = getColumnField(table, name);
+            if (field == null) {
+                error(fieldElement, "Field %s of projection %s is not a column of %s", name, modelName, table.getClassName());
+                return null;
+            }
+
+            boolean writable = isVisible(fieldElement, packageElement) && !fieldElement.getModifiers().contains(Modifier.FINAL);
+            ExecutableElement setter = writable ? null : findSetter(fieldElement, packageElement);
+            if (!writable && setter == null) {
+                error(fieldElement, "Field %s of projection %s needs to be visible from its package or have a setter", name, modelName);
+                return null;
+            }
+
+            CodeBlock.Builder code = CodeBlock.builder();
+            CodeBlock value = readValue(table, field, TypeName.get(getFieldTypeMirror(element, fieldElement)), name, "columns[" + columnFields.size() + "]", tables, projectionBuilder, code);
+            if (value == null) {
+                error(fieldElement, "Field %s of projection %s can't be read from column %s of %s by generated code", name, modelName, field.getEffectiveColumnName(), table.getClassName());
+                return null;
+            }
+            mapRowBuilder.addCode(code.build());
+            if (writable) {
+                mapRowBuilder.addStatement("model.$L = $L", name, value);
+            } else {
+                mapRowBuilder.addStatement("model.$L($L)", setter.getSimpleName(), value);
+            }
+
+            if (!columnFields.isEmpty()) {
+                select.append(", ");
+            }
+            databaseType.appendEscapedEntityName(select, field.getEffectiveColumnName());
+            columnFields.add(field);
+        }
+        if (columnFields.isEmpty()) {
+            error(element, "Projection %s must have at least 1 field", modelName);
+            return null;
+        }
+        mapRowBuilder.addStatement("return model");
+
+        select.append(" FROM ");
+        databaseType.appendEscapedEntityName(select, table.getTableName());
+        select.append(' ');
+
+        StringBuilder columnNames = new StringBuilder();
+        Object[] columnNameArgs = new Object[columnFields.size()];
+        for (int i = 0; i < columnFields.size(); i++) {
+            if (i > 0) {
+                columnNames.append(", ");
+            }
+            columnNames.append("$S");
+            columnNameArgs[i] = columnFields.get(i).getEffectiveColumnName();
+        }
+
+        projectionBuilder.addField(FieldSpec.builder(String[].class, "COLUMNS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The columns which are read by this projection, in the order of the positions passed to the constructor.\n")
+                .initializer("{" + columnNames + "}", columnNameArgs)
+                .build());
+
+        projectionBuilder.addField(FieldSpec.builder(String.class, "SELECT", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("Selects the columns of the projection from all rows of the table. Append a {@code WHERE} or\n")
+                .addJavadoc("{@code ORDER BY} clause to select fewer rows or to order them.\n")
+                .initializer("$S", select.toString())
+                .build());
+
+        projectionBuilder.addField(FieldSpec.builder(FieldType[].class, "NO_FIELD_TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[0]", FieldType.class)
+                .build());
+
+        projectionBuilder.addField(int[].class, "columns", Modifier.PRIVATE, Modifier.FINAL);
+
+        projectionBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(int[].class, "columns")
+                .addStatement("this.columns = columns")
+                .build());
+
+        projectionBuilder.addMethod(MethodSpec.methodBuilder("forResults")
+                .addJavadoc("Creates a projection which reads the columns at the positions they have in the results.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(projectionName)
+                .addParameter(DatabaseResults.class, "results")
+                .addException(SQLException.class)
+                .addStatement("int[] columns = new int[COLUMNS.length]")
+                .beginControlFlow("for (int i = 0; i < columns.length; i++)")
+                .addStatement("columns[i] = results.findColumn(COLUMNS[i])")
+                .endControlFlow()
+                .addStatement("return new $T(columns)", projectionName)
+                .build());
+
+        projectionBuilder.addMethod(mapRowBuilder.build());
+
+        TypeName listOfModels = ParameterizedTypeName.get(ClassName.get(List.class), modelName);
+        projectionBuilder.addMethod(MethodSpec.methodBuilder("queryForAll")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(listOfModels)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addException(SQLException.class)
+                .addStatement("return query(connectionSource, $S)", "")
+                .build());
+
+        MethodSpec.Builder queryBuilder = MethodSpec.methodBuilder("query")
+                .addJavadoc("Runs {@link #SELECT} followed by the clauses, such as {@code WHERE} and {@code ORDER BY}, of which the\n")
+                .addJavadoc("arguments are bound as strings.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(listOfModels)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addParameter(String.class, "clauses")
+                .addParameter(String[].class, "arguments")
+                .varargs()
+                .addException(SQLException.class)
+                .addStatement("$T connection = connectionSource.getReadOnlyConnection()", DatabaseConnection.class)
+                .beginControlFlow("try")
+                .addStatement("$T statement = connection.compileStatement(SELECT + clauses, $T.SELECT, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                        CompiledStatement.class, STATEMENT_TYPE, DatabaseConnection.class)
+                .beginControlFlow("try")
+                .beginControlFlow("for (int i = 0; i < arguments.length; i++)")
+                .addStatement("statement.setObject(i, arguments[i], $T.STRING)", SqlType.class)
+                .endControlFlow()
+                .addStatement("$T results = statement.runQuery(null)", DatabaseResults.class)
+                .beginControlFlow("try")
+                .addStatement("$T list = new $T()", listOfModels, ParameterizedTypeName.get(ClassName.get(ArrayList.class), modelName))
+                .beginControlFlow("if (results.first())")
+                .addStatement("$T projection = forResults(results)", projectionName)
+                .beginControlFlow("do")
+                .addStatement("list.add(projection.mapRow(results))")
+                .endControlFlow("while (results.next())")
+                .endControlFlow()
+                .addStatement("return list")
+                .addCode("$<} finally {\n$>")
+                .addStatement("results.close()")
+                .endControlFlow()
+                .addCode("$<} finally {\n$>")
+                .addStatement("statement.close()")
+                .endControlFlow()
+                .addCode("$<} finally {\n$>")
+                .addStatement("connectionSource.releaseConnection(connection)")
+                .endControlFlow();
+        projectionBuilder.addMethod(queryBuilder.build());
+
+        return JavaFile.builder(projectionName.packageName(), projectionBuilder.build()).build();
+    }
+
+    /**
+     * Adds the statements which read the column of the field to {@code code} and returns the expression that results in
+     * its value as {@code type}, or null if the value can't be read as {@code type}. Foreign fields are read as their id.
+     */
+    private CodeBlock readValue(TableBindings table, FieldBindings field, TypeName type, String name, String column, Map<String, TableBindings> tables, TypeSpec.Builder projectionBuilder, CodeBlock.Builder code) {
+        TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.getForeignColumnName() != null) {
+            TableBindings foreignTable = getForeignTable(typeMirror, tables);
+            if (field.getForeignColumnName() != null || foreignTable == null) {
+                return null;
+            }
+            field = foreignTable.getIdField();
+            typeMirror = getFieldTypeMirror(foreignTable.getElement(), field.getElement());
+        }
+        // the row mapper converts to any type it is given for some data types, so only the type of the column is allowed
+        if (!box(type).equals(box(TypeName.get(typeMirror)))) {
+            return null;
+        }
+        return rowMapperGenerator.readValue(field, typeMirror, type, name, column, "", projectionBuilder, code);
+    }
+
+    private static FieldBindings getColumnField(TableBindings table, String name) {
+        for (FieldBindings field : table.getColumnFields()) {
+            if (field.getElement().getSimpleName().contentEquals(name)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    private void error(Element element, String message, Object... args) {
+        messager.printMessage(Diagnostic.Kind.ERROR, String.format(message, args), element);
+    }
+}
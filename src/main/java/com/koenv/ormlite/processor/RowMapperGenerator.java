@@ -0,0 +1,390 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.DatabaseResults;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates the {@code $$RowMapper} class of a table, a {@link GenericRowMapper} which reads every column with the
+ * getter of {@link DatabaseResults} that matches its data type and assigns it through the {@code $$Accessor}. The
+ * positions of the columns are looked up once per result set, instead of once per row.
+ * <p>
+ * Foreign collections are not assigned by the row mapper. Tables with a field of which the data type is only known at
+ * runtime, or which needs a conversion that is not generated, don't get a row mapper at all.
+ */
+class RowMapperGenerator extends Generator {
+    public static final String SUFFIX = "$$RowMapper";
+
+    private final DatabaseType databaseType;
+    private final Messager messager;
+    private final DateStringPersisterGenerator dateStringPersisterGenerator;
+
+    public RowMapperGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Messager messager, DateStringPersisterGenerator dateStringPersisterGenerator) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.messager = messager;
+        this.dateStringPersisterGenerator = dateStringPersisterGenerator;
+    }
+
+    /**
+     * Returns the generated row mapper of the table or null if one of its fields can't be read by generated code.
+     *
+     * @param tables All tables in this round by their qualified name, used to create the objects of foreign fields.
+     */
+    public JavaFile generate(TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName mapperName = table.getGeneratedClassName(SUFFIX);
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+
+        TypeSpec.Builder mapperBuilder = classBuilder(mapperName, table, tables)
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(GenericRowMapper.class), modelName));
+
+        List<FieldBindings> columnFields = table.getColumnFields();
+
+        MethodSpec.Builder mapRowBuilder = MethodSpec.methodBuilder("mapRow")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(modelName)
+                .addParameter(DatabaseResults.class, "results")
+                .addException(SQLException.class)
+                .addStatement("$T model = $T.newInstance()", modelName, accessorName);
+
+        StringBuilder columnNames = new StringBuilder();
+        Object[] columnNameArgs = new Object[columnFields.size()];
+
+        for (int i = 0; i < columnFields.size(); i++) {
+            FieldBindings field = columnFields.get(i);
+            CodeBlock code = readField(table, field, "columns[" + i + "]", tables, "", mapperBuilder);
+            if (code == null) {
+                messager.printMessage(
+                        Diagnostic.Kind.NOTE,
+                        String.format("No row mapper is generated for %s, because field %s can't be read by generated code", modelName, field.getFieldName()),
+                        field.getElement()
+                );
+                return null;
+            }
+            mapRowBuilder.addCode(code);
+
+            if (i > 0) {
+                columnNames.append(", ");
+            }
+            columnNames.append("$S");
+            columnNameArgs[i] = field.getEffectiveColumnName();
+        }
+
+        mapRowBuilder.addStatement("return model");
+
+        mapperBuilder.addField(FieldSpec.builder(String[].class, "COLUMNS", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The columns which are read by this row mapper, in the order of the positions passed to the constructor.\n")
+                .initializer("{" + columnNames + "}", columnNameArgs)
+                .build());
+
+        mapperBuilder.addField(int[].class, "columns", Modifier.PRIVATE, Modifier.FINAL);
+
+        mapperBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(int[].class, "columns")
+                .addStatement("this.columns = columns")
+                .build());
+
+        mapperBuilder.addMethod(MethodSpec.methodBuilder("forResults")
+                .addJavadoc("Creates a row mapper which reads the columns at the positions they have in the results.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(mapperName)
+                .addParameter(DatabaseResults.class, "results")
+                .addException(SQLException.class)
+                .addStatement("int[] columns = new int[COLUMNS.length]")
+                .beginControlFlow("for (int i = 0; i < columns.length; i++)")
+                .addStatement("columns[i] = results.findColumn(COLUMNS[i])")
+                .endControlFlow()
+                .addStatement("return new $T(columns)", mapperName)
+                .build());
+
+        mapperBuilder.addMethod(mapRowBuilder.build());
+
+        return JavaFile.builder(mapperName.packageName(), mapperBuilder.build()).build();
+    }
+
+    /**
+     * Returns the statements which read the column of the field and assign it to {@code model}, or null if this isn't
+     * possible.
+     *
+     * @param helperPrefix Added to the names of the helper methods which are added to {@code mapperBuilder}, so the
+     *                     fields of multiple tables can be read by the same class.
+     */
+    CodeBlock readField(TableBindings table, FieldBindings field, String column, Map<String, TableBindings> tables, String helperPrefix, TypeSpec.Builder mapperBuilder) {
+        String name = field.getElement().getSimpleName().toString();
+        TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.getForeignColumnName() != null) {
+            // auto-refreshing needs a query and a foreign column needs a lookup, so only the id can be assigned here
+            TableBindings foreignTable = getForeignTable(typeMirror, tables);
+            if (field.isForeignAutoRefresh() || field.getForeignColumnName() != null || foreignTable == null) {
+                return null;
+            }
+            return readForeignId(table, field, foreignTable, column, helperPrefix, mapperBuilder);
+        }
+
+        CodeBlock value = readValue(field, typeMirror, TypeName.get(typeMirror), name, column, helperPrefix, mapperBuilder, code);
+        if (value == null) {
+            return null;
+        }
+        code.addStatement("$T.set$L(model, $L)", accessorName, capitalize(name), value);
+        return code.build();
+    }
+
+    /**
+     * Returns the statements which read the id of a foreign object and assign an object with only that id to
+     * {@code model}, or null if this isn't possible.
+     */
+    CodeBlock readForeignId(TableBindings table, FieldBindings field, TableBindings foreignTable, String column, String helperPrefix, TypeSpec.Builder mapperBuilder) {
+        String name = field.getElement().getSimpleName().toString();
+        TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        FieldBindings idField = foreignTable.getIdField();
+        TypeMirror idTypeMirror = getFieldTypeMirror(foreignTable.getElement(), idField.getElement());
+        TypeName idType = box(TypeName.get(idTypeMirror));
+        // the locals are suffixed with Id and Object, so they can't collide with the Value locals of other fields
+        CodeBlock idValue = readValue(idField, idTypeMirror, idType, name, column, helperPrefix, mapperBuilder, code);
+        if (idValue == null) {
+            return null;
+        }
+        ClassName foreignAccessorName = foreignTable.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        String idName = idField.getElement().getSimpleName().toString();
+        code.addStatement("$T $LId = $L", idType, name, idValue);
+        code.beginControlFlow("if ($LId == null)", name);
+        code.addStatement("$T.set$L(model, null)", accessorName, capitalize(name));
+        code.add("$<} else {\n$>");
+        code.addStatement("$T $LObject = $T.newInstance()", TypeName.get(typeMirror), name, foreignAccessorName);
+        code.addStatement("$T.set$L($LObject, $LId)", foreignAccessorName, capitalize(idName), name, name);
+        code.addStatement("$T.set$L(model, $LObject)", accessorName, capitalize(name), name);
+        code.endControlFlow();
+        return code.build();
+    }
+
+    /**
+     * Adds the statements which are needed to read the column to {@code code} and returns the expression that results
+     * in the value of the column as {@code type}, which is null for null values unless {@code type} is primitive.
+     * Returns null if generated code can't read the column as {@code type}.
+     */
+    CodeBlock readValue(FieldBindings field, TypeMirror typeMirror, TypeName type, String name, String column, String helperPrefix, TypeSpec.Builder mapperBuilder, CodeBlock.Builder code) {
+        DataType dataType = DataTypes.resolve(field, typeMirror, elementUtils);
+        if (dataType == null) {
+            return null;
+        }
+        dataType = DataTypes.getStoredType(databaseType, dataType);
+
+        String getter;
+        TypeName rawType;
+        TypeName convertedType = null;
+        CodeBlock conversion = null;
+        switch (dataType) {
+            case STRING:
+            case LONG_STRING:
+                getter = "getString";
+                rawType = ClassName.get(String.class);
+                break;
+            case BOOLEAN:
+            case BOOLEAN_OBJ:
+                getter = "getBoolean";
+                rawType = TypeName.BOOLEAN;
+                break;
+            case CHAR:
+            case CHAR_OBJ:
+                getter = "getChar";
+                rawType = TypeName.CHAR;
+                break;
+            case BYTE:
+            case BYTE_OBJ:
+                getter = "getByte";
+                rawType = TypeName.BYTE;
+                break;
+            case SHORT:
+            case SHORT_OBJ:
+                getter = "getShort";
+                rawType = TypeName.SHORT;
+                break;
+            case INTEGER:
+            case INTEGER_OBJ:
+                getter = "getInt";
+                rawType = TypeName.INT;
+                break;
+            case LONG:
+            case LONG_OBJ:
+                getter = "getLong";
+                rawType = TypeName.LONG;
+                break;
+            case FLOAT:
+            case FLOAT_OBJ:
+                getter = "getFloat";
+                rawType = TypeName.FLOAT;
+                break;
+            case DOUBLE:
+            case DOUBLE_OBJ:
+                getter = "getDouble";
+                rawType = TypeName.DOUBLE;
+                break;
+            case BYTE_ARRAY:
+                getter = "getBytes";
+                rawType = TypeName.get(byte[].class);
+                break;
+            case DATE:
+                getter = "getTimestamp";
+                rawType = ClassName.get(Timestamp.class);
+                convertedType = ClassName.get(Date.class);
+                conversion = CodeBlock.builder().add("new $T($LValue.getTime())", Date.class, name).build();
+                break;
+            case DATE_LONG:
+                getter = "getLong";
+                rawType = TypeName.LONG;
+                convertedType = ClassName.get(Date.class);
+                conversion = CodeBlock.builder().add("new $T($LValue)", Date.class, name).build();
+                break;
+            case DATE_STRING:
+                ClassName dateStringPersisterName = dateStringPersisterGenerator.getPersisterName(field, typeMirror);
+                if (dateStringPersisterName == null) {
+                    return null;
+                }
+                getter = "getString";
+                rawType = ClassName.get(String.class);
+                convertedType = ClassName.get(Date.class);
+                conversion = CodeBlock.builder().add("$T.parse($LValue, $L)", dateStringPersisterName, name, column).build();
+                break;
+            case UUID:
+                getter = "getString";
+                rawType = ClassName.get(String.class);
+                convertedType = ClassName.get(UUID.class);
+                conversion = CodeBlock.builder().add("$T.fromString($LValue)", UUID.class, name).build();
+                break;
+            case BIG_INTEGER:
+                getter = "getString";
+                rawType = ClassName.get(String.class);
+                convertedType = ClassName.get(BigInteger.class);
+                conversion = CodeBlock.builder().add("new $T($LValue)", BigInteger.class, name).build();
+                break;
+            case BIG_DECIMAL:
+                getter = "getString";
+                rawType = ClassName.get(String.class);
+                convertedType = ClassName.get(BigDecimal.class);
+                conversion = CodeBlock.builder().add("new $T($LValue)", BigDecimal.class, name).build();
+                break;
+            case ENUM_STRING:
+            case ENUM_INTEGER:
+                if (!isEnum(typeMirror)) {
+                    return null;
+                }
+                rawType = dataType == DataType.ENUM_STRING ? ClassName.get(String.class) : TypeName.INT;
+                getter = dataType == DataType.ENUM_STRING ? "getString" : "getInt";
+                convertedType = type;
+                conversion = CodeBlock.builder().add("to$L$L($LValue)", helperPrefix, capitalize(name), name).build();
+                mapperBuilder.addMethod(enumConversion(field, type, rawType, helperPrefix, name));
+                break;
+            default:
+                return null;
+        }
+
+        if (conversion == null) {
+            if (type.equals(rawType)) {
+                if (rawType.isPrimitive() && field.isThrowIfNull()) {
+                    code.addStatement("$T $LValue = results.$L($L)", rawType, name, getter, column);
+                    code.beginControlFlow("if (results.wasNull($L))", column);
+                    code.addStatement("throw new $T($S)", SQLException.class, "Results value for primitive field '" + name + "' was an invalid null value");
+                    code.endControlFlow();
+                    return CodeBlock.builder().add("$LValue", name).build();
+                }
+                return CodeBlock.builder().add("results.$L($L)", getter, column).build();
+            } else if (rawType.isPrimitive() && type.equals(box(rawType))) {
+                code.addStatement("$T $LValue = results.$L($L)", rawType, name, getter, column);
+                return CodeBlock.builder().add("results.wasNull($L) ? null : $LValue", column, name).build();
+            }
+            return null;
+        }
+
+        if (!type.equals(convertedType)) {
+            return null;
+        }
+        code.addStatement("$T $LValue = results.$L($L)", rawType, name, getter, column);
+        if (rawType.isPrimitive()) {
+            return CodeBlock.builder().add("results.wasNull($L) ? null : $L", column, conversion).build();
+        } else {
+            return CodeBlock.builder().add("$LValue == null ? null : $L", name, conversion).build();
+        }
+    }
+
+    private MethodSpec enumConversion(FieldBindings field, TypeName type, TypeName rawType, String helperPrefix, String name) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("to" + helperPrefix + capitalize(name))
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(type)
+                .addParameter(rawType, "value")
+                .addException(SQLException.class);
+        if (rawType.isPrimitive()) {
+            builder.addStatement("$T[] values = $T.values()", type, type);
+            builder.beginControlFlow("if (value >= 0 && value < values.length)");
+            builder.addStatement("return values[value]");
+            builder.endControlFlow();
+        } else {
+            builder.beginControlFlow("try");
+            builder.addStatement("return $T.valueOf(value)", type);
+            builder.addCode("$<} catch ($T e) {\n$>", IllegalArgumentException.class);
+            builder.addCode("// fall through to the unknown value\n");
+            builder.endControlFlow();
+        }
+        if (field.getUnknownEnumValue() != null) {
+            builder.addStatement("return $T.$L", type, field.getUnknownEnumValue().getSimpleName());
+        } else {
+            builder.addStatement("throw new $T($S + value + $S)", SQLException.class, "Cannot get enum value of '", "' for field " + name);
+        }
+        return builder.build();
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+}
@@ -0,0 +1,490 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.SqlType;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Generates the {@code $$SQLiteBinder} class of a table, which inserts and updates objects with an Android
+ * {@code SQLiteStatement}. OrmLite compiles the statement again for every call and passes the values in an
+ * {@code Object[]}, while the generated class keeps compiled statements in a {@code SQLiteStatementPool} per database
+ * and binds every value with the method matching its type.
+ * <p>
+ * The statements are those of the {@code $$Statements} class of the table, so binders are only generated for tables
+ * which have one, and only when the Android classes are on the classpath.
+ */
+class SQLiteBinderGenerator extends Generator {
+    public static final String SUFFIX = "$$SQLiteBinder";
+    public static final String POOL_SIMPLE_NAME = "SQLiteStatementPool";
+
+    private static final String SQLITE_PACKAGE = "android.database.sqlite";
+    private static final ClassName SQLITE_STATEMENT = ClassName.get(SQLITE_PACKAGE, "SQLiteStatement");
+    private static final ClassName SQLITE_DATABASE = ClassName.get(SQLITE_PACKAGE, "SQLiteDatabase");
+
+    private final Messager messager;
+    private final StatementsGenerator statementsGenerator;
+    private final ClassName poolName;
+
+    public SQLiteBinderGenerator(Types typeUtils, Elements elementUtils, Messager messager, StatementsGenerator statementsGenerator, String packageName) {
+        super(typeUtils, elementUtils);
+        this.messager = messager;
+        this.statementsGenerator = statementsGenerator;
+        this.poolName = ClassName.get(packageName, POOL_SIMPLE_NAME);
+    }
+
+    /**
+     * Returns whether the Android classes are on the classpath, so the generated classes can be compiled.
+     */
+    public boolean isAvailable() {
+        return elementUtils.getTypeElement(SQLITE_STATEMENT.toString()) != null;
+    }
+
+    /**
+     * Returns the generated binder of the table or null if one of its values can't be bound to a
+     * {@code SQLiteStatement}. Only call this for tables of which the statements are generated.
+     *
+     * @param tables All tables in this round by their qualified name, used to write the ids of foreign fields.
+     */
+    public JavaFile generate(TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName binderName = table.getGeneratedClassName(SUFFIX);
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        ClassName statementsName = table.getGeneratedClassName(StatementsGenerator.SUFFIX);
+
+        FieldBindings idField = table.getIdField();
+        TypeMirror idTypeMirror = idField == null ? null : getFieldTypeMirror(table.getElement(), idField.getElement());
+        String idName = idField == null ? null : capitalize(idField.getElement().getSimpleName().toString());
+        FieldBindings versionField = null;
+        List<FieldBindings> updateFields = new ArrayList<FieldBindings>();
+        for (FieldBindings field : table.getColumnFields()) {
+            if (field.isVersion() && !field.isReadOnly()) {
+                versionField = field;
+            }
+            if (field != idField && !field.isReadOnly()) {
+                updateFields.add(field);
+            }
+        }
+        TypeName versionType = versionField == null ? null : TypeName.get(getFieldTypeMirror(table.getElement(), versionField.getElement()));
+        String versionName = versionField == null ? null : capitalize(versionField.getElement().getSimpleName().toString());
+
+        TypeSpec.Builder binderBuilder = classBuilder(binderName, table, tables);
+        binderBuilder.addField(FieldSpec.builder(poolName, "INSERT", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T($T.INSERT)", poolName, statementsName)
+                .build());
+        boolean canUpdate = idField != null && !updateFields.isEmpty();
+        if (canUpdate) {
+            binderBuilder.addField(FieldSpec.builder(poolName, "UPDATE_BY_ID", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("new $T($T.UPDATE_BY_ID)", poolName, statementsName)
+                    .build());
+        }
+
+        binderBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        MethodSpec.Builder bindInsertBuilder = MethodSpec.methodBuilder("bindInsert")
+                .addJavadoc("Binds the values of the object to the arguments of $L.\n", "INSERT")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addParameter(SQLITE_STATEMENT, "statement")
+                .addParameter(modelName, "model");
+        int index = 1;
+        for (FieldBindings field : getCreateFields(table)) {
+            String name = field.getElement().getSimpleName().toString();
+            String getter = "get" + capitalize(name);
+            if (field == versionField) {
+                if (versionType.isPrimitive()) {
+                    bindInsertBuilder.addStatement("statement.bindLong($L, $T.$L(model))", index++, accessorName, getter);
+                } else {
+                    // OrmLite starts null versions at 1
+                    bindInsertBuilder.addStatement("$T $LValue = $T.$L(model)", versionType, name, accessorName, getter);
+                    bindInsertBuilder.addStatement("statement.bindLong($L, $LValue == null ? 1 : $LValue)", index++, name, name);
+                }
+                continue;
+            }
+            CodeBlock value = CodeBlock.builder().add("$T.$L(model)", accessorName, getter).build();
+            CodeBlock bind = bindValue(table, field, index++, value, name, tables);
+            if (bind == null) {
+                return null;
+            }
+            bindInsertBuilder.addCode(bind);
+        }
+        binderBuilder.addMethod(bindInsertBuilder.build());
+
+        MethodSpec.Builder insertBuilder = MethodSpec.methodBuilder("insert")
+                .addJavadoc("Inserts the object with a statement of the pool of the database. Returns the number of rows inserted.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(SQLITE_DATABASE, "database")
+                .addParameter(modelName, "model");
+        boolean selfGeneratedId = idField != null && idField.isGeneratedId() && isSelfGeneratedId(idField, idTypeMirror);
+        if (selfGeneratedId) {
+            insertBuilder.addStatement("$T.set$L(model, $T.randomUUID())", accessorName, idName, UUID.class);
+        }
+        insertBuilder.addStatement("$T statement = INSERT.acquire(database)", SQLITE_STATEMENT)
+                .addStatement("long rowId")
+                .beginControlFlow("try")
+                .addStatement("bindInsert(statement, model)")
+                .addStatement("rowId = statement.executeInsert()")
+                .addCode("$<} finally {\n$>")
+                .addStatement("INSERT.release(database, statement)")
+                .endControlFlow()
+                .beginControlFlow("if (rowId == -1)")
+                .addStatement("return 0")
+                .endControlFlow();
+        if (idField != null && idField.isGeneratedId() && !selfGeneratedId) {
+            String cast = box(TypeName.get(idTypeMirror)).equals(ClassName.get(Integer.class)) ? "(int) " : "";
+            insertBuilder.addStatement("$T.set$L(model, $LrowId)", accessorName, idName, cast);
+        }
+        if (versionField != null && !versionType.isPrimitive()) {
+            insertBuilder.beginControlFlow("if ($T.get$L(model) == null)", accessorName, versionName);
+            insertBuilder.addStatement("$T.set$L(model, 1$L)", accessorName, versionName, isLong(versionField) ? "L" : "");
+            insertBuilder.endControlFlow();
+        }
+        insertBuilder.addStatement("return 1");
+        binderBuilder.addMethod(insertBuilder.build());
+
+        MethodSpec.Builder closeBuilder = MethodSpec.methodBuilder("close")
+                .addJavadoc("Closes the statements of the database which are kept in the pools of this class. Call this before closing\n")
+                .addJavadoc("the database.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addParameter(SQLITE_DATABASE, "database")
+                .addStatement("INSERT.close(database)");
+
+        if (canUpdate) {
+            MethodSpec.Builder updateBuilder = MethodSpec.methodBuilder("update")
+                    .addJavadoc("Updates the object with a statement of the pool of the database. Returns the number of rows updated.\n")
+                    .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                    .returns(TypeName.INT)
+                    .addParameter(SQLITE_DATABASE, "database")
+                    .addParameter(modelName, "model");
+            if (versionField != null) {
+                updateBuilder.addStatement("$T version = $T.get$L(model)", versionType, accessorName, versionName);
+                if (versionType.isPrimitive()) {
+                    updateBuilder.addStatement("$T newVersion = version + 1", versionType);
+                } else {
+                    updateBuilder.addStatement("$T newVersion = version == null ? 1$L : version + 1", versionType, isLong(versionField) ? "L" : "");
+                }
+            }
+            updateBuilder.addStatement("$T statement = UPDATE_BY_ID.acquire(database)", SQLITE_STATEMENT)
+                    .addStatement("int rows")
+                    .beginControlFlow("try");
+            index = 1;
+            for (FieldBindings field : updateFields) {
+                String name = field.getElement().getSimpleName().toString();
+                if (field == versionField) {
+                    updateBuilder.addStatement("statement.bindLong($L, newVersion)", index++);
+                    continue;
+                }
+                CodeBlock value = CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(name)).build();
+                CodeBlock bind = bindValue(table, field, index++, value, name, tables);
+                if (bind == null) {
+                    return null;
+                }
+                updateBuilder.addCode(bind);
+            }
+            CodeBlock idBind = bindValue(table, idField, index++, CodeBlock.builder().add("$T.get$L(model)", accessorName, idName).build(),
+                    idField.getElement().getSimpleName().toString(), tables);
+            if (idBind == null) {
+                return null;
+            }
+            updateBuilder.addCode(idBind);
+            if (versionField != null) {
+                if (versionType.isPrimitive()) {
+                    updateBuilder.addStatement("statement.bindLong($L, version)", index);
+                } else {
+                    updateBuilder.beginControlFlow("if (version == null)");
+                    updateBuilder.addStatement("statement.bindNull($L)", index);
+                    updateBuilder.addCode("$<} else {\n$>");
+                    updateBuilder.addStatement("statement.bindLong($L, version)", index);
+                    updateBuilder.endControlFlow();
+                }
+            }
+            updateBuilder.addStatement("rows = statement.executeUpdateDelete()")
+                    .addCode("$<} finally {\n$>")
+                    .addStatement("UPDATE_BY_ID.release(database, statement)")
+                    .endControlFlow();
+            if (versionField != null) {
+                updateBuilder.beginControlFlow("if (rows > 0)");
+                updateBuilder.addStatement("$T.set$L(model, newVersion)", accessorName, versionName);
+                updateBuilder.endControlFlow();
+            }
+            updateBuilder.addStatement("return rows");
+            binderBuilder.addMethod(updateBuilder.build());
+            closeBuilder.addStatement("UPDATE_BY_ID.close(database)");
+        }
+
+        binderBuilder.addMethod(closeBuilder.build());
+
+        return JavaFile.builder(binderName.packageName(), binderBuilder.build()).build();
+    }
+
+    /**
+     * Returns the pool of compiled statements which is shared by all binders.
+     *
+     * @param tables The tables of which a binder was generated.
+     */
+    public JavaFile generatePool(List<TableBindings> tables) {
+        ParameterizedTypeName statements = ParameterizedTypeName.get(ClassName.get(ArrayDeque.class), SQLITE_STATEMENT);
+        ParameterizedTypeName statementsByDatabase = ParameterizedTypeName.get(ClassName.get(Map.class), SQLITE_DATABASE, statements);
+
+        TypeSpec.Builder poolBuilder = TypeSpec.classBuilder(poolName.simpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addJavadoc("Generated on $L\n", new SimpleDateFormat("yyyy/MM/dd hh:mm:ss").format(new Date()))
+                .addJavadoc("<p>\n")
+                .addJavadoc("Keeps compiled statements of a single SQL statement per database, so they are only compiled once. A\n")
+                .addJavadoc("statement can only be used by one thread at a time, so every thread writing at the same time takes its own\n")
+                .addJavadoc("statement from the pool.\n");
+        for (TableBindings table : tables) {
+            for (TypeElement element : table.getOriginatingElements()) {
+                poolBuilder.addOriginatingElement(element);
+            }
+        }
+
+        poolBuilder.addField(FieldSpec.builder(TypeName.INT, "DEFAULT_MAX_SIZE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The number of unused statements kept per database, above which released statements are closed.\n")
+                .initializer("$L", 4)
+                .build());
+        poolBuilder.addField(String.class, "sql", Modifier.PRIVATE, Modifier.FINAL);
+        poolBuilder.addField(TypeName.INT, "maxSize", Modifier.PRIVATE, Modifier.FINAL);
+        poolBuilder.addField(FieldSpec.builder(statementsByDatabase, "statements", Modifier.PRIVATE, Modifier.FINAL)
+                .initializer("new $T()", ParameterizedTypeName.get(ClassName.get(HashMap.class), SQLITE_DATABASE, statements))
+                .build());
+
+        poolBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(String.class, "sql")
+                .addStatement("this(sql, DEFAULT_MAX_SIZE)")
+                .build());
+        poolBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(String.class, "sql")
+                .addParameter(TypeName.INT, "maxSize")
+                .addStatement("this.sql = sql")
+                .addStatement("this.maxSize = maxSize")
+                .build());
+
+        poolBuilder.addMethod(MethodSpec.methodBuilder("acquire")
+                .addJavadoc("Returns an unused statement of the database, or compiles a new one if there is none. Pass it to release\n")
+                .addJavadoc("when it was executed.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(SQLITE_STATEMENT)
+                .addParameter(SQLITE_DATABASE, "database")
+                .beginControlFlow("synchronized (this)")
+                .addStatement("$T databaseStatements = statements.get(database)", statements)
+                .beginControlFlow("if (databaseStatements != null && !databaseStatements.isEmpty())")
+                .addStatement("return databaseStatements.pop()")
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("return database.compileStatement(sql)")
+                .build());
+
+        poolBuilder.addMethod(MethodSpec.methodBuilder("release")
+                .addJavadoc("Keeps the statement for the next call to acquire, or closes it if the pool of the database is full or the\n")
+                .addJavadoc("database was closed.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.VOID)
+                .addParameter(SQLITE_DATABASE, "database")
+                .addParameter(SQLITE_STATEMENT, "statement")
+                .addCode("// releases the bound strings and blobs\n")
+                .addStatement("statement.clearBindings()")
+                .beginControlFlow("if (database.isOpen())")
+                .beginControlFlow("synchronized (this)")
+                .addStatement("$T databaseStatements = statements.get(database)", statements)
+                .beginControlFlow("if (databaseStatements == null)")
+                .addStatement("removeClosedDatabases()")
+                .addStatement("databaseStatements = new $T(maxSize)", statements)
+                .addStatement("statements.put(database, databaseStatements)")
+                .endControlFlow()
+                .beginControlFlow("if (databaseStatements.size() < maxSize)")
+                .addStatement("databaseStatements.push(statement)")
+                .addStatement("return")
+                .endControlFlow()
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("statement.close()")
+                .build());
+
+        poolBuilder.addMethod(MethodSpec.methodBuilder("close")
+                .addJavadoc("Closes the unused statements of the database. Call this before closing the database.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.SYNCHRONIZED)
+                .returns(TypeName.VOID)
+                .addParameter(SQLITE_DATABASE, "database")
+                .addStatement("$T databaseStatements = statements.remove(database)", statements)
+                .beginControlFlow("if (databaseStatements != null)")
+                .addStatement("close(databaseStatements)")
+                .endControlFlow()
+                .build());
+
+        ParameterizedTypeName entry = ParameterizedTypeName.get(ClassName.get(Map.Entry.class), SQLITE_DATABASE, statements);
+        poolBuilder.addMethod(MethodSpec.methodBuilder("removeClosedDatabases")
+                .addJavadoc("Removes the statements of databases which were closed without calling close, so they aren't kept forever.\n")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(TypeName.VOID)
+                .beginControlFlow("for ($T iterator = statements.entrySet().iterator(); iterator.hasNext(); )", ParameterizedTypeName.get(ClassName.get(Iterator.class), entry))
+                .addStatement("$T entry = iterator.next()", entry)
+                .beginControlFlow("if (!entry.getKey().isOpen())")
+                .addStatement("close(entry.getValue())")
+                .addStatement("iterator.remove()")
+                .endControlFlow()
+                .endControlFlow()
+                .build());
+
+        poolBuilder.addMethod(MethodSpec.methodBuilder("close")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addParameter(statements, "databaseStatements")
+                .beginControlFlow("for ($T statement : databaseStatements)", SQLITE_STATEMENT)
+                .addStatement("statement.close()")
+                .endControlFlow()
+                .build());
+
+        return JavaFile.builder(poolName.packageName(), poolBuilder.build()).build();
+    }
+
+    /**
+     * Returns the statements which bind {@code value}, the value of the field, to the argument at {@code index} of
+     * {@code statement}, converted the same way OrmLite would convert it. Returns null if this isn't possible.
+     *
+     * @param name The prefix of the locals declared for the value.
+     */
+    private CodeBlock bindValue(TableBindings table, FieldBindings field, int index, CodeBlock value, String name, Map<String, TableBindings> tables) {
+        TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+        TypeName type = TypeName.get(typeMirror);
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.getForeignColumnName() != null) {
+            TableBindings foreignTable = getForeignTable(typeMirror, tables);
+            if (field.getForeignColumnName() != null || foreignTable == null) {
+                note(table, field, "refers to a foreign column");
+                return null;
+            }
+            CodeBlock.Builder idCode = CodeBlock.builder();
+            StatementsGenerator.Argument argument = statementsGenerator.convertForeignId(foreignTable, name, idCode);
+            if (argument == null || getBindMethod(argument) == null) {
+                note(table, field, "has an id which can't be bound");
+                return null;
+            }
+            code.addStatement("$T $LObject = $L", type, name, value);
+            code.beginControlFlow("if ($LObject == null)", name);
+            code.addStatement("statement.bindNull($L)", index);
+            code.add("$<} else {\n$>");
+            code.add(idCode.build());
+            addBind(code, index, name, argument);
+            code.endControlFlow();
+            return code.build();
+        }
+
+        StatementsGenerator.Argument argument = statementsGenerator.convert(field, typeMirror, value, name, code);
+        if (argument == null || getBindMethod(argument) == null) {
+            note(table, field, "can't be bound");
+            return null;
+        }
+        addBind(code, index, name, argument);
+        return code.build();
+    }
+
+    /**
+     * Adds the statements binding the argument with the method of {@code SQLiteStatement} which matches its type, binding
+     * null values with {@code bindNull}.
+     */
+    private void addBind(CodeBlock.Builder code, int index, String name, StatementsGenerator.Argument argument) {
+        String method = getBindMethod(argument);
+        if (argument.nonNullValue == null && argument.type.isPrimitive()) {
+            code.addStatement("statement.$L($L, $L)", method, index, toBound(argument, argument.value));
+            return;
+        }
+        CodeBlock nonNullValue = argument.nonNullValue;
+        if (nonNullValue == null) {
+            code.addStatement("$T $LValue = $L", argument.type, name, argument.value);
+            nonNullValue = CodeBlock.builder().add("$LValue", name).build();
+        }
+        code.beginControlFlow("if ($LValue == null)", name);
+        code.addStatement("statement.bindNull($L)", index);
+        code.add("$<} else {\n$>");
+        code.addStatement("statement.$L($L, $L)", method, index, toBound(argument, nonNullValue));
+        code.endControlFlow();
+    }
+
+    private static CodeBlock toBound(StatementsGenerator.Argument argument, CodeBlock value) {
+        if (argument.sqlType == SqlType.CHAR) {
+            // characters are bound as strings, like OrmLite does
+            return CodeBlock.builder().add("$T.valueOf($L)", String.class, value).build();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the method of {@code SQLiteStatement} which binds the argument the same way as OrmLite on Android, or null if
+     * OrmLite can't bind it.
+     */
+    private static String getBindMethod(StatementsGenerator.Argument argument) {
+        switch (argument.sqlType) {
+            case STRING:
+            case LONG_STRING:
+            case CHAR:
+                return "bindString";
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INTEGER:
+            case LONG:
+                return "bindLong";
+            case FLOAT:
+            case DOUBLE:
+                return "bindDouble";
+            case BYTE_ARRAY:
+                return "bindBlob";
+            default:
+                return null;
+        }
+    }
+
+    private void note(TableBindings table, FieldBindings field, String reason) {
+        messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                String.format("No SQLite binder is generated for %s, because field %s %s", table.getClassName(), field.getFieldName(), reason),
+                field.getElement()
+        );
+    }
+}
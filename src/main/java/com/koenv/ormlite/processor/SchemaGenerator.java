@@ -0,0 +1,441 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataPersister;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.FieldConverter;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the {@code $$Schema} class of a table, which contains the {@code CREATE TABLE} and {@code CREATE INDEX}
+ * statements {@link com.j256.ormlite.table.TableUtils#createTable} would build at runtime.
+ * <p>
+ * The column definitions follow {@link com.j256.ormlite.db.BaseDatabaseType#appendColumnArg} with the overrides of
+ * the database type of the {@link Dialect}. Tables with a field of which the type or default value is only known at
+ * runtime, or with a generated id taken from a sequence, don't get a schema and are created by {@code TableUtils}
+ * instead.
+ */
+class SchemaGenerator extends Generator {
+    public static final String SUFFIX = "$$Schema";
+
+    private final DatabaseType databaseType;
+    private final Dialect dialect;
+    private final Messager messager;
+
+    public SchemaGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Dialect dialect, Messager messager) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.dialect = dialect;
+        this.messager = messager;
+    }
+
+    /**
+     * Returns the statements which create the table and its indexes by the name of their constant, or null if one of
+     * its columns can only be defined at runtime.
+     *
+     * @param tables All tables in this round by their qualified name, used to find the id types of foreign fields.
+     */
+    public Map<String, String> getStatements(TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        String tableName = table.getTableName();
+        List<FieldBindings> columnFields = table.getColumnFields();
+
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("CREATE TABLE ");
+        databaseType.appendEscapedEntityName(sb, tableName);
+        sb.append(" (");
+        List<String> additionalArgs = new ArrayList<String>();
+        boolean first = true;
+        for (FieldBindings field : columnFields) {
+            if (first) {
+                first = false;
+            } else {
+                sb.append(", ");
+            }
+            if (field.getColumnDefinition() != null) {
+                databaseType.appendEscapedEntityName(sb, field.getEffectiveColumnName());
+                sb.append(' ').append(field.getColumnDefinition()).append(' ');
+                continue;
+            }
+            String unsupported = appendColumnArg(sb, table, field, additionalArgs, tables);
+            if (unsupported != null) {
+                messager.printMessage(
+                        Diagnostic.Kind.NOTE,
+                        String.format("No schema is generated for %s, because field %s %s", modelName, field.getFieldName(), unsupported),
+                        field.getElement()
+                );
+                return null;
+            }
+        }
+
+        StringBuilder primaryKey = null;
+        for (FieldBindings field : columnFields) {
+            if (dialect.isSqlite() && field.isGeneratedId() && !isSelfGeneratedId(field, getFieldTypeMirror(table.getElement(), field.getElement()))) {
+                // already declared with the column
+                continue;
+            }
+            if (field.isId() || field.isGeneratedId()) {
+                if (primaryKey == null) {
+                    primaryKey = new StringBuilder(48);
+                    primaryKey.append("PRIMARY KEY (");
+                } else {
+                    primaryKey.append(',');
+                }
+                databaseType.appendEscapedEntityName(primaryKey, field.getEffectiveColumnName());
+            }
+        }
+        if (primaryKey != null) {
+            primaryKey.append(") ");
+            additionalArgs.add(primaryKey.toString());
+        }
+
+        StringBuilder uniqueCombo = null;
+        for (FieldBindings field : columnFields) {
+            if (field.isUniqueCombo()) {
+                if (uniqueCombo == null) {
+                    uniqueCombo = new StringBuilder(48);
+                    uniqueCombo.append("UNIQUE (");
+                } else {
+                    uniqueCombo.append(',');
+                }
+                databaseType.appendEscapedEntityName(uniqueCombo, field.getEffectiveColumnName());
+            }
+        }
+        if (uniqueCombo != null) {
+            uniqueCombo.append(") ");
+            additionalArgs.add(uniqueCombo.toString());
+        }
+
+        for (String arg : additionalArgs) {
+            sb.append(", ").append(arg);
+        }
+        sb.append(") ");
+        databaseType.appendCreateTableSuffix(sb);
+
+        Map<String, String> statements = new LinkedHashMap<String, String>();
+        statements.put("CREATE_TABLE", sb.toString());
+        addIndexes(statements, table, false);
+        addIndexes(statements, table, true);
+        return statements;
+    }
+
+    /**
+     * Returns the generated schema of the table.
+     *
+     * @param statements The statements of the table returned by {@link #getStatements}.
+     * @param schemaHash The hash of the statements returned by {@link #getSchemaHash}.
+     */
+    public JavaFile generate(TableBindings table, Map<String, String> statements, long schemaHash, Map<String, TableBindings> tables) {
+        ClassName schemaName = table.getGeneratedClassName(SUFFIX);
+
+        TypeSpec.Builder schemaBuilder = classBuilder(schemaName, table, tables);
+        for (Map.Entry<String, String> statement : statements.entrySet()) {
+            schemaBuilder.addField(FieldSpec.builder(String.class, statement.getKey(), Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                    .initializer("$S", statement.getValue())
+                    .build());
+        }
+        schemaBuilder.addField(FieldSpec.builder(TypeName.LONG, "SCHEMA_HASH", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .addJavadoc("The hash of the statements above, which only changes when the schema of the table changes.\n")
+                .initializer("$L", toLiteral(schemaHash))
+                .build());
+
+        schemaBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        MethodSpec.Builder createTableBuilder = MethodSpec.methodBuilder("createTable")
+                .addJavadoc("Creates the table and its indexes on the connection.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.VOID)
+                .addParameter(DatabaseConnection.class, "connection")
+                .addException(SQLException.class)
+                .addStatement("connection.executeStatement(CREATE_TABLE, $T.DEFAULT_RESULT_FLAGS)", DatabaseConnection.class);
+        for (String constant : statements.keySet()) {
+            if (!constant.equals("CREATE_TABLE")) {
+                createTableBuilder.addStatement("connection.executeStatement($L, $T.DEFAULT_RESULT_FLAGS)", constant, DatabaseConnection.class);
+            }
+        }
+        schemaBuilder.addMethod(createTableBuilder.build());
+
+        return JavaFile.builder(schemaName.packageName(), schemaBuilder.build()).build();
+    }
+
+    /**
+     * Returns a hash of the parts which is the same in every build, made of the first 8 bytes of their SHA-256 digest.
+     */
+    public static long getSchemaHash(Iterable<String> parts) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        for (String part : parts) {
+            digest.update(part.getBytes(StandardCharsets.UTF_8));
+            // separates the parts, so moving text from one part to the next changes the hash
+            digest.update((byte) 0);
+        }
+        byte[] bytes = digest.digest();
+        long hash = 0;
+        for (int i = 0; i < 8; i++) {
+            hash = (hash << 8) | (bytes[i] & 0xff);
+        }
+        return hash;
+    }
+
+    static String toLiteral(long hash) {
+        return "0x" + Long.toHexString(hash) + "L";
+    }
+
+    /**
+     * Appends the definition of the column of the field, or returns why this isn't possible.
+     */
+    private String appendColumnArg(StringBuilder sb, TableBindings table, FieldBindings field, List<String> additionalArgs, Map<String, TableBindings> tables) {
+        TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+        DataType dataType;
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.getForeignColumnName() != null) {
+            // foreign fields are stored with the type of the column they refer to
+            TableBindings foreignTable = getForeignTable(typeMirror, tables);
+            if (foreignTable == null) {
+                return "refers to a class which isn't a table with an id";
+            }
+            FieldBindings foreignField = foreignTable.getIdField();
+            if (field.getForeignColumnName() != null) {
+                foreignField = null;
+                for (FieldBindings candidate : foreignTable.getColumnFields()) {
+                    if (candidate.getEffectiveColumnName().equals(field.getForeignColumnName())) {
+                        foreignField = candidate;
+                    }
+                }
+                if (foreignField == null) {
+                    return "refers to an unknown column";
+                }
+            }
+            dataType = DataTypes.resolve(foreignField, getFieldTypeMirror(foreignTable.getElement(), foreignField.getElement()), elementUtils);
+        } else {
+            dataType = DataTypes.resolve(field, typeMirror, elementUtils);
+        }
+        if (dataType == null || dataType.getDataPersister() == null) {
+            return "has a type which is only known at runtime";
+        }
+        if (field.getGeneratedIdSequence() != null) {
+            return "has a generated id sequence";
+        }
+        DataPersister persister = dataType.getDataPersister();
+        FieldConverter converter = databaseType.getFieldConverter(persister);
+        boolean generatedId = field.isGeneratedId() && !persister.isSelfGeneratedId();
+
+        databaseType.appendEscapedEntityName(sb, field.getEffectiveColumnName());
+        sb.append(' ');
+        int width = field.getWidth();
+        if (width == 0) {
+            width = persister.getDefaultWidth();
+        }
+        if (!appendType(sb, persister.getSqlType(), converter.getSqlType(), field.isGeneratedId(), width)) {
+            return "has a type which can't be created in " + databaseType.getDatabaseName();
+        }
+        sb.append(' ');
+
+        if (generatedId) {
+            if (dialect.getLastInsertIdQuery() == null) {
+                return "is a generated id which " + databaseType.getDatabaseName() + " takes from a sequence";
+            }
+            if (converter.getSqlType() != SqlType.INTEGER && converter.getSqlType() != SqlType.LONG) {
+                return "is a generated id which isn't an int or a long";
+            }
+            if (dialect.isSqlite()) {
+                // SQLite requires "INTEGER PRIMARY KEY AUTOINCREMENT" for generated ids
+                sb.append("PRIMARY KEY AUTOINCREMENT ");
+            } else {
+                // the primary key is added at the end of the table
+                sb.append("AUTO_INCREMENT ");
+            }
+        }
+        if (!field.isGeneratedId()) {
+            if (field.getDefaultValue() != null) {
+                if (field.getFormat() != null) {
+                    return "has a default value with a format";
+                }
+                Object defaultValue;
+                try {
+                    defaultValue = converter.parseDefaultString(null, field.getDefaultValue());
+                } catch (Exception e) {
+                    return "has a default value which can only be parsed at runtime";
+                }
+                sb.append("DEFAULT ");
+                if (persister.isEscapedDefaultValue()) {
+                    databaseType.appendEscapedWord(sb, defaultValue.toString());
+                } else {
+                    sb.append(defaultValue);
+                }
+                sb.append(' ');
+            }
+            if (!field.isCanBeNull()) {
+                sb.append("NOT NULL ");
+            }
+            if (field.isUnique()) {
+                StringBuilder unique = new StringBuilder();
+                unique.append(" UNIQUE (");
+                databaseType.appendEscapedEntityName(unique, field.getEffectiveColumnName());
+                unique.append(")");
+                additionalArgs.add(unique.toString());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Appends the SQL type of the column, returns false if the database doesn't have one for the type.
+     */
+    private boolean appendType(StringBuilder sb, SqlType sqlType, SqlType storedType, boolean generatedId, int width) {
+        boolean android = dialect == Dialect.SQLITE_ANDROID;
+        boolean postgres = dialect == Dialect.POSTGRES;
+        switch (sqlType) {
+            case STRING:
+                appendStringType(sb, width);
+                break;
+            case LONG_STRING:
+                sb.append("TEXT");
+                break;
+            case BOOLEAN:
+                // Android and H2 store booleans as numbers
+                if (android) {
+                    sb.append("SMALLINT");
+                } else if (dialect == Dialect.H2) {
+                    sb.append("TINYINT(1)");
+                } else {
+                    sb.append("BOOLEAN");
+                }
+                break;
+            case DATE:
+                // Android stores dates as strings
+                if (android) {
+                    appendStringType(sb, width);
+                } else {
+                    sb.append("TIMESTAMP");
+                }
+                break;
+            case CHAR:
+                sb.append("CHAR");
+                break;
+            case BYTE:
+                // Postgres has no single byte type
+                sb.append(postgres ? "SMALLINT" : "TINYINT");
+                break;
+            case BYTE_ARRAY:
+            case SERIALIZABLE:
+                sb.append(postgres ? "BYTEA" : "BLOB");
+                break;
+            case SHORT:
+                sb.append("SMALLINT");
+                break;
+            case INTEGER:
+                sb.append("INTEGER");
+                break;
+            case LONG:
+                sb.append(dialect.isSqlite() && storedType == SqlType.LONG && generatedId ? "INTEGER" : "BIGINT");
+                break;
+            case FLOAT:
+                sb.append("FLOAT");
+                break;
+            case DOUBLE:
+                sb.append("DOUBLE PRECISION");
+                break;
+            case BIG_DECIMAL:
+                sb.append("NUMERIC");
+                break;
+            default:
+                return false;
+        }
+        return true;
+    }
+
+    private void appendStringType(StringBuilder sb, int width) {
+        if (databaseType.isVarcharFieldWidthSupported()) {
+            sb.append("VARCHAR(").append(width).append(")");
+        } else {
+            sb.append("VARCHAR");
+        }
+    }
+
+    /**
+     * Adds the {@code CREATE INDEX} statements of the table by the name of their constant, with the columns in the
+     * order of the fields.
+     */
+    private void addIndexes(Map<String, String> indexes, TableBindings table, boolean unique) {
+        Map<String, List<String>> indexColumns = new LinkedHashMap<String, List<String>>();
+        for (FieldBindings field : table.getColumnFields()) {
+            String indexName = unique ? field.getUniqueIndexName(table.getTableName()) : field.getIndexName(table.getTableName());
+            if (indexName == null) {
+                continue;
+            }
+            List<String> columns = indexColumns.get(indexName);
+            if (columns == null) {
+                columns = new ArrayList<String>();
+                indexColumns.put(indexName, columns);
+            }
+            columns.add(field.getEffectiveColumnName());
+        }
+
+        for (Map.Entry<String, List<String>> index : indexColumns.entrySet()) {
+            StringBuilder sb = new StringBuilder(128);
+            sb.append("CREATE ");
+            if (unique) {
+                sb.append("UNIQUE ");
+            }
+            sb.append("INDEX ");
+            databaseType.appendEscapedEntityName(sb, index.getKey());
+            sb.append(" ON ");
+            databaseType.appendEscapedEntityName(sb, table.getTableName());
+            sb.append(" ( ");
+            for (int i = 0; i < index.getValue().size(); i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                databaseType.appendEscapedEntityName(sb, index.getValue().get(i));
+            }
+            sb.append(" )");
+            indexes.put("CREATE_INDEX_" + toConstantName(index.getKey().replaceAll("[^A-Za-z0-9_]", "_")), sb.toString());
+        }
+    }
+}
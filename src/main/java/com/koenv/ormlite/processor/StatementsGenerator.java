@@ -0,0 +1,1115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DataPersister;
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.FieldConverter;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import com.squareup.javapoet.*;
+
+import javax.annotation.processing.Messager;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+/**
+ * Generates the {@code $$Statements} class of a table, which contains the SQL of the statements a DAO would build at
+ * runtime and methods which run them by binding the fields of an object directly, without a mapped statement.
+ * <p>
+ * The SQL is the same as OrmLite builds for the database type, including the spacing. The statements are only
+ * generated for tables which also have a row mapper, and only if none of the columns needs something OrmLite does at
+ * runtime while writing, such as creating foreign objects or inserting generated ids.
+ */
+class StatementsGenerator extends Generator {
+    public static final String SUFFIX = "$$Statements";
+    public static final String CHANGE_TRACKER_SUFFIX = "$$ChangeTracker";
+
+    private static final ClassName STATEMENT_TYPE = ClassName.get(StatementBuilder.StatementType.class);
+    private static final List<String> FINDER_LOCALS = Arrays.asList("connectionSource", "connection", "statement", "results", "list", "rowMapper");
+
+    private final DatabaseType databaseType;
+    private final Dialect dialect;
+    private final Messager messager;
+    private final DateStringPersisterGenerator dateStringPersisterGenerator;
+
+    public StatementsGenerator(Types typeUtils, Elements elementUtils, DatabaseType databaseType, Dialect dialect, Messager messager, DateStringPersisterGenerator dateStringPersisterGenerator) {
+        super(typeUtils, elementUtils);
+        this.databaseType = databaseType;
+        this.dialect = dialect;
+        this.messager = messager;
+        this.dateStringPersisterGenerator = dateStringPersisterGenerator;
+    }
+
+    /**
+     * Returns the generated statements of the table or null if one of its fields can't be written by generated code.
+     *
+     * @param tables All tables in this round by their qualified name, used to write the ids of foreign fields.
+     */
+    public JavaFile generate(TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName statementsName = table.getGeneratedClassName(SUFFIX);
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        ClassName rowMapperName = table.getGeneratedClassName(RowMapperGenerator.SUFFIX);
+
+        FieldBindings idField = table.getIdField();
+        TypeMirror idTypeMirror = idField == null ? null : getFieldTypeMirror(table.getElement(), idField.getElement());
+        String idName = idField == null ? null : idField.getElement().getSimpleName().toString();
+        FieldBindings versionField = null;
+
+        List<FieldBindings> updateFields = new ArrayList<FieldBindings>();
+        for (FieldBindings field : table.getColumnFields()) {
+            String unsupported = null;
+            if (field.isAllowGeneratedIdInsert()) {
+                unsupported = "allows inserting generated ids";
+            } else if (field.isForeignAutoCreate()) {
+                unsupported = "creates foreign objects";
+            } else if (field.isVersion() && !isIncrementable(field, getFieldTypeMirror(table.getElement(), field.getElement()))) {
+                unsupported = "is a version field which isn't an int or a long";
+            } else if (field == idField && field.isGeneratedId() && !isSelfGeneratedId(field, idTypeMirror) && !isRowId(field, idTypeMirror)) {
+                unsupported = "is a generated id which isn't an int, a long or a UUID";
+            } else if (field == idField && field.isGeneratedId() && !isSelfGeneratedId(field, idTypeMirror) && dialect.getLastInsertIdQuery() == null) {
+                unsupported = "is a generated id which " + databaseType.getDatabaseName() + " takes from a sequence";
+            }
+            if (unsupported != null) {
+                note(modelName, field, unsupported);
+                return null;
+            }
+            if (field.isVersion() && !field.isReadOnly()) {
+                versionField = field;
+            }
+            if (field != idField && !field.isReadOnly()) {
+                updateFields.add(field);
+            }
+        }
+        List<FieldBindings> createFields = getCreateFields(table);
+
+        TypeSpec.Builder statementsBuilder = classBuilder(statementsName, table, tables);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("INSERT INTO ");
+        appendTableName(sb, table);
+        if (createFields.isEmpty()) {
+            databaseType.appendInsertNoColumns(sb);
+        } else {
+            sb.append('(');
+            for (int i = 0; i < createFields.size(); i++) {
+                if (i > 0) {
+                    sb.append(",");
+                }
+                appendColumnName(sb, createFields.get(i));
+            }
+            sb.append(") VALUES (");
+            for (int i = 0; i < createFields.size(); i++) {
+                if (i > 0) {
+                    sb.append(",");
+                }
+                sb.append("?");
+            }
+            sb.append(")");
+        }
+        addConstant(statementsBuilder, "INSERT", sb.toString());
+
+        boolean canUpdate = idField != null && !updateFields.isEmpty();
+        if (canUpdate) {
+            sb = new StringBuilder();
+            sb.append("UPDATE ");
+            appendTableName(sb, table);
+            for (int i = 0; i < updateFields.size(); i++) {
+                sb.append(i == 0 ? "SET " : ", ");
+                appendColumnName(sb, updateFields.get(i));
+                sb.append("= ?");
+            }
+            sb.append(' ');
+            appendWhereId(sb, idField);
+            if (versionField != null) {
+                sb.append(" AND ");
+                appendColumnName(sb, versionField);
+                sb.append("= ?");
+            }
+            addConstant(statementsBuilder, "UPDATE_BY_ID", sb.toString());
+        }
+
+        if (idField != null) {
+            sb = new StringBuilder();
+            sb.append("DELETE FROM ");
+            appendTableName(sb, table);
+            appendWhereId(sb, idField);
+            addConstant(statementsBuilder, "DELETE_BY_ID", sb.toString());
+
+            sb = new StringBuilder();
+            sb.append("SELECT * FROM ");
+            appendTableName(sb, table);
+            appendWhereId(sb, idField);
+            addConstant(statementsBuilder, "SELECT_BY_ID", sb.toString());
+
+            // pages are read by id, so a page starts after the last row of the previous page without an offset
+            sb = new StringBuilder();
+            sb.append("SELECT * FROM ");
+            appendTableName(sb, table);
+            appendOrderByIdLimit(sb, idField);
+            addConstant(statementsBuilder, "SELECT_FIRST_PAGE", sb.toString());
+
+            sb = new StringBuilder();
+            sb.append("SELECT * FROM ");
+            appendTableName(sb, table);
+            sb.append("WHERE ");
+            appendColumnName(sb, idField);
+            sb.append("> ? ");
+            appendOrderByIdLimit(sb, idField);
+            addConstant(statementsBuilder, "SELECT_PAGE", sb.toString());
+        }
+
+        sb = new StringBuilder();
+        sb.append("SELECT * FROM ");
+        appendTableName(sb, table);
+        addConstant(statementsBuilder, "SELECT_ALL", sb.toString());
+
+        statementsBuilder.addField(FieldSpec.builder(FieldType[].class, "NO_FIELD_TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[0]", FieldType.class)
+                .build());
+
+        statementsBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PRIVATE)
+                .build());
+
+        MethodSpec.Builder bindInsertBuilder = MethodSpec.methodBuilder("bindInsert")
+                .addJavadoc("Binds the values of the object to the arguments of $L, starting at the given index.\n", "INSERT")
+                .addJavadoc("Returns the index after the last bound argument, so multiple objects can be bound to a single statement.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(TypeName.INT)
+                .addParameter(CompiledStatement.class, "statement")
+                .addParameter(TypeName.INT, "index")
+                .addParameter(modelName, "model")
+                .addException(SQLException.class);
+        for (FieldBindings field : createFields) {
+            CodeBlock value;
+            if (field == versionField && !TypeName.get(getFieldTypeMirror(table.getElement(), field.getElement())).isPrimitive()) {
+                // OrmLite starts null versions at 1
+                String getter = "get" + capitalize(field.getElement().getSimpleName().toString());
+                value = CodeBlock.builder().add("$T.$L(model) == null ? 1 : $T.$L(model)", accessorName, getter, accessorName, getter).build();
+            } else {
+                value = CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(field.getElement().getSimpleName().toString())).build();
+            }
+            CodeBlock bind = bindValue(table, field, "index++", value, tables);
+            if (bind == null) {
+                note(modelName, field, "can't be written by generated code");
+                return null;
+            }
+            bindInsertBuilder.addCode(bind);
+        }
+        bindInsertBuilder.addStatement("return index");
+        statementsBuilder.addMethod(bindInsertBuilder.build());
+
+        MethodSpec.Builder insertBuilder = methodBuilder("insert", TypeName.INT)
+                .addParameter(modelName, "model");
+        beginConnection(insertBuilder, "INSERT", "getReadWriteConnection");
+        if (idField != null && idField.isGeneratedId() && isSelfGeneratedId(idField, idTypeMirror)) {
+            insertBuilder.addStatement("$T.set$L(model, $T.randomUUID())", accessorName, capitalize(idName), UUID.class);
+        }
+        insertBuilder.addStatement("bindInsert(statement, 0, model)");
+        insertBuilder.addStatement("int rows = statement.runUpdate()");
+        boolean rowId = idField != null && idField.isGeneratedId() && !isSelfGeneratedId(idField, idTypeMirror);
+        boolean nullVersion = versionField != null && !TypeName.get(getFieldTypeMirror(table.getElement(), versionField.getElement())).isPrimitive();
+        if (rowId || nullVersion) {
+            insertBuilder.beginControlFlow("if (rows > 0)");
+            if (rowId) {
+                String cast = box(TypeName.get(idTypeMirror)).equals(ClassName.get(Integer.class)) ? "(int) " : "";
+                insertBuilder.addStatement("$T.set$L(model, $Lconnection.queryForLong($S))", accessorName, capitalize(idName), cast, dialect.getLastInsertIdQuery());
+            }
+            if (nullVersion) {
+                String versionName = capitalize(versionField.getElement().getSimpleName().toString());
+                insertBuilder.beginControlFlow("if ($T.get$L(model) == null)", accessorName, versionName);
+                insertBuilder.addStatement("$T.set$L(model, 1$L)", accessorName, versionName, isLong(versionField) ? "L" : "");
+                insertBuilder.endControlFlow();
+            }
+            insertBuilder.endControlFlow();
+        }
+        insertBuilder.addStatement("return rows");
+        endConnection(insertBuilder);
+        statementsBuilder.addMethod(insertBuilder.build());
+
+        if (idField == null) {
+            addFinders(statementsBuilder, table, tables);
+            addQueryForAll(statementsBuilder, modelName, rowMapperName);
+            return JavaFile.builder(statementsName.packageName(), statementsBuilder.build()).build();
+        }
+
+        TypeName idType = TypeName.get(idTypeMirror);
+        CodeBlock idBind = bindValue(table, idField, "0", CodeBlock.builder().add("id").build(), tables);
+        if (idBind == null) {
+            note(modelName, idField, "can't be written by generated code");
+            return null;
+        }
+
+        if (canUpdate) {
+            MethodSpec.Builder updateBuilder = methodBuilder("update", TypeName.INT)
+                    .addParameter(modelName, "model");
+            TypeName versionType = null;
+            String versionName = null;
+            if (versionField != null) {
+                versionType = TypeName.get(getFieldTypeMirror(table.getElement(), versionField.getElement()));
+                versionName = capitalize(versionField.getElement().getSimpleName().toString());
+                updateBuilder.addStatement("$T version = $T.get$L(model)", versionType, accessorName, versionName);
+                if (versionType.isPrimitive()) {
+                    updateBuilder.addStatement("$T newVersion = version + 1", versionType);
+                } else {
+                    updateBuilder.addStatement("$T newVersion = version == null ? 1$L : version + 1", versionType, isLong(versionField) ? "L" : "");
+                }
+            }
+            beginConnection(updateBuilder, "UPDATE_BY_ID", "getReadWriteConnection");
+            updateBuilder.addStatement("int index = 0");
+            for (FieldBindings field : updateFields) {
+                CodeBlock value;
+                if (field == versionField) {
+                    value = CodeBlock.builder().add("newVersion").build();
+                } else {
+                    value = CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(field.getElement().getSimpleName().toString())).build();
+                }
+                CodeBlock bind = bindValue(table, field, "index++", value, tables);
+                if (bind == null) {
+                    note(modelName, field, "can't be written by generated code");
+                    return null;
+                }
+                updateBuilder.addCode(bind);
+            }
+            updateBuilder.addCode(bindValue(table, idField, "index++", CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(idName)).build(), tables));
+            if (versionField != null) {
+                updateBuilder.addCode(bindValue(table, versionField, "index", CodeBlock.builder().add("version").build(), tables));
+            }
+            updateBuilder.addStatement("int rows = statement.runUpdate()");
+            if (versionField != null) {
+                updateBuilder.beginControlFlow("if (rows > 0)");
+                updateBuilder.addStatement("$T.set$L(model, newVersion)", accessorName, versionName);
+                updateBuilder.endControlFlow();
+            }
+            updateBuilder.addStatement("return rows");
+            endConnection(updateBuilder);
+            statementsBuilder.addMethod(updateBuilder.build());
+        }
+
+        MethodSpec.Builder deleteBuilder = methodBuilder("deleteById", TypeName.INT)
+                .addParameter(idType, "id");
+        beginConnection(deleteBuilder, "DELETE_BY_ID", "getReadWriteConnection");
+        deleteBuilder.addCode(idBind);
+        deleteBuilder.addStatement("return statement.runUpdate()");
+        endConnection(deleteBuilder);
+        statementsBuilder.addMethod(deleteBuilder.build());
+
+        MethodSpec.Builder queryForIdBuilder = methodBuilder("queryForId", modelName)
+                .addJavadoc("Returns the object with the id or null if there is none.\n")
+                .addParameter(idType, "id");
+        beginConnection(queryForIdBuilder, "SELECT_BY_ID", "getReadOnlyConnection");
+        queryForIdBuilder.addCode(idBind);
+        addReadFirst(queryForIdBuilder, rowMapperName);
+        endConnection(queryForIdBuilder);
+        statementsBuilder.addMethod(queryForIdBuilder.build());
+
+        addFinders(statementsBuilder, table, tables);
+        addQueryForAll(statementsBuilder, modelName, rowMapperName);
+        addPages(statementsBuilder, table, tables);
+
+        return JavaFile.builder(statementsName.packageName(), statementsBuilder.build()).build();
+    }
+
+    /**
+     * Returns the generated change tracker of the table or null if the table has no columns to update. The change
+     * tracker remembers the values of the columns of an object and only updates the columns which changed, so it is only
+     * generated for tables of which the statements are generated as well.
+     *
+     * @param tables All tables in this round by their qualified name, used to write the ids of foreign fields.
+     */
+    public JavaFile generateChangeTracker(TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName trackerName = table.getGeneratedClassName(CHANGE_TRACKER_SUFFIX);
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+
+        FieldBindings idField = table.getIdField();
+        FieldBindings versionField = null;
+        List<FieldBindings> trackedFields = new ArrayList<FieldBindings>();
+        for (FieldBindings field : table.getColumnFields()) {
+            if (field == idField || field.isReadOnly()) {
+                continue;
+            }
+            if (field.isVersion()) {
+                // the version is written with every update, so it isn't tracked
+                versionField = field;
+            } else {
+                trackedFields.add(field);
+            }
+        }
+        if (idField == null || trackedFields.isEmpty()) {
+            messager.printMessage(
+                    Diagnostic.Kind.WARNING,
+                    String.format("No change tracker is generated for %s, because it doesn't have an id and columns to update", modelName),
+                    table.getElement()
+            );
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("UPDATE ");
+        appendTableName(sb, table);
+        sb.append("SET ");
+        String prefix = sb.toString();
+
+        sb = new StringBuilder();
+        sb.append(' ');
+        appendWhereId(sb, idField);
+        if (versionField != null) {
+            sb.append(" AND ");
+            appendColumnName(sb, versionField);
+            sb.append("= ?");
+        }
+        String where = sb.toString();
+
+        TypeSpec.Builder trackerBuilder = classBuilder(trackerName, table, tables);
+
+        trackerBuilder.addField(FieldSpec.builder(String.class, "UPDATE_PREFIX", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", prefix)
+                .build());
+        trackerBuilder.addField(FieldSpec.builder(String.class, "WHERE_ID", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", where)
+                .build());
+        trackerBuilder.addField(FieldSpec.builder(FieldType[].class, "NO_FIELD_TYPES", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer("new $T[0]", FieldType.class)
+                .build());
+        trackerBuilder.addField(modelName, "model", Modifier.PRIVATE, Modifier.FINAL);
+
+        MethodSpec.Builder resetBuilder = MethodSpec.methodBuilder("reset")
+                .addJavadoc("Remembers the current values of the columns of the object, so only columns which change after this are updated.\n")
+                .addJavadoc("Call this after the object was read or written in another way.\n")
+                .addModifiers(Modifier.PUBLIC);
+        MethodSpec.Builder updateBuilder = MethodSpec.methodBuilder("update")
+                .addJavadoc("Updates the columns which changed since the object was tracked or last updated. Returns 0 without\n")
+                .addJavadoc("running a statement if nothing changed.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(TypeName.INT)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addException(SQLException.class);
+        List<MethodSpec> helpers = new ArrayList<MethodSpec>();
+        CodeBlock.Builder unchanged = CodeBlock.builder();
+        boolean needsChanged = false;
+        boolean needsDateCopy = false;
+        boolean needsBytesCopy = false;
+
+        for (FieldBindings field : trackedFields) {
+            String name = field.getElement().getSimpleName().toString();
+            TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+            TypeName type = TypeName.get(typeMirror);
+            CodeBlock value = CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(name)).build();
+
+            TypeName snapshotType = type;
+            CodeBlock snapshot = value;
+            CodeBlock current = value;
+            if (field.isForeign() || field.isForeignAutoRefresh()) {
+                // foreign objects are compared by their id, which is what is written to the column
+                TableBindings foreignTable = getForeignTable(typeMirror, tables);
+                FieldBindings foreignIdField = foreignTable.getIdField();
+                String foreignIdName = foreignIdField.getElement().getSimpleName().toString();
+                snapshotType = box(TypeName.get(getFieldTypeMirror(foreignTable.getElement(), foreignIdField.getElement())));
+                helpers.add(MethodSpec.methodBuilder("get" + capitalize(name) + "Id")
+                        .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                        .returns(snapshotType)
+                        .addParameter(modelName, "model")
+                        .addStatement("$T value = $L", type, value)
+                        .addStatement("return value == null ? null : $T.get$L(value)",
+                                foreignTable.getGeneratedClassName(AccessorGenerator.SUFFIX), capitalize(foreignIdName))
+                        .build());
+                snapshot = CodeBlock.builder().add("get$LId(model)", capitalize(name)).build();
+                current = snapshot;
+            } else if (type.equals(ClassName.get(Date.class))) {
+                // dates and byte arrays can be changed without setting the field, so a copy is remembered
+                snapshot = CodeBlock.builder().add("copy($L)", value).build();
+                needsDateCopy = true;
+            } else if (type.equals(TypeName.get(byte[].class))) {
+                snapshot = CodeBlock.builder().add("copy($L)", value).build();
+                needsBytesCopy = true;
+            }
+            // the snapshots are suffixed, so they can't collide with the tracked model or the locals of update
+            String snapshotName = name + "Snapshot";
+            trackerBuilder.addField(snapshotType, snapshotName, Modifier.PRIVATE);
+            resetBuilder.addStatement("$L = $L", snapshotName, snapshot);
+
+            if (type.equals(TypeName.FLOAT)) {
+                updateBuilder.addStatement("boolean $LChanged = $T.compare($L, $L) != 0", name, Float.class, snapshotName, current);
+            } else if (type.equals(TypeName.DOUBLE)) {
+                updateBuilder.addStatement("boolean $LChanged = $T.compare($L, $L) != 0", name, Double.class, snapshotName, current);
+            } else if (type.isPrimitive()) {
+                updateBuilder.addStatement("boolean $LChanged = $L != $L", name, snapshotName, current);
+            } else if (type.equals(TypeName.get(byte[].class))) {
+                updateBuilder.addStatement("boolean $LChanged = !$T.equals($L, $L)", name, Arrays.class, snapshotName, current);
+            } else {
+                updateBuilder.addStatement("boolean $LChanged = changed($L, $L)", name, snapshotName, current);
+                needsChanged = true;
+            }
+            unchanged.add(field == trackedFields.get(0) ? "!$LChanged" : " && !$LChanged", name);
+        }
+
+        trackerBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addJavadoc("Tracks the changes of the object from now on.\n")
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(modelName, "model")
+                .addStatement("this.model = model")
+                .addStatement("reset()")
+                .build());
+        trackerBuilder.addMethod(MethodSpec.methodBuilder("getModel")
+                .addModifiers(Modifier.PUBLIC)
+                .returns(modelName)
+                .addStatement("return model")
+                .build());
+        trackerBuilder.addMethod(resetBuilder.build());
+
+        updateBuilder.beginControlFlow("if ($L)", unchanged.build());
+        updateBuilder.addStatement("return 0");
+        updateBuilder.endControlFlow();
+        TypeName versionType = null;
+        String versionName = null;
+        if (versionField != null) {
+            versionType = TypeName.get(getFieldTypeMirror(table.getElement(), versionField.getElement()));
+            versionName = capitalize(versionField.getElement().getSimpleName().toString());
+            updateBuilder.addStatement("$T version = $T.get$L(model)", versionType, accessorName, versionName);
+            if (versionType.isPrimitive()) {
+                updateBuilder.addStatement("$T newVersion = version + 1", versionType);
+            } else {
+                updateBuilder.addStatement("$T newVersion = version == null ? 1$L : version + 1", versionType, isLong(versionField) ? "L" : "");
+            }
+        }
+        updateBuilder.addStatement("$T sql = new $T(UPDATE_PREFIX)", StringBuilder.class, StringBuilder.class);
+        for (FieldBindings field : trackedFields) {
+            sb = new StringBuilder();
+            appendColumnName(sb, field);
+            sb.append("= ?, ");
+            updateBuilder.beginControlFlow("if ($LChanged)", field.getElement().getSimpleName());
+            updateBuilder.addStatement("sql.append($S)", sb.toString());
+            updateBuilder.endControlFlow();
+        }
+        if (versionField != null) {
+            sb = new StringBuilder();
+            appendColumnName(sb, versionField);
+            sb.append("= ?, ");
+            updateBuilder.addStatement("sql.append($S)", sb.toString());
+        }
+        updateBuilder.addStatement("sql.setLength(sql.length() - 2)");
+        updateBuilder.addStatement("sql.append(WHERE_ID)");
+
+        beginConnection(updateBuilder, "sql.toString()", "getReadWriteConnection");
+        updateBuilder.addStatement("int index = 0");
+        for (FieldBindings field : trackedFields) {
+            String name = field.getElement().getSimpleName().toString();
+            CodeBlock bind = bindValue(table, field, "index++", CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(name)).build(), tables);
+            updateBuilder.beginControlFlow("if ($LChanged)", name);
+            updateBuilder.addCode(bind);
+            updateBuilder.endControlFlow();
+        }
+        if (versionField != null) {
+            updateBuilder.addCode(bindValue(table, versionField, "index++", CodeBlock.builder().add("newVersion").build(), tables));
+        }
+        updateBuilder.addCode(bindValue(table, idField, "index++", CodeBlock.builder().add("$T.get$L(model)", accessorName, capitalize(idField.getElement().getSimpleName().toString())).build(), tables));
+        if (versionField != null) {
+            updateBuilder.addCode(bindValue(table, versionField, "index", CodeBlock.builder().add("version").build(), tables));
+        }
+        updateBuilder.addStatement("int rows = statement.runUpdate()");
+        updateBuilder.beginControlFlow("if (rows > 0)");
+        if (versionField != null) {
+            updateBuilder.addStatement("$T.set$L(model, newVersion)", accessorName, versionName);
+        }
+        updateBuilder.addStatement("reset()");
+        updateBuilder.endControlFlow();
+        updateBuilder.addStatement("return rows");
+        endConnection(updateBuilder);
+        trackerBuilder.addMethod(updateBuilder.build());
+
+        for (MethodSpec helper : helpers) {
+            trackerBuilder.addMethod(helper);
+        }
+        if (needsChanged) {
+            trackerBuilder.addMethod(MethodSpec.methodBuilder("changed")
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                    .returns(TypeName.BOOLEAN)
+                    .addParameter(Object.class, "snapshot")
+                    .addParameter(Object.class, "value")
+                    .addStatement("return snapshot == null ? value != null : !snapshot.equals(value)")
+                    .build());
+        }
+        if (needsDateCopy) {
+            trackerBuilder.addMethod(MethodSpec.methodBuilder("copy")
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                    .returns(Date.class)
+                    .addParameter(Date.class, "value")
+                    .addStatement("return value == null ? null : new $T(value.getTime())", Date.class)
+                    .build());
+        }
+        if (needsBytesCopy) {
+            trackerBuilder.addMethod(MethodSpec.methodBuilder("copy")
+                    .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                    .returns(byte[].class)
+                    .addParameter(byte[].class, "value")
+                    .addStatement("return value == null ? null : value.clone()")
+                    .build());
+        }
+
+        return JavaFile.builder(trackerName.packageName(), trackerBuilder.build()).build();
+    }
+
+    private void addQueryForAll(TypeSpec.Builder statementsBuilder, ClassName modelName, ClassName rowMapperName) {
+        MethodSpec.Builder queryForAllBuilder = methodBuilder("queryForAll", ParameterizedTypeName.get(ClassName.get(List.class), modelName));
+        beginConnection(queryForAllBuilder, "SELECT_ALL", "getReadOnlyConnection");
+        addReadList(queryForAllBuilder, modelName, rowMapperName);
+        endConnection(queryForAllBuilder);
+        statementsBuilder.addMethod(queryForAllBuilder.build());
+    }
+
+    /**
+     * Adds {@code queryPage}, which reads the objects after an id ordered by id, and {@code iterateAll}, which iterates
+     * over the whole table by reading one page at a time. Unlike {@code queryForAll}, only a single page is kept in
+     * memory and no connection or cursor is held between the pages, so large tables can be read with bounded memory.
+     */
+    private void addPages(TypeSpec.Builder statementsBuilder, TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName accessorName = table.getGeneratedClassName(AccessorGenerator.SUFFIX);
+        ClassName rowMapperName = table.getGeneratedClassName(RowMapperGenerator.SUFFIX);
+        FieldBindings idField = table.getIdField();
+        TypeName idType = box(TypeName.get(getFieldTypeMirror(table.getElement(), idField.getElement())));
+        TypeName listOfModels = ParameterizedTypeName.get(ClassName.get(List.class), modelName);
+
+        MethodSpec.Builder queryPageBuilder = methodBuilder("queryPage", listOfModels)
+                .addJavadoc("Returns at most {@code pageSize} objects ordered by id of which the id is greater than {@code afterId}, or\n")
+                .addJavadoc("the first objects if it is null. The next page starts after the id of the last object of this page.\n")
+                .addParameter(idType, "afterId")
+                .addParameter(TypeName.INT, "pageSize");
+        queryPageBuilder.addStatement("$T connection = connectionSource.getReadOnlyConnection()", DatabaseConnection.class);
+        queryPageBuilder.beginControlFlow("try");
+        queryPageBuilder.addStatement("$T statement = connection.compileStatement(afterId == null ? SELECT_FIRST_PAGE : SELECT_PAGE, $T.SELECT, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                CompiledStatement.class, STATEMENT_TYPE, DatabaseConnection.class);
+        queryPageBuilder.beginControlFlow("try");
+        queryPageBuilder.addStatement("int index = 0");
+        queryPageBuilder.beginControlFlow("if (afterId != null)");
+        queryPageBuilder.addCode(bindValue(table, idField, "index++", CodeBlock.builder().add("afterId").build(), tables));
+        queryPageBuilder.endControlFlow();
+        queryPageBuilder.addStatement("statement.setObject(index, pageSize, $T.$L)", SqlType.class, SqlType.INTEGER);
+        addReadList(queryPageBuilder, modelName, rowMapperName);
+        endConnection(queryPageBuilder);
+        statementsBuilder.addMethod(queryPageBuilder.build());
+
+        TypeSpec iterator = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(ParameterizedTypeName.get(ClassName.get(Iterator.class), modelName))
+                .addField(FieldSpec.builder(listOfModels, "page", Modifier.PRIVATE)
+                        .initializer("$T.emptyList()", Collections.class)
+                        .build())
+                .addField(TypeName.INT, "index", Modifier.PRIVATE)
+                .addField(idType, "lastId", Modifier.PRIVATE)
+                .addField(TypeName.BOOLEAN, "lastPage", Modifier.PRIVATE)
+                .addMethod(MethodSpec.methodBuilder("hasNext")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(TypeName.BOOLEAN)
+                        .beginControlFlow("if (index < page.size())")
+                        .addStatement("return true")
+                        .endControlFlow()
+                        .beginControlFlow("if (lastPage)")
+                        .addStatement("return false")
+                        .endControlFlow()
+                        .beginControlFlow("try")
+                        .addStatement("page = queryPage(connectionSource, lastId, pageSize)")
+                        .addCode("$<} catch ($T e) {\n$>", SQLException.class)
+                        .addStatement("throw new $T($S + $T.class, e)", IllegalStateException.class, "Errors getting more results of ", modelName)
+                        .endControlFlow()
+                        .addStatement("index = 0")
+                        .addStatement("lastPage = page.size() < pageSize")
+                        .beginControlFlow("if (page.isEmpty())")
+                        .addStatement("return false")
+                        .endControlFlow()
+                        .addStatement("lastId = $T.get$L(page.get(page.size() - 1))", accessorName, capitalize(idField.getElement().getSimpleName().toString()))
+                        .addStatement("return true")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("next")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .returns(modelName)
+                        .beginControlFlow("if (!hasNext())")
+                        .addStatement("throw new $T()", NoSuchElementException.class)
+                        .endControlFlow()
+                        .addStatement("return page.get(index++)")
+                        .build())
+                .addMethod(MethodSpec.methodBuilder("remove")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addStatement("throw new $T()", UnsupportedOperationException.class)
+                        .build())
+                .build();
+        statementsBuilder.addMethod(MethodSpec.methodBuilder("iterateAll")
+                .addJavadoc("Returns an iterator over all objects ordered by id, which reads {@code pageSize} objects at a time with\n")
+                .addJavadoc("{@link #queryPage}. The connection is released after every page, so objects inserted while iterating\n")
+                .addJavadoc("may be returned if their id is greater than the id of the last returned object.\n")
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(ParameterizedTypeName.get(ClassName.get(Iterator.class), modelName))
+                .addParameter(ConnectionSource.class, "connectionSource", Modifier.FINAL)
+                .addParameter(TypeName.INT, "pageSize", Modifier.FINAL)
+                .beginControlFlow("if (pageSize < 1)")
+                .addStatement("throw new $T($S)", IllegalArgumentException.class, "The page size must be at least 1")
+                .endControlFlow()
+                .addStatement("return $L", iterator)
+                .build());
+    }
+
+    /**
+     * Adds a finder for every index of the table, which selects the objects of which the columns of the index are equal
+     * to the arguments. The finders of unique indexes and unique columns return a single object, the finders of other
+     * indexes return a list. The id isn't included, as it is read with {@code queryForId}.
+     */
+    private void addFinders(TypeSpec.Builder statementsBuilder, TableBindings table, Map<String, TableBindings> tables) {
+        ClassName modelName = table.getClassName();
+        ClassName rowMapperName = table.getGeneratedClassName(RowMapperGenerator.SUFFIX);
+
+        // the columns of every index with whether it is unique, which are found the same way as the indexes are created
+        Map<List<FieldBindings>, Boolean> indexes = new LinkedHashMap<List<FieldBindings>, Boolean>();
+        addIndexes(indexes, table, true);
+        for (FieldBindings field : table.getColumnFields()) {
+            if (field.isUnique() && !indexes.containsKey(Collections.singletonList(field))) {
+                indexes.put(Collections.singletonList(field), true);
+            }
+        }
+        addIndexes(indexes, table, false);
+
+        for (Map.Entry<List<FieldBindings>, Boolean> index : indexes.entrySet()) {
+            List<FieldBindings> fields = index.getKey();
+            boolean unique = index.getValue();
+            if (fields.size() == 1 && fields.get(0) == table.getIdField()) {
+                continue;
+            }
+
+            StringBuilder name = new StringBuilder();
+            StringBuilder sb = new StringBuilder();
+            sb.append("SELECT * FROM ");
+            appendTableName(sb, table);
+            sb.append("WHERE ");
+            for (int i = 0; i < fields.size(); i++) {
+                if (i > 0) {
+                    name.append("And");
+                    sb.append("AND ");
+                }
+                name.append(capitalize(fields.get(i).getElement().getSimpleName().toString()));
+                appendColumnName(sb, fields.get(i));
+                sb.append("= ?");
+                if (i < fields.size() - 1) {
+                    sb.append(' ');
+                }
+            }
+            String sql = "SELECT_BY_" + toConstantName(name.toString());
+
+            MethodSpec.Builder finderBuilder = methodBuilder("findBy" + name, unique ? modelName : ParameterizedTypeName.get(ClassName.get(List.class), modelName));
+            if (unique) {
+                finderBuilder.addJavadoc("Returns the object of which the columns are equal to the arguments or null if there is none.\n");
+            } else {
+                finderBuilder.addJavadoc("Returns the objects of which the columns are equal to the arguments.\n");
+            }
+            CodeBlock.Builder binds = CodeBlock.builder();
+            String unsupported = null;
+            for (int i = 0; i < fields.size() && unsupported == null; i++) {
+                FieldBindings field = fields.get(i);
+                String fieldName = field.getElement().getSimpleName().toString();
+                CodeBlock bind = bindValue(table, field, String.valueOf(i), CodeBlock.builder().add("$L", fieldName).build(), tables);
+                if (FINDER_LOCALS.contains(fieldName)) {
+                    unsupported = String.format("field %s has the name of a local variable", field.getFieldName());
+                } else if (bind == null) {
+                    unsupported = String.format("field %s can't be written by generated code", field.getFieldName());
+                } else {
+                    finderBuilder.addParameter(getFieldType(table.getElement(), field.getElement()), fieldName);
+                    binds.add(bind);
+                }
+            }
+            if (unsupported != null) {
+                messager.printMessage(
+                        Diagnostic.Kind.NOTE,
+                        String.format("No finder findBy%s is generated for %s, because %s", name, modelName, unsupported),
+                        table.getElement()
+                );
+                continue;
+            }
+            addConstant(statementsBuilder, sql, sb.toString());
+            beginConnection(finderBuilder, sql, "getReadOnlyConnection");
+            finderBuilder.addCode(binds.build());
+            if (unique) {
+                addReadFirst(finderBuilder, rowMapperName);
+            } else {
+                addReadList(finderBuilder, modelName, rowMapperName);
+            }
+            endConnection(finderBuilder);
+            statementsBuilder.addMethod(finderBuilder.build());
+        }
+    }
+
+    private static void addIndexes(Map<List<FieldBindings>, Boolean> indexes, TableBindings table, boolean unique) {
+        Map<String, List<FieldBindings>> indexFields = new LinkedHashMap<String, List<FieldBindings>>();
+        for (FieldBindings field : table.getColumnFields()) {
+            String indexName = unique ? field.getUniqueIndexName(table.getTableName()) : field.getIndexName(table.getTableName());
+            if (indexName == null) {
+                continue;
+            }
+            List<FieldBindings> fields = indexFields.get(indexName);
+            if (fields == null) {
+                fields = new ArrayList<FieldBindings>();
+                indexFields.put(indexName, fields);
+            }
+            fields.add(field);
+        }
+        for (List<FieldBindings> fields : indexFields.values()) {
+            if (!indexes.containsKey(fields)) {
+                indexes.put(fields, unique);
+            }
+        }
+    }
+
+    private static void addReadFirst(MethodSpec.Builder builder, ClassName rowMapperName) {
+        builder.addStatement("$T results = statement.runQuery(null)", DatabaseResults.class);
+        builder.beginControlFlow("try");
+        builder.beginControlFlow("if (!results.first())");
+        builder.addStatement("return null");
+        builder.endControlFlow();
+        builder.addStatement("return $T.forResults(results).mapRow(results)", rowMapperName);
+        builder.addCode("$<} finally {\n$>");
+        builder.addStatement("results.close()");
+        builder.endControlFlow();
+    }
+
+    private static void addReadList(MethodSpec.Builder builder, ClassName modelName, ClassName rowMapperName) {
+        TypeName listOfModels = ParameterizedTypeName.get(ClassName.get(List.class), modelName);
+        builder.addStatement("$T results = statement.runQuery(null)", DatabaseResults.class);
+        builder.beginControlFlow("try");
+        builder.addStatement("$T list = new $T()", listOfModels, ParameterizedTypeName.get(ClassName.get(ArrayList.class), modelName));
+        builder.beginControlFlow("if (results.first())");
+        builder.addStatement("$T rowMapper = $T.forResults(results)", rowMapperName, rowMapperName);
+        builder.beginControlFlow("do");
+        builder.addStatement("list.add(rowMapper.mapRow(results))");
+        builder.endControlFlow("while (results.next())");
+        builder.endControlFlow();
+        builder.addStatement("return list");
+        builder.addCode("$<} finally {\n$>");
+        builder.addStatement("results.close()");
+        builder.endControlFlow();
+    }
+
+    private static MethodSpec.Builder methodBuilder(String name, TypeName returnType) {
+        return MethodSpec.methodBuilder(name)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .returns(returnType)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addException(SQLException.class);
+    }
+
+    private static void beginConnection(MethodSpec.Builder builder, String sql, String connectionMethod) {
+        boolean select = connectionMethod.equals("getReadOnlyConnection");
+        builder.addStatement("$T connection = connectionSource.$L()", DatabaseConnection.class, connectionMethod);
+        builder.beginControlFlow("try");
+        builder.addStatement("$T statement = connection.compileStatement($L, $T.$L, NO_FIELD_TYPES, $T.DEFAULT_RESULT_FLAGS)",
+                CompiledStatement.class, sql, STATEMENT_TYPE, select ? "SELECT" : "UPDATE", DatabaseConnection.class);
+        builder.beginControlFlow("try");
+    }
+
+    private static void endConnection(MethodSpec.Builder builder) {
+        builder.addCode("$<} finally {\n$>");
+        builder.addStatement("statement.close()");
+        builder.endControlFlow();
+        builder.addCode("$<} finally {\n$>");
+        builder.addStatement("connectionSource.releaseConnection(connection)");
+        builder.endControlFlow();
+    }
+
+    private static void addConstant(TypeSpec.Builder builder, String name, String sql) {
+        builder.addField(FieldSpec.builder(String.class, name, Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                .initializer("$S", sql)
+                .build());
+    }
+
+    private void appendTableName(StringBuilder sb, TableBindings table) {
+        databaseType.appendEscapedEntityName(sb, table.getTableName());
+        sb.append(' ');
+    }
+
+    private void appendColumnName(StringBuilder sb, FieldBindings field) {
+        databaseType.appendEscapedEntityName(sb, field.getEffectiveColumnName());
+        sb.append(' ');
+    }
+
+    private void appendWhereId(StringBuilder sb, FieldBindings idField) {
+        sb.append("WHERE ");
+        appendColumnName(sb, idField);
+        sb.append("= ?");
+    }
+
+    private void appendOrderByIdLimit(StringBuilder sb, FieldBindings idField) {
+        sb.append("ORDER BY ");
+        appendColumnName(sb, idField);
+        sb.append("LIMIT ?");
+    }
+
+    /**
+     * Returns the statements which bind {@code value}, the value of the field, to the argument at {@code index} of
+     * {@code statement}, converted the same way OrmLite would convert it. Returns null if this isn't possible.
+     */
+    private CodeBlock bindValue(TableBindings table, FieldBindings field, String index, CodeBlock value, Map<String, TableBindings> tables) {
+        String name = field.getElement().getSimpleName().toString();
+        TypeMirror typeMirror = getFieldTypeMirror(table.getElement(), field.getElement());
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        if (field.isForeign() || field.isForeignAutoRefresh() || field.getForeignColumnName() != null) {
+            TableBindings foreignTable = getForeignTable(typeMirror, tables);
+            if (field.getForeignColumnName() != null || foreignTable == null) {
+                return null;
+            }
+            CodeBlock.Builder idCode = CodeBlock.builder();
+            Argument argument = convertForeignId(foreignTable, name, idCode);
+            if (argument == null) {
+                return null;
+            }
+            code.addStatement("$T $LObject = $L", TypeName.get(typeMirror), name, value);
+            code.beginControlFlow("if ($LObject == null)", name);
+            code.addStatement("statement.setObject($L, null, $T.$L)", index, SqlType.class, argument.sqlType);
+            code.add("$<} else {\n$>");
+            code.add(idCode.build());
+            code.addStatement("statement.setObject($L, $L, $T.$L)", index, argument.value, SqlType.class, argument.sqlType);
+            code.endControlFlow();
+            return code.build();
+        }
+
+        Argument argument = convert(field, typeMirror, value, name, code);
+        if (argument == null) {
+            return null;
+        }
+        code.addStatement("statement.setObject($L, $L, $T.$L)", index, argument.value, SqlType.class, argument.sqlType);
+        return code.build();
+    }
+
+    /**
+     * Returns the argument OrmLite would bind for the id of the foreign object in the {@code <name>Object} local, adding
+     * any statements it needs to {@code code}, or null if generated code can't convert the id. Locals declared for the
+     * id are named {@code <name>Value}, like those of other fields, which can't collide because fields have unique names.
+     */
+    Argument convertForeignId(TableBindings foreignTable, String name, CodeBlock.Builder code) {
+        FieldBindings idField = foreignTable.getIdField();
+        String idName = idField.getElement().getSimpleName().toString();
+        TypeMirror idTypeMirror = getFieldTypeMirror(foreignTable.getElement(), idField.getElement());
+        CodeBlock idValue = CodeBlock.builder()
+                .add("$T.get$L($LObject)", foreignTable.getGeneratedClassName(AccessorGenerator.SUFFIX), capitalize(idName), name)
+                .build();
+        return convert(idField, idTypeMirror, idValue, name, code);
+    }
+
+    /**
+     * Returns the argument OrmLite would bind for {@code value}, adding any statements it needs to {@code code}, or
+     * null if generated code can't convert a value of the field.
+     */
+    Argument convert(FieldBindings field, TypeMirror typeMirror, CodeBlock value, String name, CodeBlock.Builder code) {
+        DataType dataType = DataTypes.resolve(field, typeMirror, elementUtils);
+        if (dataType == null) {
+            return null;
+        }
+        DataPersister persister = dataType.getDataPersister();
+        FieldConverter converter = databaseType.getFieldConverter(persister);
+        SqlType sqlType = converter.getSqlType();
+        TypeName type = TypeName.get(typeMirror);
+
+        TypeName rawType;
+        String conversion = null;
+        switch (DataTypes.getStoredType(databaseType, dataType)) {
+            case STRING:
+            case LONG_STRING:
+                rawType = ClassName.get(String.class);
+                break;
+            case BOOLEAN:
+            case BOOLEAN_OBJ:
+                rawType = TypeName.BOOLEAN;
+                if (converter != persister) {
+                    // stored as a number, for example by Android
+                    if (type.equals(TypeName.BOOLEAN)) {
+                        return new Argument(type, CodeBlock.builder().add("$L ? (byte) 1 : (byte) 0", value).build(), sqlType, null);
+                    }
+                    conversion = "($LValue ? (byte) 1 : (byte) 0)";
+                }
+                break;
+            case CHAR:
+            case CHAR_OBJ:
+                rawType = TypeName.CHAR;
+                break;
+            case BYTE:
+            case BYTE_OBJ:
+                rawType = TypeName.BYTE;
+                break;
+            case SHORT:
+            case SHORT_OBJ:
+                rawType = TypeName.SHORT;
+                break;
+            case INTEGER:
+            case INTEGER_OBJ:
+                rawType = TypeName.INT;
+                break;
+            case LONG:
+            case LONG_OBJ:
+                rawType = TypeName.LONG;
+                break;
+            case FLOAT:
+            case FLOAT_OBJ:
+                rawType = TypeName.FLOAT;
+                break;
+            case DOUBLE:
+            case DOUBLE_OBJ:
+                rawType = TypeName.DOUBLE;
+                break;
+            case BYTE_ARRAY:
+                rawType = TypeName.get(byte[].class);
+                break;
+            case DATE:
+                // stored as a timestamp by databases which don't convert dates
+                if (!type.equals(ClassName.get(Date.class))) {
+                    return null;
+                }
+                code.addStatement("$T $LValue = $L", type, name, value);
+                return new Argument(type, CodeBlock.builder().add("$LValue == null ? null : new $T($LValue.getTime())", name, Timestamp.class, name).build(), sqlType,
+                        CodeBlock.builder().add("new $T($LValue.getTime())", Timestamp.class, name).build());
+            case DATE_LONG:
+                rawType = ClassName.get(Date.class);
+                conversion = "$LValue.getTime()";
+                break;
+            case DATE_STRING:
+                ClassName dateStringPersisterName = dateStringPersisterGenerator.getPersisterName(field, typeMirror);
+                if (dateStringPersisterName == null || !type.equals(ClassName.get(Date.class))) {
+                    return null;
+                }
+                code.addStatement("$T $LValue = $L", type, name, value);
+                return new Argument(type, CodeBlock.builder().add("$LValue == null ? null : $T.format($LValue)", name, dateStringPersisterName, name).build(), sqlType,
+                        CodeBlock.builder().add("$T.format($LValue)", dateStringPersisterName, name).build());
+            case UUID:
+                rawType = ClassName.get(UUID.class);
+                conversion = "$LValue.toString()";
+                break;
+            case BIG_INTEGER:
+                rawType = ClassName.get(BigInteger.class);
+                conversion = "$LValue.toString()";
+                break;
+            case BIG_DECIMAL:
+                rawType = ClassName.get(BigDecimal.class);
+                conversion = "$LValue.toString()";
+                break;
+            case ENUM_STRING:
+                if (!isEnum(typeMirror)) {
+                    return null;
+                }
+                rawType = type;
+                conversion = "$LValue.name()";
+                break;
+            case ENUM_INTEGER:
+                if (!isEnum(typeMirror)) {
+                    return null;
+                }
+                rawType = type;
+                conversion = "$LValue.ordinal()";
+                break;
+            default:
+                return null;
+        }
+
+        if (!type.equals(rawType) && !type.equals(box(rawType))) {
+            return null;
+        }
+        if (conversion == null) {
+            return new Argument(type, value, sqlType, null);
+        }
+        code.addStatement("$T $LValue = $L", type, name, value);
+        return new Argument(type, CodeBlock.builder().add("$LValue == null ? null : " + conversion, name, name).build(), sqlType,
+                CodeBlock.builder().add(conversion, name).build());
+    }
+
+    private boolean isRowId(FieldBindings field, TypeMirror type) {
+        TypeName boxed = box(TypeName.get(type));
+        return DataTypes.resolve(field, type, elementUtils) != null
+                && (boxed.equals(ClassName.get(Integer.class)) || boxed.equals(ClassName.get(Long.class)));
+    }
+
+    private boolean isIncrementable(FieldBindings field, TypeMirror type) {
+        return isRowId(field, type);
+    }
+
+    private boolean isEnum(TypeMirror type) {
+        return type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).asElement().getKind() == ElementKind.ENUM;
+    }
+
+    private void note(ClassName modelName, FieldBindings field, String reason) {
+        messager.printMessage(
+                Diagnostic.Kind.NOTE,
+                String.format("No statements are generated for %s, because field %s %s", modelName, field.getFieldName(), reason),
+                field.getElement()
+        );
+    }
+
+    /**
+     * A converted value of a field and the type OrmLite binds it as.
+     */
+    static class Argument {
+        /**
+         * The type of the value before it's converted.
+         */
+        final TypeName type;
+        final CodeBlock value;
+        final SqlType sqlType;
+        /**
+         * The converted value when the {@code <name>Value} local declared for it isn't null, or null if no local was
+         * declared because the value isn't converted.
+         */
+        final CodeBlock nonNullValue;
+
+        private Argument(TypeName type, CodeBlock value, SqlType sqlType, CodeBlock nonNullValue) {
+            this.type = type;
+            this.value = value;
+            this.sqlType = sqlType;
+            this.nonNullValue = nonNullValue;
+        }
+    }
+}
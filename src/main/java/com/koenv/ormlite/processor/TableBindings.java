@@ -0,0 +1,113 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.google.common.base.Joiner;
+import com.squareup.javapoet.ClassName;
+
+import javax.lang.model.element.TypeElement;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Everything the processor collected for a single class annotated with
+ * {@link com.j256.ormlite.table.DatabaseTable}: the class itself, its table name and the fields of the class and its
+ * superclasses, in the order in which OrmLite would find them.
+ */
+public class TableBindings {
+    private final TypeElement element;
+    private final String tableName;
+    private final List<FieldBindings> fields;
+
+    public TableBindings(TypeElement element, String tableName, List<FieldBindings> fields) {
+        this.element = element;
+        this.tableName = tableName;
+        this.fields = fields;
+    }
+
+    public TypeElement getElement() {
+        return element;
+    }
+
+    public ClassName getClassName() {
+        return ClassName.get(element);
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public List<FieldBindings> getFields() {
+        return fields;
+    }
+
+    /**
+     * Returns the fields which are stored in a column of the table, which are all fields except foreign collections.
+     */
+    public List<FieldBindings> getColumnFields() {
+        List<FieldBindings> columnFields = new ArrayList<FieldBindings>();
+        for (FieldBindings field : fields) {
+            if (!field.isForeignCollection()) {
+                columnFields.add(field);
+            }
+        }
+        return columnFields;
+    }
+
+    /**
+     * Returns the id field of the table or null if the table doesn't have one.
+     */
+    public FieldBindings getIdField() {
+        for (FieldBindings field : fields) {
+            if (field.isId() || field.isGeneratedId() || field.getGeneratedIdSequence() != null) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the class and the superclasses declaring its fields, which are the classes the generated code of the
+     * table is built from.
+     */
+    public Set<TypeElement> getOriginatingElements() {
+        Set<TypeElement> elements = new LinkedHashSet<TypeElement>();
+        elements.add(element);
+        for (FieldBindings field : fields) {
+            elements.add((TypeElement) field.getElement().getEnclosingElement());
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the name of a class generated for this table, which lives next to the annotated class. For example,
+     * a suffix of {@code $$Configuration} for {@code Outer.Inner} results in {@code Outer$Inner$$Configuration}.
+     */
+    public ClassName getGeneratedClassName(String suffix) {
+        ClassName className = getClassName();
+        return ClassName.get(className.packageName(), Joiner.on('$').join(className.simpleNames()) + suffix);
+    }
+}
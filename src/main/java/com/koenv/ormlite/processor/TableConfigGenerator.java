@@ -0,0 +1,136 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen Vlaswinkel
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DatabaseFieldConfig;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.misc.SqlExceptionUtil;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import com.squareup.javapoet.*;
+
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Generates the {@code $$TableConfig} class of a table, a {@link DatabaseTableConfig} which creates the
+ * {@link FieldType} of every field itself. OrmLite looks up every configured field by walking the class and its
+ * superclasses, which throws and catches a {@code NoSuchFieldException} for every class a field isn't declared in. The
+ * generated class knows which class declares every field, so creating a DAO only looks up the fields themselves.
+ */
+class TableConfigGenerator extends Generator {
+    public static final String SUFFIX = "$$TableConfig";
+
+    public TableConfigGenerator(Types typeUtils, Elements elementUtils) {
+        super(typeUtils, elementUtils);
+    }
+
+    public JavaFile generate(TableBindings table) {
+        ClassName modelName = table.getClassName();
+        ClassName tableConfigName = table.getGeneratedClassName(SUFFIX);
+        List<FieldBindings> fields = table.getFields();
+
+        TypeSpec.Builder tableConfigBuilder = classBuilder(tableConfigName, table, null)
+                .superclass(ParameterizedTypeName.get(ClassName.get(DatabaseTableConfig.class), modelName))
+                .addField(FieldType[].class, "fieldTypes", Modifier.PRIVATE);
+
+        tableConfigBuilder.addMethod(MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ParameterizedTypeName.get(List.class, DatabaseFieldConfig.class), "fieldConfigs")
+                .addStatement("super($T.class, $S, fieldConfigs)", modelName, table.getTableName())
+                .build());
+
+        tableConfigBuilder.addMethod(MethodSpec.methodBuilder("extractFieldTypes")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addException(SQLException.class)
+                .beginControlFlow("if (fieldTypes == null)")
+                .addStatement("fieldTypes = createFieldTypes(connectionSource)")
+                .endControlFlow()
+                .build());
+
+        tableConfigBuilder.addMethod(MethodSpec.methodBuilder("getFieldTypes")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(FieldType[].class)
+                .addParameter(DatabaseType.class, "databaseType")
+                .addException(SQLException.class)
+                .beginControlFlow("if (fieldTypes == null)")
+                .addStatement("throw new $T($S)", SQLException.class, "Field types have not been extracted in table config")
+                .endControlFlow()
+                .addStatement("return fieldTypes")
+                .build());
+
+        // the field configs are in the order of the fields, as built by the $$Configuration class
+        MethodSpec.Builder createBuilder = MethodSpec.methodBuilder("createFieldTypes")
+                .addModifiers(Modifier.PRIVATE)
+                .returns(FieldType[].class)
+                .addParameter(ConnectionSource.class, "connectionSource")
+                .addException(SQLException.class)
+                .addStatement("$T fieldConfigs = getFieldConfigs()", ParameterizedTypeName.get(List.class, DatabaseFieldConfig.class))
+                .beginControlFlow("try")
+                .addCode("return new $T[]{\n$>$>", FieldType.class);
+        for (int i = 0; i < fields.size(); i++) {
+            FieldBindings field = fields.get(i);
+            createBuilder.addCode("new $T(connectionSource, $S, $L.getDeclaredField($S), fieldConfigs.get($L), $T.class)$L\n",
+                    FieldType.class, table.getTableName(), getDeclaringClass(table, field), field.getFieldName(), i, modelName,
+                    i < fields.size() - 1 ? "," : "");
+        }
+        createBuilder.addCode("$<$<};\n")
+                .addCode("$<} catch ($T e) {\n$>", NoSuchFieldException.class)
+                .addStatement("throw $T.create($S, e)", SqlExceptionUtil.class, "Could not find a field of " + modelName.simpleName())
+                .endControlFlow();
+        tableConfigBuilder.addMethod(createBuilder.build());
+
+        return JavaFile.builder(tableConfigName.packageName(), tableConfigBuilder.build()).build();
+    }
+
+    /**
+     * Returns the expression of the class which declares the field, which goes through the superclasses of the table so
+     * the classes don't need to be visible.
+     */
+    private CodeBlock getDeclaringClass(TableBindings table, FieldBindings field) {
+        CodeBlock.Builder builder = CodeBlock.builder().add("$T.class", table.getClassName());
+        TypeElement declaringElement = (TypeElement) field.getElement().getEnclosingElement();
+        TypeElement element = table.getElement();
+        while (!element.equals(declaringElement)) {
+            TypeMirror superclass = element.getSuperclass();
+            if (superclass.getKind() != TypeKind.DECLARED) {
+                break;
+            }
+            element = (TypeElement) ((DeclaredType) superclass).asElement();
+            builder.add(".getSuperclass()");
+        }
+        return builder.build();
+    }
+}
@@ -1,10 +1,28 @@
 package com.koenv.ormlite.processor;
 
 import com.google.testing.compile.JavaFileObjects;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.field.ForeignCollectionField;
 import org.junit.Test;
 
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Scanner;
 
+import static com.google.common.truth.Truth.assertThat;
 import static com.google.common.truth.Truth.assert_;
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
 import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
@@ -30,6 +48,8 @@ public class AnnotationProcessorTest {
                 .compilesWithoutError()
                 .and().generatesSources(
                 JavaFileObjects.forResource("enum_model/EnumModel$$Configuration.java"),
+                JavaFileObjects.forResource("enum_model/EnumModel$Test$$EnumStringPersister.java"),
+                JavaFileObjects.forResource("enum_model/EnumModel$Test$$EnumIntegerPersister.java"),
                 JavaFileObjects.forResource("enum_model/OrmLiteProcessor.java")
         );
     }
@@ -48,4 +68,376 @@ public class AnnotationProcessorTest {
                 JavaFileObjects.forResource("foreign_collection_model/OrmLiteProcessor.java")
         );
     }
+
+    @Test
+    public void accessorModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("accessor_model/AccessorModel.java"),
+                        JavaFileObjects.forResource("accessor_model/AccessorModelBase.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("accessor_model/AccessorModel$$Accessor.java")
+        );
+    }
+
+    @Test
+    public void rowMapperModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("row_mapper_model/RowMapperModel.java"),
+                        JavaFileObjects.forResource("row_mapper_model/RowMapperModelOwner.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("row_mapper_model/RowMapperModel$$RowMapper.java"),
+                JavaFileObjects.forResource("row_mapper_model/OrmLiteProcessor.java")
+        );
+    }
+
+    @Test
+    public void statementsModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("statements_model/StatementsModel.java"),
+                        JavaFileObjects.forResource("statements_model/StatementsModelOwner.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("statements_model/StatementsModel$$Statements.java")
+        );
+    }
+
+    @Test
+    public void batchWriterModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("batch_writer_model/BatchWriterModel.java"))
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("batch_writer_model/BatchWriterModel$$BatchWriter.java")
+        );
+    }
+
+    @Test
+    public void schemaModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("schema_model/SchemaModel.java"))
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("schema_model/SchemaModel$$Schema.java")
+        );
+    }
+
+    @Test
+    public void objectCacheModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("object_cache_model/ObjectCacheModel.java"))
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("object_cache_model/ObjectCacheModel$$ObjectCache.java")
+        );
+    }
+
+    @Test
+    public void changeTrackerModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("change_tracker_model/ChangeTrackerModel.java"),
+                        JavaFileObjects.forResource("change_tracker_model/ChangeTrackerModelOwner.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("change_tracker_model/ChangeTrackerModel$$ChangeTracker.java")
+        );
+    }
+
+    @Test
+    public void collectionLoaderModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("collection_loader_model/CollectionLoaderModel.java"),
+                        JavaFileObjects.forResource("collection_loader_model/CollectionLoaderModelChild.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("collection_loader_model/CollectionLoaderModel$$CollectionLoader.java")
+        );
+    }
+
+    @Test
+    public void joinQueryModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("join_query_model/JoinQueryModel.java"),
+                        JavaFileObjects.forResource("join_query_model/JoinQueryModelOwner.java"),
+                        JavaFileObjects.forResource("join_query_model/JoinQueryModelCompany.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("join_query_model/JoinQueryModel$$JoinQuery.java")
+        );
+    }
+
+    @Test
+    public void dateStringModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("date_string_model/DateStringModel.java"))
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("date_string_model/DateStringModel$$Configuration.java"),
+                JavaFileObjects.forResource("date_string_model/DateStringModel$$RowMapper.java"),
+                JavaFileObjects.forResource("date_string_model/DateStringModel$$Statements.java"),
+                JavaFileObjects.forResource("date_string_model/DateStringPersister$$yyyy_MM_dd.java"),
+                JavaFileObjects.forResource("date_string_model/DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.java")
+        );
+    }
+
+    @Test
+    public void sqliteBinderModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("sqlite_binder_model/SQLiteStatement.java"),
+                        JavaFileObjects.forResource("sqlite_binder_model/SQLiteDatabase.java"),
+                        JavaFileObjects.forResource("sqlite_binder_model/SQLiteBinderModel.java"),
+                        JavaFileObjects.forResource("sqlite_binder_model/SQLiteBinderModelOwner.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("sqlite_binder_model/SQLiteBinderModel$$SQLiteBinder.java"),
+                JavaFileObjects.forResource("sqlite_binder_model/SQLiteStatementPool.java")
+        );
+    }
+
+    @Test
+    public void projectionModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("projection_model/ProjectionModel.java"),
+                        JavaFileObjects.forResource("projection_model/ProjectionModelOwner.java"),
+                        JavaFileObjects.forResource("projection_model/ProjectionModelItem.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("projection_model/ProjectionModelItem$$Projection.java")
+        );
+    }
+
+    @Test
+    public void finderModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("finder_model/FinderModel.java"),
+                        JavaFileObjects.forResource("finder_model/FinderModelOwner.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("finder_model/FinderModel$$Columns.java"),
+                JavaFileObjects.forResource("finder_model/FinderModel$$Statements.java")
+        );
+    }
+
+    @Test
+    public void tableConfigModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("table_config_model/TableConfigModel.java"),
+                        JavaFileObjects.forResource("table_config_model/TableConfigModelBase.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("table_config_model/TableConfigModel$$Configuration.java"),
+                JavaFileObjects.forResource("table_config_model/TableConfigModel$$TableConfig.java")
+        );
+    }
+
+    @Test
+    public void asyncDaoModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("async_dao_model/AsyncDaoModel.java"))
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("async_dao_model/AsyncDaoModel$$AsyncDao.java"),
+                JavaFileObjects.forResource("async_dao_model/GroupCommitWriter.java")
+        );
+    }
+
+    @Test
+    public void pagingModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("paging_model/PagingModel.java"))
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("paging_model/PagingModel$$Statements.java")
+        );
+    }
+
+    @Test
+    public void columnsModelTest() {
+        List<String> messages = new ArrayList<String>();
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("columns_model/ColumnsModel.java"))
+                .processedWith(processorWithOptions(Collections.<String, String>emptyMap(), messages))
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("columns_model/ColumnsModel$$Columns.java")
+        );
+        assertThat(messages).containsAllOf(
+                "WARNING: Field created_at of com.koenv.ormlite.processor.ColumnsModel has no constant in com.koenv.ormlite.processor.ColumnsModel$$Columns, because CREATED_AT is already the constant of field createdAt",
+                "WARNING: Field tableName of com.koenv.ormlite.processor.ColumnsModel has no constant in com.koenv.ormlite.processor.ColumnsModel$$Columns, because TABLE_NAME is already the constant of the table name"
+        );
+    }
+
+    @Test
+    public void sharedFieldsModelTest() {
+        assert_().about(javaSources())
+                .that(Arrays.asList(
+                        JavaFileObjects.forResource("shared_fields_model/SharedFieldsBase.java"),
+                        JavaFileObjects.forResource("shared_fields_model/SharedFieldsFirst.java"),
+                        JavaFileObjects.forResource("shared_fields_model/SharedFieldsSecond.java"),
+                        JavaFileObjects.forResource("shared_fields_model/SharedFieldsOwner.java"))
+                )
+                .processedWith(new AnnotationProcessor())
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("shared_fields_model/SharedFieldsFirst$$RowMapper.java"),
+                JavaFileObjects.forResource("shared_fields_model/SharedFieldsSecond$$RowMapper.java"),
+                JavaFileObjects.forResource("shared_fields_model/SharedFieldsFirst$$Schema.java"),
+                JavaFileObjects.forResource("shared_fields_model/SharedFieldsSecond$$Schema.java")
+        );
+    }
+
+    @Test
+    public void statsTest() {
+        List<String> messages = new ArrayList<String>();
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("simple_model/SimpleModel.java"))
+                .processedWith(processorWithOptions(Collections.singletonMap(ProcessingStats.OPTION, "true"), messages))
+                .compilesWithoutError();
+        String report = null;
+        for (String message : messages) {
+            if (message.startsWith("NOTE: OrmLite processor: ")) {
+                report = message;
+            }
+        }
+        assertThat(report).startsWith("NOTE: OrmLite processor: 1 tables in ");
+        assertThat(report).contains("\n  com.koenv.ormlite.processor.SimpleModel: ");
+        assertThat(report).contains("\n  shared by all tables: ");
+    }
+
+    @Test
+    public void dialectModelTest() {
+        assert_().about(javaSource())
+                .that(JavaFileObjects.forResource("dialect_model/DialectModel.java"))
+                .processedWith(processorWithOptions(Collections.singletonMap(Dialect.OPTION, "h2")))
+                .compilesWithoutError()
+                .and().generatesSources(
+                JavaFileObjects.forResource("dialect_model/DialectModel$$Schema.java"),
+                JavaFileObjects.forResource("dialect_model/DialectModel$$Statements.java"),
+                JavaFileObjects.forResource("dialect_model/DialectModel$$RowMapper.java"),
+                JavaFileObjects.forResource("dialect_model/DialectModel$$BatchWriter.java")
+        );
+    }
+
+    /**
+     * The processor is registered as an aggregating incremental processor, so Gradle only gives it the annotations it
+     * can read from class files. Source-retained annotations would silently disappear from incremental builds.
+     */
+    @Test
+    public void incrementalRegistrationTest() throws Exception {
+        InputStream in = AnnotationProcessor.class.getClassLoader()
+                .getResourceAsStream("META-INF/gradle/incremental.annotation.processors");
+        assertThat(in).isNotNull();
+        try {
+            String registration = new Scanner(in, "UTF-8").useDelimiter("\\A").next().trim();
+            assertThat(registration).isEqualTo(AnnotationProcessor.class.getName() + ",aggregating");
+        } finally {
+            in.close();
+        }
+
+        List<Class<? extends Annotation>> annotations = new ArrayList<Class<? extends Annotation>>();
+        for (String name : new AnnotationProcessor().getSupportedAnnotationTypes()) {
+            annotations.add(Class.forName(name).asSubclass(Annotation.class));
+        }
+        annotations.addAll(Arrays.asList(DatabaseField.class, ForeignCollectionField.class, TrackChanges.class,
+                IdCache.class));
+        for (Class<? extends Annotation> annotation : annotations) {
+            Retention retention = annotation.getAnnotation(Retention.class);
+            assertThat(retention).named(annotation.getName() + " retention").isNotNull();
+            assertThat(retention.value()).named(annotation.getName() + " retention")
+                    .isNotEqualTo(RetentionPolicy.SOURCE);
+        }
+    }
+
+    private static AnnotationProcessor processorWithOptions(Map<String, String> options) {
+        return processorWithOptions(options, new ArrayList<String>());
+    }
+
+    /**
+     * Returns a processor which sees the options, because compile-testing doesn't pass options to javac, and which adds
+     * the messages it prints to {@code messages} as {@code KIND: message}, because compile-testing only checks errors.
+     */
+    private static AnnotationProcessor processorWithOptions(final Map<String, String> options, final List<String> messages) {
+        return new AnnotationProcessor() {
+            @Override
+            public synchronized void init(final ProcessingEnvironment processingEnv) {
+                super.init((ProcessingEnvironment) Proxy.newProxyInstance(
+                        ProcessingEnvironment.class.getClassLoader(),
+                        new Class<?>[]{ProcessingEnvironment.class},
+                        new InvocationHandler() {
+                            @Override
+                            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                                if (method.getName().equals("getOptions")) {
+                                    return options;
+                                }
+                                if (method.getName().equals("getMessager")) {
+                                    return recordingMessager(processingEnv.getMessager(), messages);
+                                }
+                                try {
+                                    return method.invoke(processingEnv, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                            }
+                        }
+                ));
+            }
+        };
+    }
+
+    private static Messager recordingMessager(final Messager messager, final List<String> messages) {
+        return (Messager) Proxy.newProxyInstance(
+                Messager.class.getClassLoader(),
+                new Class<?>[]{Messager.class},
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        if (method.getName().equals("printMessage")) {
+                            messages.add(args[0] + ": " + args[1]);
+                        }
+                        try {
+                            return method.invoke(messager, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                }
+        );
+    }
 }
@@ -0,0 +1,89 @@
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.table.ObjectFactory;
+import java.lang.Class;
+import java.lang.IllegalAccessException;
+import java.lang.IllegalStateException;
+import java.lang.Integer;
+import java.lang.NoSuchFieldException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.Date;
+
+public final class AccessorModel$$Accessor {
+    public static final ObjectFactory<AccessorModel> OBJECT_FACTORY = new ObjectFactory<AccessorModel>() {
+        @Override
+        public AccessorModel createObject(Constructor<AccessorModel> constructor, Class<AccessorModel> dataClass) {
+            return newInstance();
+        }
+    };
+
+    private static final Field SECRET_FIELD = findField(AccessorModel.class, "secret");
+
+    private AccessorModel$$Accessor() {
+    }
+
+    public static AccessorModel newInstance() {
+        return new AccessorModel();
+    }
+
+    public static long getId(AccessorModel model) {
+        return model.id;
+    }
+
+    public static void setId(AccessorModel model, long value) {
+        model.id = value;
+    }
+
+    public static String getName(AccessorModel model) {
+        return model.getName();
+    }
+
+    public static void setName(AccessorModel model, String value) {
+        model.setName(value);
+    }
+
+    public static boolean getActive(AccessorModel model) {
+        return model.isActive();
+    }
+
+    public static void setActive(AccessorModel model, boolean value) {
+        model.setActive(value);
+    }
+
+    public static int getSecret(AccessorModel model) {
+        try {
+            return (Integer) SECRET_FIELD.get(model);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static void setSecret(AccessorModel model, int value) {
+        try {
+            SECRET_FIELD.set(model, value);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static Date getCreatedAt(AccessorModel model) {
+        return model.createdAt;
+    }
+
+    public static void setCreatedAt(AccessorModel model, Date value) {
+        model.createdAt = value;
+    }
+
+    private static Field findField(Class<?> declaringClass, String name) {
+        try {
+            Field field = declaringClass.getDeclaredField(name);
+            field.setAccessible(true);
+            return field;
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
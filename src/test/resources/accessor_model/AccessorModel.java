@@ -0,0 +1,35 @@
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+
+@DatabaseTable
+public class AccessorModel extends AccessorModelBase {
+    @DatabaseField(generatedId = true)
+    long id;
+
+    @DatabaseField(useGetSet = true)
+    private String name;
+
+    @DatabaseField
+    private boolean active;
+
+    @DatabaseField
+    private int secret;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
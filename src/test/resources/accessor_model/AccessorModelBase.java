@@ -0,0 +1,10 @@
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.DatabaseField;
+
+import java.util.Date;
+
+public abstract class AccessorModelBase {
+    @DatabaseField
+    protected Date createdAt;
+}
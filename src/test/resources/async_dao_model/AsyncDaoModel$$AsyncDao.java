@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import java.lang.Exception;
+import java.lang.Integer;
+import java.lang.Override;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+public final class AsyncDaoModel$$AsyncDao {
+    private AsyncDaoModel$$AsyncDao() {
+    }
+
+    public static Future<Integer> insert(final GroupCommitWriter writer, final AsyncDaoModel model) {
+        return writer.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return AsyncDaoModel$$Statements.insert(writer.getConnectionSource(), model);
+            }
+        });
+    }
+
+    public static Future<Integer> update(final GroupCommitWriter writer, final AsyncDaoModel model) {
+        return writer.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return AsyncDaoModel$$Statements.update(writer.getConnectionSource(), model);
+            }
+        });
+    }
+
+    public static Future<Integer> deleteById(final GroupCommitWriter writer, final long id) {
+        return writer.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return AsyncDaoModel$$Statements.deleteById(writer.getConnectionSource(), id);
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.support.ConnectionSource;
+
+import java.lang.Exception;
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.InterruptedException;
+import java.lang.Override;
+import java.lang.Runnable;
+import java.lang.System;
+import java.lang.Thread;
+import java.lang.Void;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public final class GroupCommitWriter {
+    public static final int DEFAULT_MAX_BATCH_SIZE = 500;
+
+    public static final long DEFAULT_MAX_LATENCY_MILLIS = 0;
+
+    private static final Write<?> STOP = new Write<Void>(new Callable<Void>() {
+        @Override
+        public Void call() {
+            return null;
+        }
+    });
+
+    private final ConnectionSource connectionSource;
+
+    private final int maxBatchSize;
+
+    private final long maxLatencyNanos;
+
+    private final BlockingQueue<Write<?>> queue = new LinkedBlockingQueue<Write<?>>();
+
+    private final Thread thread;
+
+    private boolean closed;
+
+    public GroupCommitWriter(ConnectionSource connectionSource) {
+        this(connectionSource, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LATENCY_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    public GroupCommitWriter(ConnectionSource connectionSource, int maxBatchSize, long maxLatency, TimeUnit unit) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1, but was " + maxBatchSize);
+        }
+        this.connectionSource = connectionSource;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLatencyNanos = unit.toNanos(maxLatency);
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runWrites();
+            }
+        }, "ormlite-group-commit");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public ConnectionSource getConnectionSource() {
+        return connectionSource;
+    }
+
+    public <T> Future<T> submit(Callable<T> callable) {
+        Write<T> write = new Write<T>(callable);
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("The writer is closed");
+            }
+            queue.add(write);
+        }
+        return write;
+    }
+
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.add(STOP);
+        }
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runWrites() {
+        List<Write<?>> batch = new ArrayList<Write<?>>();
+        boolean stopped = false;
+        while (!stopped) {
+            try {
+                Write<?> write = queue.take();
+                long deadline = System.nanoTime() + maxLatencyNanos;
+                while (write != STOP) {
+                    batch.add(write);
+                    if (batch.size() >= maxBatchSize) {
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    write = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (write == null) {
+                        break;
+                    }
+                }
+                stopped = write == STOP;
+            } catch (InterruptedException e) {
+                // only close stops the writer, the writes taken so far are still committed
+            }
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(final List<Write<?>> batch) {
+        try {
+            TransactionManager.callInTransaction(connectionSource, new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    for (Write<?> write : batch) {
+                        if (!write.isCancelled()) {
+                            write.execute();
+                        }
+                    }
+                    return null;
+                }
+            });
+        } catch (SQLException e) {
+            for (Write<?> write : batch) {
+                write.fail(e);
+            }
+            return;
+        }
+        for (Write<?> write : batch) {
+            write.finish();
+        }
+    }
+
+    private static final class Write<T> extends FutureTask<T> {
+        private final Callable<T> callable;
+
+        private T result;
+
+        private Exception exception;
+
+        Write(Callable<T> callable) {
+            super(callable);
+            this.callable = callable;
+        }
+
+        boolean execute() {
+            try {
+                result = callable.call();
+                return true;
+            } catch (Exception e) {
+                exception = e;
+                return false;
+            }
+        }
+
+        void finish() {
+            if (exception != null) {
+                setException(exception);
+            } else {
+                set(result);
+            }
+        }
+
+        void fail(Exception e) {
+            setException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import java.lang.Exception;
+import java.lang.Integer;
+import java.lang.Math;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+
+public final class BatchWriterModel$$BatchWriter {
+    public static final int COLUMN_COUNT = 3;
+
+    public static final int ROWS_PER_STATEMENT = 333;
+
+    private static final String INSERT_PREFIX = "INSERT INTO `batches` (`name` ,`amount` ,`version` ) VALUES ";
+
+    private static final String ROW = "(?,?,?)";
+
+    private static final String INSERT_CHUNK = buildInsert(ROWS_PER_STATEMENT);
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private BatchWriterModel$$BatchWriter() {
+    }
+
+    public static int insertAll(final ConnectionSource connectionSource, final Collection<BatchWriterModel> models) throws SQLException {
+        return TransactionManager.callInTransaction(connectionSource, new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                DatabaseConnection connection = connectionSource.getReadWriteConnection();
+                try {
+                    return insertAll(connection, models);
+                } finally {
+                    connectionSource.releaseConnection(connection);
+                }
+            }
+        });
+    }
+
+    public static int insertAll(DatabaseConnection connection, Collection<BatchWriterModel> models) throws SQLException {
+        int rows = 0;
+        int remaining = models.size();
+        Iterator<BatchWriterModel> iterator = models.iterator();
+        BatchWriterModel[] chunk = new BatchWriterModel[Math.min(remaining, ROWS_PER_STATEMENT)];
+        while (remaining > 0) {
+            int count = Math.min(remaining, ROWS_PER_STATEMENT);
+            CompiledStatement statement = connection.compileStatement(count == ROWS_PER_STATEMENT ? INSERT_CHUNK : buildInsert(count), StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                for (int i = 0; i < count; i++) {
+                    BatchWriterModel model = iterator.next();
+                    index = BatchWriterModel$$Statements.bindInsert(statement, index, model);
+                    chunk[i] = model;
+                }
+                int inserted = statement.runUpdate();
+                if (inserted > 0) {
+                    long firstId = connection.queryForLong("SELECT last_insert_rowid()") - count + 1;
+                    for (int i = 0; i < count; i++) {
+                        BatchWriterModel$$Accessor.setId(chunk[i], firstId + i);
+                        if (BatchWriterModel$$Accessor.getVersion(chunk[i]) == null) {
+                            BatchWriterModel$$Accessor.setVersion(chunk[i], 1L);
+                        }
+                    }
+                }
+                rows += inserted;
+            } finally {
+                statement.close();
+            }
+            remaining -= count;
+        }
+        return rows;
+    }
+
+    private static String buildInsert(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW.length() + 1));
+        sb.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(ROW);
+        }
+        return sb.toString();
+    }
+}
\ No newline at end of file
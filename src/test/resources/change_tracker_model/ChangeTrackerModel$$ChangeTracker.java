@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import java.lang.Double;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Date;
+
+public final class ChangeTrackerModel$$ChangeTracker {
+    private static final String UPDATE_PREFIX = "UPDATE `tracked` SET ";
+
+    private static final String WHERE_ID = " WHERE `id` = ? AND `version` = ?";
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private final ChangeTrackerModel model;
+
+    private String nameSnapshot;
+
+    private String modelSnapshot;
+
+    private double amountSnapshot;
+
+    private Date updatedAtSnapshot;
+
+    private byte[] dataSnapshot;
+
+    private Integer ownerSnapshot;
+
+    public ChangeTrackerModel$$ChangeTracker(ChangeTrackerModel model) {
+        this.model = model;
+        reset();
+    }
+
+    public ChangeTrackerModel getModel() {
+        return model;
+    }
+
+    public void reset() {
+        nameSnapshot = ChangeTrackerModel$$Accessor.getName(model);
+        modelSnapshot = ChangeTrackerModel$$Accessor.getModel(model);
+        amountSnapshot = ChangeTrackerModel$$Accessor.getAmount(model);
+        updatedAtSnapshot = copy(ChangeTrackerModel$$Accessor.getUpdatedAt(model));
+        dataSnapshot = copy(ChangeTrackerModel$$Accessor.getData(model));
+        ownerSnapshot = getOwnerId(model);
+    }
+
+    public int update(ConnectionSource connectionSource) throws SQLException {
+        boolean nameChanged = changed(nameSnapshot, ChangeTrackerModel$$Accessor.getName(model));
+        boolean modelChanged = changed(modelSnapshot, ChangeTrackerModel$$Accessor.getModel(model));
+        boolean amountChanged = Double.compare(amountSnapshot, ChangeTrackerModel$$Accessor.getAmount(model)) != 0;
+        boolean updatedAtChanged = changed(updatedAtSnapshot, ChangeTrackerModel$$Accessor.getUpdatedAt(model));
+        boolean dataChanged = !Arrays.equals(dataSnapshot, ChangeTrackerModel$$Accessor.getData(model));
+        boolean ownerChanged = changed(ownerSnapshot, getOwnerId(model));
+        if (!nameChanged && !modelChanged && !amountChanged && !updatedAtChanged && !dataChanged && !ownerChanged) {
+            return 0;
+        }
+        long version = ChangeTrackerModel$$Accessor.getVersion(model);
+        long newVersion = version + 1;
+        StringBuilder sql = new StringBuilder(UPDATE_PREFIX);
+        if (nameChanged) {
+            sql.append("`name` = ?, ");
+        }
+        if (modelChanged) {
+            sql.append("`model` = ?, ");
+        }
+        if (amountChanged) {
+            sql.append("`amount` = ?, ");
+        }
+        if (updatedAtChanged) {
+            sql.append("`updatedAt` = ?, ");
+        }
+        if (dataChanged) {
+            sql.append("`data` = ?, ");
+        }
+        if (ownerChanged) {
+            sql.append("`owner_id` = ?, ");
+        }
+        sql.append("`version` = ?, ");
+        sql.setLength(sql.length() - 2);
+        sql.append(WHERE_ID);
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(sql.toString(), StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                if (nameChanged) {
+                    statement.setObject(index++, ChangeTrackerModel$$Accessor.getName(model), SqlType.STRING);
+                }
+                if (modelChanged) {
+                    statement.setObject(index++, ChangeTrackerModel$$Accessor.getModel(model), SqlType.STRING);
+                }
+                if (amountChanged) {
+                    statement.setObject(index++, ChangeTrackerModel$$Accessor.getAmount(model), SqlType.DOUBLE);
+                }
+                if (updatedAtChanged) {
+                    Date updatedAtValue = ChangeTrackerModel$$Accessor.getUpdatedAt(model);
+                    statement.setObject(index++, updatedAtValue == null ? null : updatedAtValue.getTime(), SqlType.LONG);
+                }
+                if (dataChanged) {
+                    statement.setObject(index++, ChangeTrackerModel$$Accessor.getData(model), SqlType.BYTE_ARRAY);
+                }
+                if (ownerChanged) {
+                    ChangeTrackerModelOwner ownerObject = ChangeTrackerModel$$Accessor.getOwner(model);
+                    if (ownerObject == null) {
+                        statement.setObject(index++, null, SqlType.INTEGER);
+                    } else {
+                        statement.setObject(index++, ChangeTrackerModelOwner$$Accessor.getId(ownerObject), SqlType.INTEGER);
+                    }
+                }
+                statement.setObject(index++, newVersion, SqlType.LONG);
+                statement.setObject(index++, ChangeTrackerModel$$Accessor.getId(model), SqlType.LONG);
+                statement.setObject(index, version, SqlType.LONG);
+                int rows = statement.runUpdate();
+                if (rows > 0) {
+                    ChangeTrackerModel$$Accessor.setVersion(model, newVersion);
+                    reset();
+                }
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    private static Integer getOwnerId(ChangeTrackerModel model) {
+        ChangeTrackerModelOwner value = ChangeTrackerModel$$Accessor.getOwner(model);
+        return value == null ? null : ChangeTrackerModelOwner$$Accessor.getId(value);
+    }
+
+    private static boolean changed(Object snapshot, Object value) {
+        return snapshot == null ? value != null : !snapshot.equals(value);
+    }
+
+    private static Date copy(Date value) {
+        return value == null ? null : new Date(value.getTime());
+    }
+
+    private static byte[] copy(byte[] value) {
+        return value == null ? null : value.clone();
+    }
+}
\ No newline at end of file
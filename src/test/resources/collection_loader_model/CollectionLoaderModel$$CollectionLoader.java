@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.Long;
+import java.lang.Math;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class CollectionLoaderModel$$CollectionLoader {
+    public static final int IDS_PER_QUERY = 999;
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private static final String SELECT_CHILDREN_PREFIX = "SELECT * FROM `children` WHERE `parent_id` IN (";
+
+    private static final String SELECT_CHILDREN_SUFFIX = ") ORDER BY `position` DESC";
+
+    private CollectionLoaderModel$$CollectionLoader() {
+    }
+
+    public static void loadAll(ConnectionSource connectionSource, Collection<? extends CollectionLoaderModel> models) throws SQLException {
+        loadChildren(connectionSource, models);
+    }
+
+    public static void loadChildren(ConnectionSource connectionSource, Collection<? extends CollectionLoaderModel> models) throws SQLException {
+        Map<Long, CollectionLoaderModel> modelsById = new HashMap<Long, CollectionLoaderModel>();
+        Map<Long, List<CollectionLoaderModelChild>> childrenById = new HashMap<Long, List<CollectionLoaderModelChild>>();
+        for (CollectionLoaderModel model : models) {
+            Long id = CollectionLoaderModel$$Accessor.getId(model);
+            List<CollectionLoaderModelChild> children = childrenById.get(id);
+            if (children == null) {
+                children = new ArrayList<CollectionLoaderModelChild>();
+                childrenById.put(id, children);
+                modelsById.put(id, model);
+            }
+            CollectionLoaderModel$$Accessor.setChildren(model, children);
+        }
+        List<Long> ids = new ArrayList<Long>(modelsById.keySet());
+        if (ids.isEmpty()) {
+            return;
+        }
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            for (int start = 0; start < ids.size(); start += IDS_PER_QUERY) {
+                int count = Math.min(IDS_PER_QUERY, ids.size() - start);
+                CompiledStatement statement = connection.compileStatement(buildSelect(SELECT_CHILDREN_PREFIX, count, SELECT_CHILDREN_SUFFIX), StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+                try {
+                    for (int i = 0; i < count; i++) {
+                        statement.setObject(i, ids.get(start + i), SqlType.LONG);
+                    }
+                    DatabaseResults results = statement.runQuery(null);
+                    try {
+                        if (results.first()) {
+                            CollectionLoaderModelChild$$RowMapper rowMapper = CollectionLoaderModelChild$$RowMapper.forResults(results);
+                            do {
+                                CollectionLoaderModelChild child = rowMapper.mapRow(results);
+                                // the row mapper only sets the id of the parent, so it is replaced by the object itself
+                                Long id = CollectionLoaderModel$$Accessor.getId(CollectionLoaderModelChild$$Accessor.getParent(child));
+                                childrenById.get(id).add(child);
+                                CollectionLoaderModelChild$$Accessor.setParent(child, modelsById.get(id));
+                            } while (results.next());
+                        }
+                    } finally {
+                        results.close();
+                    }
+                } finally {
+                    statement.close();
+                }
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    private static String buildSelect(String prefix, int count, String suffix) {
+        StringBuilder sb = new StringBuilder(prefix.length() + count * 2 + suffix.length());
+        sb.append(prefix);
+        for (int i = 0; i < count; i++) {
+            sb.append(i == 0 ? "?" : ",?");
+        }
+        sb.append(suffix);
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.Override;
+import java.lang.String;
+import java.sql.SQLException;
+
+public final class DateStringModel$$RowMapper implements GenericRowMapper<DateStringModel> {
+    public static final String[] COLUMNS = {"id", "createdAt", "day"};
+
+    private final int[] columns;
+
+    public DateStringModel$$RowMapper(int[] columns) {
+        this.columns = columns;
+    }
+
+    public static DateStringModel$$RowMapper forResults(DatabaseResults results) throws SQLException {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = results.findColumn(COLUMNS[i]);
+        }
+        return new DateStringModel$$RowMapper(columns);
+    }
+
+    @Override
+    public DateStringModel mapRow(DatabaseResults results) throws SQLException {
+        DateStringModel model = DateStringModel$$Accessor.newInstance();
+        DateStringModel$$Accessor.setId(model, results.getInt(columns[0]));
+        String createdAtValue = results.getString(columns[1]);
+        DateStringModel$$Accessor.setCreatedAt(model, createdAtValue == null ? null : DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.parse(createdAtValue, columns[1]));
+        String dayValue = results.getString(columns[2]);
+        DateStringModel$$Accessor.setDay(model, dayValue == null ? null : DateStringPersister$$yyyy_MM_dd.parse(dayValue, columns[2]));
+        return model;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,260 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.UnsupportedOperationException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public final class DateStringModel$$Statements {
+    public static final String INSERT = "INSERT INTO `datestringmodel` (`createdAt` ,`day` ) VALUES (?,?)";
+
+    public static final String UPDATE_BY_ID = "UPDATE `datestringmodel` SET `createdAt` = ?, `day` = ? WHERE `id` = ?";
+
+    public static final String DELETE_BY_ID = "DELETE FROM `datestringmodel` WHERE `id` = ?";
+
+    public static final String SELECT_BY_ID = "SELECT * FROM `datestringmodel` WHERE `id` = ?";
+
+    public static final String SELECT_FIRST_PAGE = "SELECT * FROM `datestringmodel` ORDER BY `id` LIMIT ?";
+
+    public static final String SELECT_PAGE = "SELECT * FROM `datestringmodel` WHERE `id` > ? ORDER BY `id` LIMIT ?";
+
+    public static final String SELECT_ALL = "SELECT * FROM `datestringmodel` ";
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private DateStringModel$$Statements() {
+    }
+
+    public static int bindInsert(CompiledStatement statement, int index, DateStringModel model) throws SQLException {
+        Date createdAtValue = DateStringModel$$Accessor.getCreatedAt(model);
+        statement.setObject(index++, createdAtValue == null ? null : DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.format(createdAtValue), SqlType.STRING);
+        Date dayValue = DateStringModel$$Accessor.getDay(model);
+        statement.setObject(index++, dayValue == null ? null : DateStringPersister$$yyyy_MM_dd.format(dayValue), SqlType.STRING);
+        return index;
+    }
+
+    public static int insert(ConnectionSource connectionSource, DateStringModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(INSERT, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                bindInsert(statement, 0, model);
+                int rows = statement.runUpdate();
+                if (rows > 0) {
+                    DateStringModel$$Accessor.setId(model, (int) connection.queryForLong("SELECT last_insert_rowid()"));
+                }
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int update(ConnectionSource connectionSource, DateStringModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(UPDATE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                Date createdAtValue = DateStringModel$$Accessor.getCreatedAt(model);
+                statement.setObject(index++, createdAtValue == null ? null : DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.format(createdAtValue), SqlType.STRING);
+                Date dayValue = DateStringModel$$Accessor.getDay(model);
+                statement.setObject(index++, dayValue == null ? null : DateStringPersister$$yyyy_MM_dd.format(dayValue), SqlType.STRING);
+                statement.setObject(index++, DateStringModel$$Accessor.getId(model), SqlType.INTEGER);
+                int rows = statement.runUpdate();
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int deleteById(ConnectionSource connectionSource, int id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(DELETE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.INTEGER);
+                return statement.runUpdate();
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static DateStringModel queryForId(ConnectionSource connectionSource, int id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_ID, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.INTEGER);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return DateStringModel$$RowMapper.forResults(results).mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<DateStringModel> queryForAll(ConnectionSource connectionSource) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_ALL, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<DateStringModel> list = new ArrayList<DateStringModel>();
+                    if (results.first()) {
+                        DateStringModel$$RowMapper rowMapper = DateStringModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<DateStringModel> queryPage(ConnectionSource connectionSource, Integer afterId, int pageSize) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(afterId == null ? SELECT_FIRST_PAGE : SELECT_PAGE, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                if (afterId != null) {
+                    statement.setObject(index++, afterId, SqlType.INTEGER);
+                }
+                statement.setObject(index, pageSize, SqlType.INTEGER);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<DateStringModel> list = new ArrayList<DateStringModel>();
+                    if (results.first()) {
+                        DateStringModel$$RowMapper rowMapper = DateStringModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static Iterator<DateStringModel> iterateAll(final ConnectionSource connectionSource, final int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1");
+        }
+        return new Iterator<DateStringModel>() {
+            private List<DateStringModel> page = Collections.emptyList();
+
+            private int index;
+
+            private Integer lastId;
+
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) {
+                    return true;
+                }
+                if (lastPage) {
+                    return false;
+                }
+                try {
+                    page = queryPage(connectionSource, lastId, pageSize);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Errors getting more results of " + DateStringModel.class, e);
+                }
+                index = 0;
+                lastPage = page.size() < pageSize;
+                if (page.isEmpty()) {
+                    return false;
+                }
+                lastId = DateStringModel$$Accessor.getId(page.get(page.size() - 1));
+                return true;
+            }
+
+            @Override
+            public DateStringModel next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
\ No newline at end of file
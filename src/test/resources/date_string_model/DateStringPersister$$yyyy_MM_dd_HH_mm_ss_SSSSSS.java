@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.field.types.BaseDateType;
+import com.j256.ormlite.field.types.DateStringType;
+import com.j256.ormlite.misc.SqlExceptionUtil;
+import java.lang.Class;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.ThreadLocal;
+import java.sql.SQLException;
+import java.text.ParseException;
+import java.util.Calendar;
+import java.util.Date;
+
+public final class DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS extends DateStringType {
+    public static final String FORMAT = "yyyy-MM-dd HH:mm:ss.SSSSSS";
+
+    private static final int LENGTH = 26;
+
+    private static final DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS SINGLETON = new DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS();
+
+    private static final BaseDateType.DateStringFormatConfig FORMAT_CONFIG = new BaseDateType.DateStringFormatConfig(FORMAT);
+
+    private static final ThreadLocal<Calendar> CALENDAR = new ThreadLocal<Calendar>() {
+        @Override
+        protected Calendar initialValue() {
+            return Calendar.getInstance();
+        }
+    };
+
+    private DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS() {
+        super(SqlType.STRING, new Class<?>[0]);
+    }
+
+    public static DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS getSingleton() {
+        return SINGLETON;
+    }
+
+    @Override
+    public Object makeConfigObject(FieldType fieldType) {
+        return FORMAT_CONFIG;
+    }
+
+    @Override
+    public Object javaToSqlArg(FieldType fieldType, Object javaObject) {
+        return format((Date) javaObject);
+    }
+
+    @Override
+    public Object sqlArgToJava(FieldType fieldType, Object sqlArg, int columnPos) throws SQLException {
+        return parse((String) sqlArg, columnPos);
+    }
+
+    public static Date parse(String value, int columnPos) throws SQLException {
+        try {
+            return parse(value);
+        } catch (ParseException e) {
+            throw SqlExceptionUtil.create("Problems with column " + columnPos + " parsing date-string '" + value + "' using '" + FORMAT + "'", e);
+        }
+    }
+
+    public static Date parse(String value) throws ParseException {
+        if (value.length() == LENGTH
+                && value.charAt(4) == '-'
+                && value.charAt(7) == '-'
+                && value.charAt(10) == ' '
+                && value.charAt(13) == ':'
+                && value.charAt(16) == ':'
+                && value.charAt(19) == '.') {
+            int year = digits(value, 0, 4);
+            int month = digits(value, 5, 7);
+            int day = digits(value, 8, 10);
+            int hour = digits(value, 11, 13);
+            int minute = digits(value, 14, 16);
+            int second = digits(value, 17, 19);
+            int millisecond = digits(value, 20, 26);
+            if (year >= 0 && year <= 9999
+                    && month >= 1 && month <= 12
+                    && day >= 1 && day <= 31
+                    && hour >= 0 && hour <= 23
+                    && minute >= 0 && minute <= 59
+                    && second >= 0 && second <= 59
+                    && millisecond >= 0 && millisecond <= 999) {
+                Calendar calendar = CALENDAR.get();
+                calendar.clear();
+                calendar.set(Calendar.YEAR, year);
+                calendar.set(Calendar.MONTH, month - 1);
+                calendar.set(Calendar.DAY_OF_MONTH, day);
+                calendar.set(Calendar.HOUR_OF_DAY, hour);
+                calendar.set(Calendar.MINUTE, minute);
+                calendar.set(Calendar.SECOND, second);
+                calendar.set(Calendar.MILLISECOND, millisecond);
+                return calendar.getTime();
+            }
+        }
+        return FORMAT_CONFIG.getDateFormat().parse(value);
+    }
+
+    public static String format(Date date) {
+        Calendar calendar = CALENDAR.get();
+        calendar.setTime(date);
+        if (calendar.get(Calendar.YEAR) > 9999) {
+            return FORMAT_CONFIG.getDateFormat().format(date);
+        }
+        char[] chars = new char[LENGTH];
+        putDigits(chars, 0, 4, calendar.get(Calendar.YEAR));
+        chars[4] = '-';
+        putDigits(chars, 5, 7, calendar.get(Calendar.MONTH) + 1);
+        chars[7] = '-';
+        putDigits(chars, 8, 10, calendar.get(Calendar.DAY_OF_MONTH));
+        chars[10] = ' ';
+        putDigits(chars, 11, 13, calendar.get(Calendar.HOUR_OF_DAY));
+        chars[13] = ':';
+        putDigits(chars, 14, 16, calendar.get(Calendar.MINUTE));
+        chars[16] = ':';
+        putDigits(chars, 17, 19, calendar.get(Calendar.SECOND));
+        chars[19] = '.';
+        putDigits(chars, 20, 26, calendar.get(Calendar.MILLISECOND));
+        return new String(chars);
+    }
+
+    private static int digits(String value, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            result = result * 10 + (c - '0');
+        }
+        return result;
+    }
+
+    private static void putDigits(char[] chars, int start, int end, int value) {
+        for (int i = end - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import java.lang.Exception;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.StringBuilder;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+public final class DialectModel$$BatchWriter {
+    public static final int COLUMN_COUNT = 4;
+
+    public static final int ROWS_PER_STATEMENT = 1;
+
+    private static final String INSERT_PREFIX = "INSERT INTO `dialect` (`name` ,`active` ,`created` ,`data` ) VALUES ";
+
+    private static final String ROW = "(?,?,?,?)";
+
+    private static final String INSERT_CHUNK = buildInsert(ROWS_PER_STATEMENT);
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private DialectModel$$BatchWriter() {
+    }
+
+    public static int insertAll(final ConnectionSource connectionSource, final Collection<DialectModel> models) throws SQLException {
+        return TransactionManager.callInTransaction(connectionSource, new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                DatabaseConnection connection = connectionSource.getReadWriteConnection();
+                try {
+                    return insertAll(connection, models);
+                } finally {
+                    connectionSource.releaseConnection(connection);
+                }
+            }
+        });
+    }
+
+    public static int insertAll(DatabaseConnection connection, Collection<DialectModel> models) throws SQLException {
+        int rows = 0;
+        CompiledStatement statement = connection.compileStatement(INSERT_CHUNK, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+        try {
+            for (DialectModel model : models) {
+                DialectModel$$Statements.bindInsert(statement, 0, model);
+                int inserted = statement.runUpdate();
+                if (inserted > 0) {
+                    DialectModel$$Accessor.setId(model, connection.queryForLong("CALL IDENTITY()"));
+                }
+                rows += inserted;
+            }
+        } finally {
+            statement.close();
+        }
+        return rows;
+    }
+
+    private static String buildInsert(int rows) {
+        StringBuilder sb = new StringBuilder(INSERT_PREFIX.length() + rows * (ROW.length() + 1));
+        sb.append(INSERT_PREFIX);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(ROW);
+        }
+        return sb.toString();
+    }
+}
\ No newline at end of file
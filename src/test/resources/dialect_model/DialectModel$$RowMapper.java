@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.Override;
+import java.lang.String;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Date;
+
+public final class DialectModel$$RowMapper implements GenericRowMapper<DialectModel> {
+    public static final String[] COLUMNS = {"id", "name", "active", "created", "data"};
+
+    private final int[] columns;
+
+    public DialectModel$$RowMapper(int[] columns) {
+        this.columns = columns;
+    }
+
+    public static DialectModel$$RowMapper forResults(DatabaseResults results) throws SQLException {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = results.findColumn(COLUMNS[i]);
+        }
+        return new DialectModel$$RowMapper(columns);
+    }
+
+    @Override
+    public DialectModel mapRow(DatabaseResults results) throws SQLException {
+        DialectModel model = DialectModel$$Accessor.newInstance();
+        DialectModel$$Accessor.setId(model, results.getLong(columns[0]));
+        DialectModel$$Accessor.setName(model, results.getString(columns[1]));
+        DialectModel$$Accessor.setActive(model, results.getBoolean(columns[2]));
+        Timestamp createdValue = results.getTimestamp(columns[3]);
+        DialectModel$$Accessor.setCreated(model, createdValue == null ? null : new Date(createdValue.getTime()));
+        DialectModel$$Accessor.setData(model, results.getBytes(columns[4]));
+        return model;
+    }
+}
\ No newline at end of file
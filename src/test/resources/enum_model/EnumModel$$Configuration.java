@@ -24,28 +24,48 @@
 
 package com.koenv.ormlite.processor;
 
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.DataType;
 import com.j256.ormlite.field.DatabaseFieldConfig;
 import com.j256.ormlite.table.DatabaseTableConfig;
 
+import java.lang.System;
 import java.util.ArrayList;
 import java.util.List;
 
 public final class EnumModel$$Configuration {
+    public static final DatabaseTableConfig<EnumModel> TABLE_CONFIG = buildTableConfig();
+
     public static List<DatabaseFieldConfig> getFieldConfigs() {
-        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>();
-        DatabaseFieldConfig config = null;
-        config = new DatabaseFieldConfig();
-        config.setFieldName("name");
+        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>(2);
+        DatabaseFieldConfig config;
+        config = new DatabaseFieldConfig("name");
         config.setUnknownEnumValue(EnumModel.Test.TEST);
+        config.setDataPersister(new EnumModel$Test$$EnumStringPersister(EnumModel.Test.TEST));
+        list.add(config);
+        config = new DatabaseFieldConfig("level");
+        config.setDataType(DataType.ENUM_INTEGER);
+        config.setDataPersister(EnumModel$Test$$EnumIntegerPersister.getSingleton());
         list.add(config);
         return list;
     }
 
     public static DatabaseTableConfig<EnumModel> getTableConfig() {
-        DatabaseTableConfig<EnumModel> config = new DatabaseTableConfig<EnumModel>();
-        config.setDataClass(EnumModel.class);
-        config.setTableName("enummodel");
-        config.setFieldConfigs(getFieldConfigs());
+        return new EnumModel$$TableConfig(getFieldConfigs());
+    }
+
+    private static DatabaseTableConfig<EnumModel> buildTableConfig() {
+        OrmLiteProcessor.Listener listener = OrmLiteProcessor.getListener();
+        if (listener == null) {
+            return getTableConfig();
+        }
+        long start = System.nanoTime();
+        DatabaseTableConfig<EnumModel> config = getTableConfig();
+        listener.onTableConfigBuilt(EnumModel.class, 2, System.nanoTime() - start);
         return config;
     }
+
+    public static void configureDao(Dao<EnumModel, ?> dao) {
+        dao.setObjectFactory(EnumModel$$Accessor.OBJECT_FACTORY);
+    }
 }
\ No newline at end of file
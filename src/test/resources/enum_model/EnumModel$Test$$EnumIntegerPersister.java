@@ -0,0 +1,80 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.field.types.EnumIntegerType;
+import java.lang.Class;
+import java.lang.Integer;
+import java.lang.Object;
+import java.lang.Override;
+import java.sql.SQLException;
+
+public final class EnumModel$Test$$EnumIntegerPersister extends EnumIntegerType {
+    private static final EnumModel$Test$$EnumIntegerPersister SINGLETON = new EnumModel$Test$$EnumIntegerPersister(null);
+
+    private static final EnumModel.Test[] VALUES = EnumModel.Test.values();
+
+    private final EnumModel.Test unknownValue;
+
+    public EnumModel$Test$$EnumIntegerPersister(EnumModel.Test unknownValue) {
+        super(SqlType.INTEGER, new Class<?>[] { EnumModel.Test.class });
+        this.unknownValue = unknownValue;
+    }
+
+    public static EnumModel$Test$$EnumIntegerPersister getSingleton() {
+        return SINGLETON;
+    }
+
+    @Override
+    public Object makeConfigObject(FieldType fieldType) {
+        // the values are looked up by generated code, so there is no map to build
+        return null;
+    }
+
+    @Override
+    public Object sqlArgToJava(FieldType fieldType, Object sqlArg, int columnPos) throws SQLException {
+        if (fieldType == null) {
+            return sqlArg;
+        }
+        int value = (Integer) sqlArg;
+        EnumModel.Test result = toEnum(value);
+        if (result != null) {
+            return result;
+        }
+        if (unknownValue != null) {
+            return unknownValue;
+        }
+        return enumVal(fieldType, value, null, fieldType.getUnknownEnumVal());
+    }
+
+    public static EnumModel.Test toEnum(int ordinal) {
+        if (ordinal >= 0 && ordinal < VALUES.length) {
+            return VALUES[ordinal];
+        }
+        return null;
+    }
+}
\ No newline at end of file
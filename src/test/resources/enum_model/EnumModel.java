@@ -34,6 +34,9 @@ public class EnumModel {
     @DatabaseField(unknownEnumName = "TEST")
     private Test name;
 
+    @DatabaseField(dataType = DataType.ENUM_INTEGER)
+    private Test level;
+
     public static enum Test {
         TEST,
         UNKNOWN
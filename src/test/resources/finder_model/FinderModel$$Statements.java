@@ -0,0 +1,387 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.Long;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.UnsupportedOperationException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public final class FinderModel$$Statements {
+    public static final String INSERT = "INSERT INTO `findermodel` (`email` ,`firstName` ,`lastName` ,`number` ,`owner_id` ,`notes` ) VALUES (?,?,?,?,?,?)";
+
+    public static final String UPDATE_BY_ID = "UPDATE `findermodel` SET `email` = ?, `firstName` = ?, `lastName` = ?, `number` = ?, `owner_id` = ?, `notes` = ? WHERE `id` = ?";
+
+    public static final String DELETE_BY_ID = "DELETE FROM `findermodel` WHERE `id` = ?";
+
+    public static final String SELECT_BY_ID = "SELECT * FROM `findermodel` WHERE `id` = ?";
+
+    public static final String SELECT_FIRST_PAGE = "SELECT * FROM `findermodel` ORDER BY `id` LIMIT ?";
+
+    public static final String SELECT_PAGE = "SELECT * FROM `findermodel` WHERE `id` > ? ORDER BY `id` LIMIT ?";
+
+    public static final String SELECT_ALL = "SELECT * FROM `findermodel` ";
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    public static final String SELECT_BY_EMAIL = "SELECT * FROM `findermodel` WHERE `email` = ?";
+
+    public static final String SELECT_BY_NUMBER = "SELECT * FROM `findermodel` WHERE `number` = ?";
+
+    public static final String SELECT_BY_FIRST_NAME_AND_LAST_NAME = "SELECT * FROM `findermodel` WHERE `firstName` = ? AND `lastName` = ?";
+
+    public static final String SELECT_BY_OWNER = "SELECT * FROM `findermodel` WHERE `owner_id` = ?";
+
+    private FinderModel$$Statements() {
+    }
+
+    public static int bindInsert(CompiledStatement statement, int index, FinderModel model) throws SQLException {
+        statement.setObject(index++, FinderModel$$Accessor.getEmail(model), SqlType.STRING);
+        statement.setObject(index++, FinderModel$$Accessor.getFirstName(model), SqlType.STRING);
+        statement.setObject(index++, FinderModel$$Accessor.getLastName(model), SqlType.STRING);
+        statement.setObject(index++, FinderModel$$Accessor.getNumber(model), SqlType.INTEGER);
+        FinderModelOwner ownerObject = FinderModel$$Accessor.getOwner(model);
+        if (ownerObject == null) {
+            statement.setObject(index++, null, SqlType.INTEGER);
+        } else {
+            statement.setObject(index++, FinderModelOwner$$Accessor.getId(ownerObject), SqlType.INTEGER);
+        }
+        statement.setObject(index++, FinderModel$$Accessor.getNotes(model), SqlType.STRING);
+        return index;
+    }
+
+    public static int insert(ConnectionSource connectionSource, FinderModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(INSERT, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                bindInsert(statement, 0, model);
+                int rows = statement.runUpdate();
+                if (rows > 0) {
+                    FinderModel$$Accessor.setId(model, connection.queryForLong("SELECT last_insert_rowid()"));
+                }
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int update(ConnectionSource connectionSource, FinderModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(UPDATE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                statement.setObject(index++, FinderModel$$Accessor.getEmail(model), SqlType.STRING);
+                statement.setObject(index++, FinderModel$$Accessor.getFirstName(model), SqlType.STRING);
+                statement.setObject(index++, FinderModel$$Accessor.getLastName(model), SqlType.STRING);
+                statement.setObject(index++, FinderModel$$Accessor.getNumber(model), SqlType.INTEGER);
+                FinderModelOwner ownerObject = FinderModel$$Accessor.getOwner(model);
+                if (ownerObject == null) {
+                    statement.setObject(index++, null, SqlType.INTEGER);
+                } else {
+                    statement.setObject(index++, FinderModelOwner$$Accessor.getId(ownerObject), SqlType.INTEGER);
+                }
+                statement.setObject(index++, FinderModel$$Accessor.getNotes(model), SqlType.STRING);
+                statement.setObject(index++, FinderModel$$Accessor.getId(model), SqlType.LONG);
+                int rows = statement.runUpdate();
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int deleteById(ConnectionSource connectionSource, long id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(DELETE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.LONG);
+                return statement.runUpdate();
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static FinderModel queryForId(ConnectionSource connectionSource, long id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_ID, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.LONG);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return FinderModel$$RowMapper.forResults(results).mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static FinderModel findByEmail(ConnectionSource connectionSource, String email) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_EMAIL, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, email, SqlType.STRING);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return FinderModel$$RowMapper.forResults(results).mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static FinderModel findByNumber(ConnectionSource connectionSource, int number) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_NUMBER, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, number, SqlType.INTEGER);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return FinderModel$$RowMapper.forResults(results).mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<FinderModel> findByFirstNameAndLastName(ConnectionSource connectionSource, String firstName, String lastName) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_FIRST_NAME_AND_LAST_NAME, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, firstName, SqlType.STRING);
+                statement.setObject(1, lastName, SqlType.STRING);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<FinderModel> list = new ArrayList<FinderModel>();
+                    if (results.first()) {
+                        FinderModel$$RowMapper rowMapper = FinderModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<FinderModel> findByOwner(ConnectionSource connectionSource, FinderModelOwner owner) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_OWNER, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                FinderModelOwner ownerObject = owner;
+                if (ownerObject == null) {
+                    statement.setObject(0, null, SqlType.INTEGER);
+                } else {
+                    statement.setObject(0, FinderModelOwner$$Accessor.getId(ownerObject), SqlType.INTEGER);
+                }
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<FinderModel> list = new ArrayList<FinderModel>();
+                    if (results.first()) {
+                        FinderModel$$RowMapper rowMapper = FinderModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<FinderModel> queryForAll(ConnectionSource connectionSource) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_ALL, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<FinderModel> list = new ArrayList<FinderModel>();
+                    if (results.first()) {
+                        FinderModel$$RowMapper rowMapper = FinderModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<FinderModel> queryPage(ConnectionSource connectionSource, Long afterId, int pageSize) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(afterId == null ? SELECT_FIRST_PAGE : SELECT_PAGE, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                if (afterId != null) {
+                    statement.setObject(index++, afterId, SqlType.LONG);
+                }
+                statement.setObject(index, pageSize, SqlType.INTEGER);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<FinderModel> list = new ArrayList<FinderModel>();
+                    if (results.first()) {
+                        FinderModel$$RowMapper rowMapper = FinderModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static Iterator<FinderModel> iterateAll(final ConnectionSource connectionSource, final int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1");
+        }
+        return new Iterator<FinderModel>() {
+            private List<FinderModel> page = Collections.emptyList();
+
+            private int index;
+
+            private Long lastId;
+
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) {
+                    return true;
+                }
+                if (lastPage) {
+                    return false;
+                }
+                try {
+                    page = queryPage(connectionSource, lastId, pageSize);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Errors getting more results of " + FinderModel.class, e);
+                }
+                index = 0;
+                lastPage = page.size() < pageSize;
+                if (page.isEmpty()) {
+                    return false;
+                }
+                lastId = FinderModel$$Accessor.getId(page.get(page.size() - 1));
+                return true;
+            }
+
+            @Override
+            public FinderModel next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -1,26 +1,40 @@
 package com.koenv.ormlite.processor;
 
+import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.field.DatabaseFieldConfig;
 import com.j256.ormlite.table.DatabaseTableConfig;
+import java.lang.System;
 import java.util.ArrayList;
 import java.util.List;
 
 public final class ForeignCollectionModel$$Configuration {
+    public static final DatabaseTableConfig<ForeignCollectionModel> TABLE_CONFIG = buildTableConfig();
+
     public static List<DatabaseFieldConfig> getFieldConfigs() {
-        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>();
-        DatabaseFieldConfig config = null;
-        config = new DatabaseFieldConfig();
-        config.setFieldName("foreigns");
+        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>(1);
+        DatabaseFieldConfig config;
+        config = new DatabaseFieldConfig("foreigns");
         config.setForeignCollection(true);
         list.add(config);
         return list;
     }
 
     public static DatabaseTableConfig<ForeignCollectionModel> getTableConfig() {
-        DatabaseTableConfig<ForeignCollectionModel> config = new DatabaseTableConfig<ForeignCollectionModel>();
-        config.setDataClass(ForeignCollectionModel.class);
-        config.setTableName("foreigncollectionmodel");
-        config.setFieldConfigs(getFieldConfigs());
+        return new ForeignCollectionModel$$TableConfig(getFieldConfigs());
+    }
+
+    private static DatabaseTableConfig<ForeignCollectionModel> buildTableConfig() {
+        OrmLiteProcessor.Listener listener = OrmLiteProcessor.getListener();
+        if (listener == null) {
+            return getTableConfig();
+        }
+        long start = System.nanoTime();
+        DatabaseTableConfig<ForeignCollectionModel> config = getTableConfig();
+        listener.onTableConfigBuilt(ForeignCollectionModel.class, 1, System.nanoTime() - start);
         return config;
     }
+
+    public static void configureDao(Dao<ForeignCollectionModel, ?> dao) {
+        dao.setObjectFactory(ForeignCollectionModel$$Accessor.OBJECT_FACTORY);
+    }
 }
\ No newline at end of file
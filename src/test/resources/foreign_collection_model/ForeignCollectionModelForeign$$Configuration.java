@@ -1,28 +1,38 @@
 package com.koenv.ormlite.processor;
 
-import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.field.DatabaseFieldConfig;
-import com.j256.ormlite.field.types.BooleanType;
 import com.j256.ormlite.table.DatabaseTableConfig;
 
+import java.lang.System;
 import java.util.ArrayList;
 import java.util.List;
 
 public final class ForeignCollectionModelForeign$$Configuration {
+    public static final DatabaseTableConfig<ForeignCollectionModelForeign> TABLE_CONFIG = buildTableConfig();
+
     public static List<DatabaseFieldConfig> getFieldConfigs() {
-        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>();
-        DatabaseFieldConfig config = null;
-        config = new DatabaseFieldConfig();
-        config.setFieldName("name");
-        list.add(config);
+        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>(1);
+        list.add(new DatabaseFieldConfig("name"));
         return list;
     }
 
     public static DatabaseTableConfig<ForeignCollectionModelForeign> getTableConfig() {
-        DatabaseTableConfig<ForeignCollectionModelForeign> config = new DatabaseTableConfig<ForeignCollectionModelForeign>();
-        config.setDataClass(ForeignCollectionModelForeign.class);
-        config.setTableName("foreigncollectionmodelforeign");
-        config.setFieldConfigs(getFieldConfigs());
+        return new ForeignCollectionModelForeign$$TableConfig(getFieldConfigs());
+    }
+
+    private static DatabaseTableConfig<ForeignCollectionModelForeign> buildTableConfig() {
+        OrmLiteProcessor.Listener listener = OrmLiteProcessor.getListener();
+        if (listener == null) {
+            return getTableConfig();
+        }
+        long start = System.nanoTime();
+        DatabaseTableConfig<ForeignCollectionModelForeign> config = getTableConfig();
+        listener.onTableConfigBuilt(ForeignCollectionModelForeign.class, 1, System.nanoTime() - start);
         return config;
     }
+
+    public static void configureDao(Dao<ForeignCollectionModelForeign, ?> dao) {
+        dao.setObjectFactory(ForeignCollectionModelForeign$$Accessor.OBJECT_FACTORY);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.IllegalArgumentException;
+import java.lang.Integer;
+import java.lang.Long;
+import java.lang.Override;
+import java.lang.String;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JoinQueryModel$$JoinQuery implements GenericRowMapper<JoinQueryModel> {
+    public static final String SELECT = "SELECT t0.`id`, t0.`title`, t1.`id`, t1.`role`, t2.`id`, t2.`name`, t2.`parent_id` FROM `tasks` t0 LEFT JOIN `owners` t1 ON t1.`id` = t0.`owner_id` LEFT JOIN `companies` t2 ON t2.`id` = t1.`company_id`";
+
+    public static final String SELECT_BY_ID = "SELECT t0.`id`, t0.`title`, t1.`id`, t1.`role`, t2.`id`, t2.`name`, t2.`parent_id` FROM `tasks` t0 LEFT JOIN `owners` t1 ON t1.`id` = t0.`owner_id` LEFT JOIN `companies` t2 ON t2.`id` = t1.`company_id` WHERE t0.`id` = ?";
+
+    public static final JoinQueryModel$$JoinQuery ROW_MAPPER = new JoinQueryModel$$JoinQuery();
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private JoinQueryModel$$JoinQuery() {
+    }
+
+    private static JoinQueryModelOwner.Role toT1Role(String value) throws SQLException {
+        try {
+            return JoinQueryModelOwner.Role.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            // fall through to the unknown value
+        }
+        throw new SQLException("Cannot get enum value of '" + value + "' for field role");
+    }
+
+    public static JoinQueryModel queryForId(ConnectionSource connectionSource, Long id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_ID, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.LONG);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return ROW_MAPPER.mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<JoinQueryModel> queryForAll(ConnectionSource connectionSource) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<JoinQueryModel> list = new ArrayList<JoinQueryModel>();
+                    if (results.first()) {
+                        do {
+                            list.add(ROW_MAPPER.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    @Override
+    public JoinQueryModel mapRow(DatabaseResults results) throws SQLException {
+        JoinQueryModel model = JoinQueryModel$$Accessor.newInstance();
+        JoinQueryModel$$Accessor.setId(model, results.getLong(0));
+        JoinQueryModel$$Accessor.setTitle(model, results.getString(1));
+        JoinQueryModel$$Accessor.setOwner(model, mapT1(results));
+        return model;
+    }
+
+    private static JoinQueryModelOwner mapT1(DatabaseResults results) throws SQLException {
+        int idValue = results.getInt(2);
+        Integer id = results.wasNull(2) ? null : idValue;
+        if (id == null) {
+            return null;
+        }
+        JoinQueryModelOwner model = JoinQueryModelOwner$$Accessor.newInstance();
+        JoinQueryModelOwner$$Accessor.setId(model, id);
+        String roleValue = results.getString(3);
+        JoinQueryModelOwner$$Accessor.setRole(model, roleValue == null ? null : toT1Role(roleValue));
+        JoinQueryModelOwner$$Accessor.setCompany(model, mapT2(results));
+        return model;
+    }
+
+    private static JoinQueryModelCompany mapT2(DatabaseResults results) throws SQLException {
+        int idValue = results.getInt(4);
+        Integer id = results.wasNull(4) ? null : idValue;
+        if (id == null) {
+            return null;
+        }
+        JoinQueryModelCompany model = JoinQueryModelCompany$$Accessor.newInstance();
+        JoinQueryModelCompany$$Accessor.setId(model, id);
+        JoinQueryModelCompany$$Accessor.setName(model, results.getString(5));
+        int parentValue = results.getInt(6);
+        Integer parentId = results.wasNull(6) ? null : parentValue;
+        if (parentId == null) {
+            JoinQueryModelCompany$$Accessor.setParent(model, null);
+        } else {
+            JoinQueryModelCompany parentObject = JoinQueryModelCompany$$Accessor.newInstance();
+            JoinQueryModelCompany$$Accessor.setId(parentObject, parentId);
+            JoinQueryModelCompany$$Accessor.setParent(model, parentObject);
+        }
+        return model;
+    }
+}
\ No newline at end of file
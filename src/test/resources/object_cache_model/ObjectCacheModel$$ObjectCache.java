@@ -0,0 +1,277 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.dao.ObjectCache;
+import java.lang.Class;
+import java.lang.IllegalArgumentException;
+import java.lang.Number;
+import java.lang.Object;
+import java.lang.Override;
+import java.lang.SuppressWarnings;
+
+public final class ObjectCacheModel$$ObjectCache implements ObjectCache {
+    public static final int MAX_SIZE = 100;
+
+    private static final int NONE = -1;
+
+    private final int maxSize;
+
+    private int[] keys;
+
+    private Object[] values;
+
+    private int[] before;
+
+    private int[] after;
+
+    private int eldest = NONE;
+
+    private int newest = NONE;
+
+    private int size;
+
+    public ObjectCacheModel$$ObjectCache() {
+        this(MAX_SIZE);
+    }
+
+    public ObjectCacheModel$$ObjectCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize must be 0 or positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        allocate(16);
+    }
+
+    @Override
+    public <T> void registerClass(Class<T> clazz) {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T, ID> T get(Class<T> clazz, ID id) {
+        if (clazz != ObjectCacheModel.class || id == null) {
+            return null;
+        }
+        int index = indexOf(toKey(id));
+        if (index == NONE) {
+            return null;
+        }
+        if (maxSize > 0) {
+            unlink(index);
+            linkNewest(index);
+        }
+        return (T) values[index];
+    }
+
+    @Override
+    public synchronized <T, ID> void put(Class<T> clazz, ID id, T data) {
+        if (clazz == ObjectCacheModel.class && id != null && data != null) {
+            insert(toKey(id), data);
+        }
+    }
+
+    @Override
+    public synchronized <T, ID> void remove(Class<T> clazz, ID id) {
+        if (clazz != ObjectCacheModel.class || id == null) {
+            return;
+        }
+        int index = indexOf(toKey(id));
+        if (index != NONE) {
+            removeAt(index);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized <T, ID> T updateId(Class<T> clazz, ID oldId, ID newId) {
+        if (clazz != ObjectCacheModel.class || oldId == null || newId == null) {
+            return null;
+        }
+        int index = indexOf(toKey(oldId));
+        if (index == NONE) {
+            return null;
+        }
+        Object data = values[index];
+        removeAt(index);
+        insert(toKey(newId), data);
+        return (T) data;
+    }
+
+    @Override
+    public <T> void clear(Class<T> clazz) {
+        if (clazz == ObjectCacheModel.class) {
+            clearAll();
+        }
+    }
+
+    @Override
+    public synchronized void clearAll() {
+        allocate(16);
+    }
+
+    @Override
+    public <T> int size(Class<T> clazz) {
+        return clazz == ObjectCacheModel.class ? sizeAll() : 0;
+    }
+
+    @Override
+    public synchronized int sizeAll() {
+        return size;
+    }
+
+    private static int toKey(Object id) {
+        return ((Number) id).intValue();
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Object[capacity];
+        before = new int[capacity];
+        after = new int[capacity];
+        eldest = NONE;
+        newest = NONE;
+        size = 0;
+    }
+
+    private int indexOf(int key) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return NONE;
+    }
+
+    private void insert(int key, Object value) {
+        int index = indexOf(key);
+        if (index != NONE) {
+            values[index] = value;
+            unlink(index);
+            linkNewest(index);
+            return;
+        }
+        place(key, value);
+        if (maxSize > 0 && size > maxSize) {
+            removeAt(eldest);
+        }
+        if (size * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+    }
+
+    private void place(int key, Object value) {
+        int mask = keys.length - 1;
+        int index = hash(key) & mask;
+        while (values[index] != null) {
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        linkNewest(index);
+        size++;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldAfter = after;
+        int index = eldest;
+        allocate(capacity);
+        // placing the entries from eldest to newest keeps the order in which they were used
+        while (index != NONE) {
+            place(oldKeys[index], oldValues[index]);
+            index = oldAfter[index];
+        }
+    }
+
+    private void removeAt(int index) {
+        unlink(index);
+        values[index] = null;
+        size--;
+        int mask = keys.length - 1;
+        int hole = index;
+        int next = (hole + 1) & mask;
+        while (values[next] != null) {
+            int home = hash(keys[next]) & mask;
+            // an entry can fill the hole if the hole lies between its home slot and its current slot
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                move(next, hole);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        values[to] = values[from];
+        values[from] = null;
+        before[to] = before[from];
+        after[to] = after[from];
+        if (before[to] == NONE) {
+            eldest = to;
+        } else {
+            after[before[to]] = to;
+        }
+        if (after[to] == NONE) {
+            newest = to;
+        } else {
+            before[after[to]] = to;
+        }
+    }
+
+    private void unlink(int index) {
+        if (before[index] == NONE) {
+            eldest = after[index];
+        } else {
+            after[before[index]] = after[index];
+        }
+        if (after[index] == NONE) {
+            newest = before[index];
+        } else {
+            before[after[index]] = before[index];
+        }
+    }
+
+    private void linkNewest(int index) {
+        before[index] = newest;
+        after[index] = NONE;
+        if (newest == NONE) {
+            eldest = index;
+        } else {
+            after[newest] = index;
+        }
+        newest = index;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.UnsupportedOperationException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public final class PagingModel$$Statements {
+    public static final String INSERT = "INSERT INTO `pages` (`code` ,`size` ) VALUES (?,?)";
+
+    public static final String UPDATE_BY_ID = "UPDATE `pages` SET `size` = ? WHERE `code` = ?";
+
+    public static final String DELETE_BY_ID = "DELETE FROM `pages` WHERE `code` = ?";
+
+    public static final String SELECT_BY_ID = "SELECT * FROM `pages` WHERE `code` = ?";
+
+    public static final String SELECT_FIRST_PAGE = "SELECT * FROM `pages` ORDER BY `code` LIMIT ?";
+
+    public static final String SELECT_PAGE = "SELECT * FROM `pages` WHERE `code` > ? ORDER BY `code` LIMIT ?";
+
+    public static final String SELECT_ALL = "SELECT * FROM `pages` ";
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private PagingModel$$Statements() {
+    }
+
+    public static int bindInsert(CompiledStatement statement, int index, PagingModel model) throws SQLException {
+        statement.setObject(index++, PagingModel$$Accessor.getCode(model), SqlType.STRING);
+        statement.setObject(index++, PagingModel$$Accessor.getSize(model), SqlType.LONG);
+        return index;
+    }
+
+    public static int insert(ConnectionSource connectionSource, PagingModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(INSERT, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                bindInsert(statement, 0, model);
+                int rows = statement.runUpdate();
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int update(ConnectionSource connectionSource, PagingModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(UPDATE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                statement.setObject(index++, PagingModel$$Accessor.getSize(model), SqlType.LONG);
+                statement.setObject(index++, PagingModel$$Accessor.getCode(model), SqlType.STRING);
+                int rows = statement.runUpdate();
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int deleteById(ConnectionSource connectionSource, String id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(DELETE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.STRING);
+                return statement.runUpdate();
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static PagingModel queryForId(ConnectionSource connectionSource, String id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_ID, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                statement.setObject(0, id, SqlType.STRING);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return PagingModel$$RowMapper.forResults(results).mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<PagingModel> queryForAll(ConnectionSource connectionSource) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_ALL, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<PagingModel> list = new ArrayList<PagingModel>();
+                    if (results.first()) {
+                        PagingModel$$RowMapper rowMapper = PagingModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<PagingModel> queryPage(ConnectionSource connectionSource, String afterId, int pageSize) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(afterId == null ? SELECT_FIRST_PAGE : SELECT_PAGE, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                if (afterId != null) {
+                    statement.setObject(index++, afterId, SqlType.STRING);
+                }
+                statement.setObject(index, pageSize, SqlType.INTEGER);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<PagingModel> list = new ArrayList<PagingModel>();
+                    if (results.first()) {
+                        PagingModel$$RowMapper rowMapper = PagingModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static Iterator<PagingModel> iterateAll(final ConnectionSource connectionSource, final int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1");
+        }
+        return new Iterator<PagingModel>() {
+            private List<PagingModel> page = Collections.emptyList();
+
+            private int index;
+
+            private String lastId;
+
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) {
+                    return true;
+                }
+                if (lastPage) {
+                    return false;
+                }
+                try {
+                    page = queryPage(connectionSource, lastId, pageSize);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Errors getting more results of " + PagingModel.class, e);
+                }
+                index = 0;
+                lastPage = page.size() < pageSize;
+                if (page.isEmpty()) {
+                    return false;
+                }
+                lastId = PagingModel$$Accessor.getCode(page.get(page.size() - 1));
+                return true;
+            }
+
+            @Override
+            public PagingModel next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.IllegalArgumentException;
+import java.lang.Override;
+import java.lang.String;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class ProjectionModelItem$$Projection implements GenericRowMapper<ProjectionModelItem> {
+    public static final String[] COLUMNS = {"id", "title", "status", "createdAt", "owner_id", "done"};
+
+    public static final String SELECT = "SELECT `id`, `title`, `status`, `createdAt`, `owner_id`, `done` FROM `projectionmodel` ";
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private final int[] columns;
+
+    public ProjectionModelItem$$Projection(int[] columns) {
+        this.columns = columns;
+    }
+
+    private static ProjectionModel.Status toStatus(String value) throws SQLException {
+        try {
+            return ProjectionModel.Status.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            // fall through to the unknown value
+        }
+        throw new SQLException("Cannot get enum value of '" + value + "' for field status");
+    }
+
+    public static ProjectionModelItem$$Projection forResults(DatabaseResults results) throws SQLException {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = results.findColumn(COLUMNS[i]);
+        }
+        return new ProjectionModelItem$$Projection(columns);
+    }
+
+    @Override
+    public ProjectionModelItem mapRow(DatabaseResults results) throws SQLException {
+        ProjectionModelItem model = new ProjectionModelItem();
+        model.id = results.getLong(columns[0]);
+        model.title = results.getString(columns[1]);
+        String statusValue = results.getString(columns[2]);
+        model.status = statusValue == null ? null : toStatus(statusValue);
+        String createdAtValue = results.getString(columns[3]);
+        model.createdAt = createdAtValue == null ? null : DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.parse(createdAtValue, columns[3]);
+        int ownerValue = results.getInt(columns[4]);
+        model.owner = results.wasNull(columns[4]) ? null : ownerValue;
+        model.setDone(results.getBoolean(columns[5]));
+        return model;
+    }
+
+    public static List<ProjectionModelItem> queryForAll(ConnectionSource connectionSource) throws SQLException {
+        return query(connectionSource, "");
+    }
+
+    public static List<ProjectionModelItem> query(ConnectionSource connectionSource, String clauses, String... arguments) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT + clauses, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                for (int i = 0; i < arguments.length; i++) {
+                    statement.setObject(i, arguments[i], SqlType.STRING);
+                }
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<ProjectionModelItem> list = new ArrayList<ProjectionModelItem>();
+                    if (results.first()) {
+                        ProjectionModelItem$$Projection projection = forResults(results);
+                        do {
+                            list.add(projection.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+}
\ No newline at end of file
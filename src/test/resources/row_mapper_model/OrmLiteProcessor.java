@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import com.j256.ormlite.table.DatabaseTableConfig;
+import java.lang.Class;
+import java.lang.Exception;
+import java.lang.Override;
+import java.lang.SuppressWarnings;
+import java.lang.System;
+import java.lang.Void;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+
+public final class OrmLiteProcessor {
+    private static volatile Listener listener;
+
+    public static final long SCHEMA_HASH = 0x261713a8ccf008dbL;
+
+    public static void init() {
+        Listener listener = OrmLiteProcessor.listener;
+        long start = listener == null ? 0 : System.nanoTime();
+        Collection<DatabaseTableConfig<?>> configs = new ArrayList<DatabaseTableConfig<?>>(2);
+        configs.add(RowMapperModel$$Configuration.TABLE_CONFIG);
+        configs.add(RowMapperModelOwner$$Configuration.TABLE_CONFIG);
+        DaoManager.addCachedDatabaseConfigs(configs);
+        if (listener != null) {
+            listener.onInitialized(2, 13, System.nanoTime() - start);
+        }
+    }
+
+    public static void setListener(Listener listener) {
+        OrmLiteProcessor.listener = listener;
+    }
+
+    public static Listener getListener() {
+        return listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> DatabaseTableConfig<T> getTableConfig(Class<T> dataClass) {
+        if (dataClass == RowMapperModel.class) {
+            return (DatabaseTableConfig<T>) RowMapperModel$$Configuration.TABLE_CONFIG;
+        } else if (dataClass == RowMapperModelOwner.class) {
+            return (DatabaseTableConfig<T>) RowMapperModelOwner$$Configuration.TABLE_CONFIG;
+        }
+        return null;
+    }
+
+    public static <D extends Dao<T, ?>, T> D createDao(ConnectionSource connectionSource, Class<T> dataClass) throws SQLException {
+        DatabaseTableConfig<T> tableConfig = getTableConfig(dataClass);
+        D dao;
+        if (tableConfig == null) {
+            dao = DaoManager.createDao(connectionSource, dataClass);
+        } else {
+            dao = DaoManager.createDao(connectionSource, tableConfig);
+            configureDao(dao);
+        }
+        return dao;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void configureDao(Dao<?, ?> dao) {
+        Class<?> dataClass = dao.getDataClass();
+        if (dataClass == RowMapperModel.class) {
+            RowMapperModel$$Configuration.configureDao((Dao<RowMapperModel, ?>) dao);
+        } else if (dataClass == RowMapperModelOwner.class) {
+            RowMapperModelOwner$$Configuration.configureDao((Dao<RowMapperModelOwner, ?>) dao);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> GenericRowMapper<T> getRowMapper(Class<T> dataClass, DatabaseResults results) throws SQLException {
+        if (dataClass == RowMapperModel.class) {
+            return (GenericRowMapper<T>) RowMapperModel$$RowMapper.forResults(results);
+        } else if (dataClass == RowMapperModelOwner.class) {
+            return (GenericRowMapper<T>) RowMapperModelOwner$$RowMapper.forResults(results);
+        }
+        return null;
+    }
+
+    public static long getSchemaHash(Class<?> dataClass) {
+        if (dataClass == RowMapperModel.class) {
+            return 0x4ca266070421c0b7L;
+        } else if (dataClass == RowMapperModelOwner.class) {
+            return 0xd9e4709286eb87a2L;
+        }
+        return 0;
+    }
+
+    public static void createAll(final ConnectionSource connectionSource) throws SQLException {
+        TransactionManager.callInTransaction(connectionSource, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                DatabaseConnection connection = connectionSource.getReadWriteConnection();
+                try {
+                    RowMapperModel$$Schema.createTable(connection);
+                    RowMapperModelOwner$$Schema.createTable(connection);
+                } finally {
+                    connectionSource.releaseConnection(connection);
+                }
+                return null;
+            }
+        });
+    }
+
+    public interface Listener {
+        void onTableConfigBuilt(Class<?> dataClass, int fieldConfigCount, long durationNanos);
+
+        void onInitialized(int tableCount, int fieldConfigCount, long durationNanos);
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.IllegalArgumentException;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.sql.SQLException;
+import java.util.Date;
+import java.util.UUID;
+
+public final class RowMapperModel$$RowMapper implements GenericRowMapper<RowMapperModel> {
+    /**
+     * The columns which are read by this row mapper, in the order of the positions passed to the constructor.
+     */
+    public static final String[] COLUMNS = {"id", "name", "count", "active", "state", "previousState", "createdAt", "uuid", "data", "owner_id", "ownerId"};
+
+    private final int[] columns;
+
+    public RowMapperModel$$RowMapper(int[] columns) {
+        this.columns = columns;
+    }
+
+    private static RowMapperModel.State toState(String value) throws SQLException {
+        try {
+            return RowMapperModel.State.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            // fall through to the unknown value
+        }
+        return RowMapperModel.State.UNKNOWN;
+    }
+
+    private static RowMapperModel.State toPreviousState(int value) throws SQLException {
+        RowMapperModel.State[] values = RowMapperModel.State.values();
+        if (value >= 0 && value < values.length) {
+            return values[value];
+        }
+        throw new SQLException("Cannot get enum value of '" + value + "' for field previousState");
+    }
+
+    /**
+     * Creates a row mapper which reads the columns at the positions they have in the results.
+     */
+    public static RowMapperModel$$RowMapper forResults(DatabaseResults results) throws SQLException {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = results.findColumn(COLUMNS[i]);
+        }
+        return new RowMapperModel$$RowMapper(columns);
+    }
+
+    @Override
+    public RowMapperModel mapRow(DatabaseResults results) throws SQLException {
+        RowMapperModel model = RowMapperModel$$Accessor.newInstance();
+        RowMapperModel$$Accessor.setId(model, results.getLong(columns[0]));
+        RowMapperModel$$Accessor.setName(model, results.getString(columns[1]));
+        int countValue = results.getInt(columns[2]);
+        RowMapperModel$$Accessor.setCount(model, results.wasNull(columns[2]) ? null : countValue);
+        boolean activeValue = results.getBoolean(columns[3]);
+        if (results.wasNull(columns[3])) {
+            throw new SQLException("Results value for primitive field 'active' was an invalid null value");
+        }
+        RowMapperModel$$Accessor.setActive(model, activeValue);
+        String stateValue = results.getString(columns[4]);
+        RowMapperModel$$Accessor.setState(model, stateValue == null ? null : toState(stateValue));
+        int previousStateValue = results.getInt(columns[5]);
+        RowMapperModel$$Accessor.setPreviousState(model, results.wasNull(columns[5]) ? null : toPreviousState(previousStateValue));
+        long createdAtValue = results.getLong(columns[6]);
+        RowMapperModel$$Accessor.setCreatedAt(model, results.wasNull(columns[6]) ? null : new Date(createdAtValue));
+        String uuidValue = results.getString(columns[7]);
+        RowMapperModel$$Accessor.setUuid(model, uuidValue == null ? null : UUID.fromString(uuidValue));
+        RowMapperModel$$Accessor.setData(model, results.getBytes(columns[8]));
+        int ownerValue = results.getInt(columns[9]);
+        Integer ownerId = results.wasNull(columns[9]) ? null : ownerValue;
+        if (ownerId == null) {
+            RowMapperModel$$Accessor.setOwner(model, null);
+        } else {
+            RowMapperModelOwner ownerObject = RowMapperModelOwner$$Accessor.newInstance();
+            RowMapperModelOwner$$Accessor.setId(ownerObject, ownerId);
+            RowMapperModel$$Accessor.setOwner(model, ownerObject);
+        }
+        int ownerIdValue = results.getInt(columns[10]);
+        RowMapperModel$$Accessor.setOwnerId(model, results.wasNull(columns[10]) ? null : ownerIdValue);
+        return model;
+    }
+}
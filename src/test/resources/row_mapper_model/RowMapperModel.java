@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.DataType;
+import com.j256.ormlite.field.DatabaseField;
+import com.j256.ormlite.table.DatabaseTable;
+
+import java.util.Date;
+import java.util.UUID;
+
+@DatabaseTable
+public class RowMapperModel {
+    @DatabaseField(generatedId = true)
+    long id;
+
+    @DatabaseField
+    String name;
+
+    @DatabaseField
+    Integer count;
+
+    @DatabaseField(throwIfNull = true)
+    boolean active;
+
+    @DatabaseField(unknownEnumName = "UNKNOWN")
+    State state;
+
+    @DatabaseField(dataType = DataType.ENUM_INTEGER)
+    State previousState;
+
+    @DatabaseField(dataType = DataType.DATE_LONG)
+    Date createdAt;
+
+    @DatabaseField
+    UUID uuid;
+
+    @DatabaseField(dataType = DataType.BYTE_ARRAY)
+    byte[] data;
+
+    @DatabaseField(foreign = true)
+    RowMapperModelOwner owner;
+
+    @DatabaseField
+    Integer ownerId;
+
+    public enum State {
+        UNKNOWN, ACTIVE, ARCHIVED
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.support.DatabaseConnection;
+import java.lang.String;
+import java.sql.SQLException;
+
+public final class SchemaModel$$Schema {
+    public static final String CREATE_TABLE = "CREATE TABLE `schema` (`id` INTEGER PRIMARY KEY AUTOINCREMENT , `name` VARCHAR NOT NULL , `row` INTEGER , `column` INTEGER , `code` VARCHAR , `active` SMALLINT DEFAULT 1 , `latitude` DOUBLE PRECISION , `longitude` DOUBLE PRECISION ,  UNIQUE (`code`), UNIQUE (`latitude`,`longitude`) ) ";
+
+    public static final String CREATE_INDEX_SCHEMA_NAME_IDX = "CREATE INDEX `schema_name_idx` ON `schema` ( `name` )";
+
+    public static final String CREATE_INDEX_SCHEMA_POSITION_IDX = "CREATE UNIQUE INDEX `schema_position_idx` ON `schema` ( `row`, `column` )";
+
+    public static final long SCHEMA_HASH = 0x3cca4533a56f64d4L;
+
+    private SchemaModel$$Schema() {
+    }
+
+    public static void createTable(DatabaseConnection connection) throws SQLException {
+        connection.executeStatement(CREATE_TABLE, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+        connection.executeStatement(CREATE_INDEX_SCHEMA_NAME_IDX, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+        connection.executeStatement(CREATE_INDEX_SCHEMA_POSITION_IDX, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.DatabaseResults;
+
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.sql.SQLException;
+
+public final class SharedFieldsFirst$$RowMapper implements GenericRowMapper<SharedFieldsFirst> {
+    public static final String[] COLUMNS = {"title", "id", "owner_id", "email"};
+
+    private final int[] columns;
+
+    public SharedFieldsFirst$$RowMapper(int[] columns) {
+        this.columns = columns;
+    }
+
+    public static SharedFieldsFirst$$RowMapper forResults(DatabaseResults results) throws SQLException {
+        int[] columns = new int[COLUMNS.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = results.findColumn(COLUMNS[i]);
+        }
+        return new SharedFieldsFirst$$RowMapper(columns);
+    }
+
+    @Override
+    public SharedFieldsFirst mapRow(DatabaseResults results) throws SQLException {
+        SharedFieldsFirst model = SharedFieldsFirst$$Accessor.newInstance();
+        SharedFieldsFirst$$Accessor.setTitle(model, results.getString(columns[0]));
+        SharedFieldsFirst$$Accessor.setId(model, results.getLong(columns[1]));
+        int ownerValue = results.getInt(columns[2]);
+        Integer ownerId = results.wasNull(columns[2]) ? null : ownerValue;
+        if (ownerId == null) {
+            SharedFieldsFirst$$Accessor.setOwner(model, null);
+        } else {
+            SharedFieldsOwner ownerObject = SharedFieldsOwner$$Accessor.newInstance();
+            SharedFieldsOwner$$Accessor.setId(ownerObject, ownerId);
+            SharedFieldsFirst$$Accessor.setOwner(model, ownerObject);
+        }
+        SharedFieldsFirst$$Accessor.setEmail(model, results.getString(columns[3]));
+        return model;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,44 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.support.DatabaseConnection;
+import java.lang.String;
+import java.sql.SQLException;
+
+public final class SharedFieldsFirst$$Schema {
+    public static final String CREATE_TABLE = "CREATE TABLE `sharedfieldsfirst` (`title` VARCHAR , `id` INTEGER PRIMARY KEY AUTOINCREMENT , `owner_id` INTEGER , `email` VARCHAR ) ";
+
+    public static final String CREATE_INDEX_SHAREDFIELDSFIRST_EMAIL_IDX = "CREATE INDEX `sharedfieldsfirst_email_idx` ON `sharedfieldsfirst` ( `email` )";
+
+    public static final long SCHEMA_HASH = 0x75b4be8b25c14c79L;
+
+    private SharedFieldsFirst$$Schema() {
+    }
+
+    public static void createTable(DatabaseConnection connection) throws SQLException {
+        connection.executeStatement(CREATE_TABLE, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+        connection.executeStatement(CREATE_INDEX_SHAREDFIELDSFIRST_EMAIL_IDX, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+    }
+}
\ No newline at end of file
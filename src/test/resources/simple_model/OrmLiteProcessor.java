@@ -1,14 +1,109 @@
 package com.koenv.ormlite.processor;
 
+import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.dao.DaoManager;
+import com.j256.ormlite.misc.TransactionManager;
+import com.j256.ormlite.stmt.GenericRowMapper;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
 import com.j256.ormlite.table.DatabaseTableConfig;
+import java.lang.Class;
+import java.lang.Exception;
+import java.lang.Override;
+import java.lang.SuppressWarnings;
+import java.lang.System;
+import java.lang.Void;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.Callable;
 
 public final class OrmLiteProcessor {
+    private static volatile Listener listener;
+
+    public static final long SCHEMA_HASH = 0x1c3d3c926711a207L;
+
     public static void init() {
-        Collection<DatabaseTableConfig<?>> configs = new ArrayList<DatabaseTableConfig<?>>();
-        configs.add(SimpleModel$$Configuration.getTableConfig());
+        Listener listener = OrmLiteProcessor.listener;
+        long start = listener == null ? 0 : System.nanoTime();
+        Collection<DatabaseTableConfig<?>> configs = new ArrayList<DatabaseTableConfig<?>>(1);
+        configs.add(SimpleModel$$Configuration.TABLE_CONFIG);
         DaoManager.addCachedDatabaseConfigs(configs);
+        if (listener != null) {
+            listener.onInitialized(1, 2, System.nanoTime() - start);
+        }
+    }
+
+    public static void setListener(Listener listener) {
+        OrmLiteProcessor.listener = listener;
+    }
+
+    public static Listener getListener() {
+        return listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> DatabaseTableConfig<T> getTableConfig(Class<T> dataClass) {
+        if (dataClass == SimpleModel.class) {
+            return (DatabaseTableConfig<T>) SimpleModel$$Configuration.TABLE_CONFIG;
+        }
+        return null;
+    }
+
+    public static <D extends Dao<T, ?>, T> D createDao(ConnectionSource connectionSource, Class<T> dataClass) throws SQLException {
+        DatabaseTableConfig<T> tableConfig = getTableConfig(dataClass);
+        D dao;
+        if (tableConfig == null) {
+            dao = DaoManager.createDao(connectionSource, dataClass);
+        } else {
+            dao = DaoManager.createDao(connectionSource, tableConfig);
+            configureDao(dao);
+        }
+        return dao;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void configureDao(Dao<?, ?> dao) {
+        Class<?> dataClass = dao.getDataClass();
+        if (dataClass == SimpleModel.class) {
+            SimpleModel$$Configuration.configureDao((Dao<SimpleModel, ?>) dao);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> GenericRowMapper<T> getRowMapper(Class<T> dataClass, DatabaseResults results) throws SQLException {
+        if (dataClass == SimpleModel.class) {
+            return (GenericRowMapper<T>) SimpleModel$$RowMapper.forResults(results);
+        }
+        return null;
+    }
+
+    public static long getSchemaHash(Class<?> dataClass) {
+        if (dataClass == SimpleModel.class) {
+            return 0x4b81a17ba3df12daL;
+        }
+        return 0;
+    }
+
+    public static void createAll(final ConnectionSource connectionSource) throws SQLException {
+        TransactionManager.callInTransaction(connectionSource, new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                DatabaseConnection connection = connectionSource.getReadWriteConnection();
+                try {
+                    SimpleModel$$Schema.createTable(connection);
+                } finally {
+                    connectionSource.releaseConnection(connection);
+                }
+                return null;
+            }
+        });
+    }
+
+    public interface Listener {
+        void onTableConfigBuilt(Class<?> dataClass, int fieldConfigCount, long durationNanos);
+
+        void onInitialized(int tableCount, int fieldConfigCount, long durationNanos);
     }
 }
\ No newline at end of file
@@ -1,22 +1,23 @@
 package com.koenv.ormlite.processor;
 
+import com.j256.ormlite.dao.Dao;
 import com.j256.ormlite.field.DataType;
 import com.j256.ormlite.field.DatabaseFieldConfig;
 import com.j256.ormlite.field.types.BooleanType;
 import com.j256.ormlite.table.DatabaseTableConfig;
 
+import java.lang.System;
 import java.util.ArrayList;
 import java.util.List;
 
 public final class SimpleModel$$Configuration {
+    public static final DatabaseTableConfig<SimpleModel> TABLE_CONFIG = buildTableConfig();
+
     public static List<DatabaseFieldConfig> getFieldConfigs() {
-        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>();
-        DatabaseFieldConfig config = null;
-        config = new DatabaseFieldConfig();
-        config.setFieldName("name");
-        list.add(config);
-        config = new DatabaseFieldConfig();
-        config.setFieldName("simpleBoolean");
+        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>(2);
+        DatabaseFieldConfig config;
+        list.add(new DatabaseFieldConfig("name"));
+        config = new DatabaseFieldConfig("simpleBoolean");
         config.setColumnName("test");
         config.setDataType(DataType.BOOLEAN);
         config.setCanBeNull(false);
@@ -26,10 +27,21 @@ public final class SimpleModel$$Configuration {
     }
 
     public static DatabaseTableConfig<SimpleModel> getTableConfig() {
-        DatabaseTableConfig<SimpleModel> config = new DatabaseTableConfig<SimpleModel>();
-        config.setDataClass(SimpleModel.class);
-        config.setTableName("simplemodel");
-        config.setFieldConfigs(getFieldConfigs());
+        return new SimpleModel$$TableConfig(getFieldConfigs());
+    }
+
+    private static DatabaseTableConfig<SimpleModel> buildTableConfig() {
+        OrmLiteProcessor.Listener listener = OrmLiteProcessor.getListener();
+        if (listener == null) {
+            return getTableConfig();
+        }
+        long start = System.nanoTime();
+        DatabaseTableConfig<SimpleModel> config = getTableConfig();
+        listener.onTableConfigBuilt(SimpleModel.class, 2, System.nanoTime() - start);
         return config;
     }
+
+    public static void configureDao(Dao<SimpleModel, ?> dao) {
+        dao.setObjectFactory(SimpleModel$$Accessor.OBJECT_FACTORY);
+    }
 }
\ No newline at end of file
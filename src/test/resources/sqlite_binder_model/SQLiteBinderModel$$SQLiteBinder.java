@@ -0,0 +1,204 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import java.lang.Double;
+import java.lang.Integer;
+import java.lang.String;
+import java.util.Date;
+import java.util.UUID;
+
+public final class SQLiteBinderModel$$SQLiteBinder {
+    private static final SQLiteStatementPool INSERT = new SQLiteStatementPool(SQLiteBinderModel$$Statements.INSERT);
+
+    private static final SQLiteStatementPool UPDATE_BY_ID = new SQLiteStatementPool(SQLiteBinderModel$$Statements.UPDATE_BY_ID);
+
+    private SQLiteBinderModel$$SQLiteBinder() {
+    }
+
+    public static void bindInsert(SQLiteStatement statement, SQLiteBinderModel model) {
+        String messageValue = SQLiteBinderModel$$Accessor.getMessage(model);
+        if (messageValue == null) {
+            statement.bindNull(1);
+        } else {
+            statement.bindString(1, messageValue);
+        }
+        statement.bindLong(2, SQLiteBinderModel$$Accessor.getImportant(model) ? (byte) 1 : (byte) 0);
+        Integer countValue = SQLiteBinderModel$$Accessor.getCount(model);
+        if (countValue == null) {
+            statement.bindNull(3);
+        } else {
+            statement.bindLong(3, countValue);
+        }
+        statement.bindString(4, String.valueOf(SQLiteBinderModel$$Accessor.getLevel(model)));
+        Double scoreValue = SQLiteBinderModel$$Accessor.getScore(model);
+        if (scoreValue == null) {
+            statement.bindNull(5);
+        } else {
+            statement.bindDouble(5, scoreValue);
+        }
+        Date createdAtValue = SQLiteBinderModel$$Accessor.getCreatedAt(model);
+        if (createdAtValue == null) {
+            statement.bindNull(6);
+        } else {
+            statement.bindString(6, DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.format(createdAtValue));
+        }
+        SQLiteBinderModel.Status statusValue = SQLiteBinderModel$$Accessor.getStatus(model);
+        if (statusValue == null) {
+            statement.bindNull(7);
+        } else {
+            statement.bindString(7, statusValue.name());
+        }
+        byte[] dataValue = SQLiteBinderModel$$Accessor.getData(model);
+        if (dataValue == null) {
+            statement.bindNull(8);
+        } else {
+            statement.bindBlob(8, dataValue);
+        }
+        UUID ownerIdValue = SQLiteBinderModel$$Accessor.getOwnerId(model);
+        if (ownerIdValue == null) {
+            statement.bindNull(9);
+        } else {
+            statement.bindString(9, ownerIdValue.toString());
+        }
+        SQLiteBinderModelOwner ownerObject = SQLiteBinderModel$$Accessor.getOwner(model);
+        if (ownerObject == null) {
+            statement.bindNull(10);
+        } else {
+            UUID ownerValue = SQLiteBinderModelOwner$$Accessor.getId(ownerObject);
+            if (ownerValue == null) {
+                statement.bindNull(10);
+            } else {
+                statement.bindString(10, ownerValue.toString());
+            }
+        }
+        Integer versionValue = SQLiteBinderModel$$Accessor.getVersion(model);
+        statement.bindLong(11, versionValue == null ? 1 : versionValue);
+    }
+
+    public static int insert(SQLiteDatabase database, SQLiteBinderModel model) {
+        SQLiteStatement statement = INSERT.acquire(database);
+        long rowId;
+        try {
+            bindInsert(statement, model);
+            rowId = statement.executeInsert();
+        } finally {
+            INSERT.release(database, statement);
+        }
+        if (rowId == -1) {
+            return 0;
+        }
+        SQLiteBinderModel$$Accessor.setId(model, rowId);
+        if (SQLiteBinderModel$$Accessor.getVersion(model) == null) {
+            SQLiteBinderModel$$Accessor.setVersion(model, 1);
+        }
+        return 1;
+    }
+
+    public static int update(SQLiteDatabase database, SQLiteBinderModel model) {
+        Integer version = SQLiteBinderModel$$Accessor.getVersion(model);
+        Integer newVersion = version == null ? 1 : version + 1;
+        SQLiteStatement statement = UPDATE_BY_ID.acquire(database);
+        int rows;
+        try {
+            String messageValue = SQLiteBinderModel$$Accessor.getMessage(model);
+            if (messageValue == null) {
+                statement.bindNull(1);
+            } else {
+                statement.bindString(1, messageValue);
+            }
+            statement.bindLong(2, SQLiteBinderModel$$Accessor.getImportant(model) ? (byte) 1 : (byte) 0);
+            Integer countValue = SQLiteBinderModel$$Accessor.getCount(model);
+            if (countValue == null) {
+                statement.bindNull(3);
+            } else {
+                statement.bindLong(3, countValue);
+            }
+            statement.bindString(4, String.valueOf(SQLiteBinderModel$$Accessor.getLevel(model)));
+            Double scoreValue = SQLiteBinderModel$$Accessor.getScore(model);
+            if (scoreValue == null) {
+                statement.bindNull(5);
+            } else {
+                statement.bindDouble(5, scoreValue);
+            }
+            Date createdAtValue = SQLiteBinderModel$$Accessor.getCreatedAt(model);
+            if (createdAtValue == null) {
+                statement.bindNull(6);
+            } else {
+                statement.bindString(6, DateStringPersister$$yyyy_MM_dd_HH_mm_ss_SSSSSS.format(createdAtValue));
+            }
+            SQLiteBinderModel.Status statusValue = SQLiteBinderModel$$Accessor.getStatus(model);
+            if (statusValue == null) {
+                statement.bindNull(7);
+            } else {
+                statement.bindString(7, statusValue.name());
+            }
+            byte[] dataValue = SQLiteBinderModel$$Accessor.getData(model);
+            if (dataValue == null) {
+                statement.bindNull(8);
+            } else {
+                statement.bindBlob(8, dataValue);
+            }
+            UUID ownerIdValue = SQLiteBinderModel$$Accessor.getOwnerId(model);
+            if (ownerIdValue == null) {
+                statement.bindNull(9);
+            } else {
+                statement.bindString(9, ownerIdValue.toString());
+            }
+            SQLiteBinderModelOwner ownerObject = SQLiteBinderModel$$Accessor.getOwner(model);
+            if (ownerObject == null) {
+                statement.bindNull(10);
+            } else {
+                UUID ownerValue = SQLiteBinderModelOwner$$Accessor.getId(ownerObject);
+                if (ownerValue == null) {
+                    statement.bindNull(10);
+                } else {
+                    statement.bindString(10, ownerValue.toString());
+                }
+            }
+            statement.bindLong(11, newVersion);
+            statement.bindLong(12, SQLiteBinderModel$$Accessor.getId(model));
+            if (version == null) {
+                statement.bindNull(13);
+            } else {
+                statement.bindLong(13, version);
+            }
+            rows = statement.executeUpdateDelete();
+        } finally {
+            UPDATE_BY_ID.release(database, statement);
+        }
+        if (rows > 0) {
+            SQLiteBinderModel$$Accessor.setVersion(model, newVersion);
+        }
+        return rows;
+    }
+
+    public static void close(SQLiteDatabase database) {
+        INSERT.close(database);
+        UPDATE_BY_ID.close(database);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package android.database.sqlite;
+
+/**
+ * The methods of the Android class which are used by the generated code, as Android isn't on the test classpath.
+ */
+public final class SQLiteStatement {
+    public void bindNull(int index) {
+    }
+
+    public void bindLong(int index, long value) {
+    }
+
+    public void bindDouble(int index, double value) {
+    }
+
+    public void bindString(int index, String value) {
+    }
+
+    public void bindBlob(int index, byte[] value) {
+    }
+
+    public void clearBindings() {
+    }
+
+    public long executeInsert() {
+        return -1;
+    }
+
+    public int executeUpdateDelete() {
+        return 0;
+    }
+
+    public void close() {
+    }
+}
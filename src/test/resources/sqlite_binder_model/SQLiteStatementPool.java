@@ -0,0 +1,105 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import java.lang.String;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+public final class SQLiteStatementPool {
+    public static final int DEFAULT_MAX_SIZE = 4;
+
+    private final String sql;
+
+    private final int maxSize;
+
+    private final Map<SQLiteDatabase, ArrayDeque<SQLiteStatement>> statements = new HashMap<SQLiteDatabase, ArrayDeque<SQLiteStatement>>();
+
+    public SQLiteStatementPool(String sql) {
+        this(sql, DEFAULT_MAX_SIZE);
+    }
+
+    public SQLiteStatementPool(String sql, int maxSize) {
+        this.sql = sql;
+        this.maxSize = maxSize;
+    }
+
+    public SQLiteStatement acquire(SQLiteDatabase database) {
+        synchronized (this) {
+            ArrayDeque<SQLiteStatement> databaseStatements = statements.get(database);
+            if (databaseStatements != null && !databaseStatements.isEmpty()) {
+                return databaseStatements.pop();
+            }
+        }
+        return database.compileStatement(sql);
+    }
+
+    public void release(SQLiteDatabase database, SQLiteStatement statement) {
+        // releases the bound strings and blobs
+        statement.clearBindings();
+        if (database.isOpen()) {
+            synchronized (this) {
+                ArrayDeque<SQLiteStatement> databaseStatements = statements.get(database);
+                if (databaseStatements == null) {
+                    removeClosedDatabases();
+                    databaseStatements = new ArrayDeque<SQLiteStatement>(maxSize);
+                    statements.put(database, databaseStatements);
+                }
+                if (databaseStatements.size() < maxSize) {
+                    databaseStatements.push(statement);
+                    return;
+                }
+            }
+        }
+        statement.close();
+    }
+
+    public synchronized void close(SQLiteDatabase database) {
+        ArrayDeque<SQLiteStatement> databaseStatements = statements.remove(database);
+        if (databaseStatements != null) {
+            close(databaseStatements);
+        }
+    }
+
+    private void removeClosedDatabases() {
+        for (Iterator<Map.Entry<SQLiteDatabase, ArrayDeque<SQLiteStatement>>> iterator = statements.entrySet().iterator(); iterator.hasNext(); ) {
+            Map.Entry<SQLiteDatabase, ArrayDeque<SQLiteStatement>> entry = iterator.next();
+            if (!entry.getKey().isOpen()) {
+                close(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void close(ArrayDeque<SQLiteStatement> databaseStatements) {
+        for (SQLiteStatement statement : databaseStatements) {
+            statement.close();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,289 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.field.SqlType;
+import com.j256.ormlite.stmt.StatementBuilder;
+import com.j256.ormlite.support.CompiledStatement;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.support.DatabaseConnection;
+import com.j256.ormlite.support.DatabaseResults;
+import java.lang.IllegalArgumentException;
+import java.lang.IllegalStateException;
+import java.lang.Integer;
+import java.lang.Override;
+import java.lang.String;
+import java.lang.UnsupportedOperationException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+public final class StatementsModel$$Statements {
+    public static final String INSERT = "INSERT INTO `statements` (`id` ,`title` ,`version` ,`ownerId` ,`owner_id` ) VALUES (?,?,?,?,?)";
+
+    public static final String UPDATE_BY_ID = "UPDATE `statements` SET `title` = ?, `version` = ?, `ownerId` = ?, `owner_id` = ? WHERE `id` = ? AND `version` = ?";
+
+    public static final String DELETE_BY_ID = "DELETE FROM `statements` WHERE `id` = ?";
+
+    public static final String SELECT_BY_ID = "SELECT * FROM `statements` WHERE `id` = ?";
+
+    public static final String SELECT_FIRST_PAGE = "SELECT * FROM `statements` ORDER BY `id` LIMIT ?";
+
+    public static final String SELECT_PAGE = "SELECT * FROM `statements` WHERE `id` > ? ORDER BY `id` LIMIT ?";
+
+    public static final String SELECT_ALL = "SELECT * FROM `statements` ";
+
+    private static final FieldType[] NO_FIELD_TYPES = new FieldType[0];
+
+    private StatementsModel$$Statements() {
+    }
+
+    public static int bindInsert(CompiledStatement statement, int index, StatementsModel model) throws SQLException {
+        UUID idValue = StatementsModel$$Accessor.getId(model);
+        statement.setObject(index++, idValue == null ? null : idValue.toString(), SqlType.STRING);
+        statement.setObject(index++, StatementsModel$$Accessor.getName(model), SqlType.STRING);
+        statement.setObject(index++, StatementsModel$$Accessor.getVersion(model) == null ? 1 : StatementsModel$$Accessor.getVersion(model), SqlType.INTEGER);
+        UUID ownerIdValue = StatementsModel$$Accessor.getOwnerId(model);
+        statement.setObject(index++, ownerIdValue == null ? null : ownerIdValue.toString(), SqlType.STRING);
+        StatementsModelOwner ownerObject = StatementsModel$$Accessor.getOwner(model);
+        if (ownerObject == null) {
+            statement.setObject(index++, null, SqlType.STRING);
+        } else {
+            UUID ownerValue = StatementsModelOwner$$Accessor.getId(ownerObject);
+            statement.setObject(index++, ownerValue == null ? null : ownerValue.toString(), SqlType.STRING);
+        }
+        return index;
+    }
+
+    public static int insert(ConnectionSource connectionSource, StatementsModel model) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(INSERT, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                StatementsModel$$Accessor.setId(model, UUID.randomUUID());
+                bindInsert(statement, 0, model);
+                int rows = statement.runUpdate();
+                if (rows > 0) {
+                    if (StatementsModel$$Accessor.getVersion(model) == null) {
+                        StatementsModel$$Accessor.setVersion(model, 1);
+                    }
+                }
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int update(ConnectionSource connectionSource, StatementsModel model) throws SQLException {
+        Integer version = StatementsModel$$Accessor.getVersion(model);
+        Integer newVersion = version == null ? 1 : version + 1;
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(UPDATE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                statement.setObject(index++, StatementsModel$$Accessor.getName(model), SqlType.STRING);
+                statement.setObject(index++, newVersion, SqlType.INTEGER);
+                UUID ownerIdValue = StatementsModel$$Accessor.getOwnerId(model);
+                statement.setObject(index++, ownerIdValue == null ? null : ownerIdValue.toString(), SqlType.STRING);
+                StatementsModelOwner ownerObject = StatementsModel$$Accessor.getOwner(model);
+                if (ownerObject == null) {
+                    statement.setObject(index++, null, SqlType.STRING);
+                } else {
+                    UUID ownerValue = StatementsModelOwner$$Accessor.getId(ownerObject);
+                    statement.setObject(index++, ownerValue == null ? null : ownerValue.toString(), SqlType.STRING);
+                }
+                UUID idValue = StatementsModel$$Accessor.getId(model);
+                statement.setObject(index++, idValue == null ? null : idValue.toString(), SqlType.STRING);
+                statement.setObject(index, version, SqlType.INTEGER);
+                int rows = statement.runUpdate();
+                if (rows > 0) {
+                    StatementsModel$$Accessor.setVersion(model, newVersion);
+                }
+                return rows;
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static int deleteById(ConnectionSource connectionSource, UUID id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadWriteConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(DELETE_BY_ID, StatementBuilder.StatementType.UPDATE, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                UUID idValue = id;
+                statement.setObject(0, idValue == null ? null : idValue.toString(), SqlType.STRING);
+                return statement.runUpdate();
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static StatementsModel queryForId(ConnectionSource connectionSource, UUID id) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_BY_ID, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                UUID idValue = id;
+                statement.setObject(0, idValue == null ? null : idValue.toString(), SqlType.STRING);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    if (!results.first()) {
+                        return null;
+                    }
+                    return StatementsModel$$RowMapper.forResults(results).mapRow(results);
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<StatementsModel> queryForAll(ConnectionSource connectionSource) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(SELECT_ALL, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<StatementsModel> list = new ArrayList<StatementsModel>();
+                    if (results.first()) {
+                        StatementsModel$$RowMapper rowMapper = StatementsModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static List<StatementsModel> queryPage(ConnectionSource connectionSource, UUID afterId, int pageSize) throws SQLException {
+        DatabaseConnection connection = connectionSource.getReadOnlyConnection();
+        try {
+            CompiledStatement statement = connection.compileStatement(afterId == null ? SELECT_FIRST_PAGE : SELECT_PAGE, StatementBuilder.StatementType.SELECT, NO_FIELD_TYPES, DatabaseConnection.DEFAULT_RESULT_FLAGS);
+            try {
+                int index = 0;
+                if (afterId != null) {
+                    UUID idValue = afterId;
+                    statement.setObject(index++, idValue == null ? null : idValue.toString(), SqlType.STRING);
+                }
+                statement.setObject(index, pageSize, SqlType.INTEGER);
+                DatabaseResults results = statement.runQuery(null);
+                try {
+                    List<StatementsModel> list = new ArrayList<StatementsModel>();
+                    if (results.first()) {
+                        StatementsModel$$RowMapper rowMapper = StatementsModel$$RowMapper.forResults(results);
+                        do {
+                            list.add(rowMapper.mapRow(results));
+                        } while (results.next());
+                    }
+                    return list;
+                } finally {
+                    results.close();
+                }
+            } finally {
+                statement.close();
+            }
+        } finally {
+            connectionSource.releaseConnection(connection);
+        }
+    }
+
+    public static Iterator<StatementsModel> iterateAll(final ConnectionSource connectionSource, final int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1");
+        }
+        return new Iterator<StatementsModel>() {
+            private List<StatementsModel> page = Collections.emptyList();
+
+            private int index;
+
+            private UUID lastId;
+
+            private boolean lastPage;
+
+            @Override
+            public boolean hasNext() {
+                if (index < page.size()) {
+                    return true;
+                }
+                if (lastPage) {
+                    return false;
+                }
+                try {
+                    page = queryPage(connectionSource, lastId, pageSize);
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Errors getting more results of " + StatementsModel.class, e);
+                }
+                index = 0;
+                lastPage = page.size() < pageSize;
+                if (page.isEmpty()) {
+                    return false;
+                }
+                lastId = StatementsModel$$Accessor.getId(page.get(page.size() - 1));
+                return true;
+            }
+
+            @Override
+            public StatementsModel next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return page.get(index++);
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+}
\ No newline at end of file
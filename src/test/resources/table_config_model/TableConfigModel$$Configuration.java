@@ -0,0 +1,70 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.dao.Dao;
+import com.j256.ormlite.field.DatabaseFieldConfig;
+import com.j256.ormlite.field.types.StringBytesType;
+import com.j256.ormlite.table.DatabaseTableConfig;
+
+import java.lang.System;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class TableConfigModel$$Configuration {
+    public static final DatabaseTableConfig<TableConfigModel> TABLE_CONFIG = buildTableConfig();
+
+    public static List<DatabaseFieldConfig> getFieldConfigs() {
+        List<DatabaseFieldConfig> list = new ArrayList<DatabaseFieldConfig>(3);
+        DatabaseFieldConfig config;
+        list.add(new DatabaseFieldConfig("name"));
+        config = new DatabaseFieldConfig("bytes");
+        config.setPersisterClass(StringBytesType.class);
+        config.setDataPersister(StringBytesType.getSingleton());
+        list.add(config);
+        config = new DatabaseFieldConfig("id");
+        config.setGeneratedId(true);
+        list.add(config);
+        return list;
+    }
+
+    public static DatabaseTableConfig<TableConfigModel> getTableConfig() {
+        return new TableConfigModel$$TableConfig(getFieldConfigs());
+    }
+
+    private static DatabaseTableConfig<TableConfigModel> buildTableConfig() {
+        OrmLiteProcessor.Listener listener = OrmLiteProcessor.getListener();
+        if (listener == null) {
+            return getTableConfig();
+        }
+        long start = System.nanoTime();
+        DatabaseTableConfig<TableConfigModel> config = getTableConfig();
+        listener.onTableConfigBuilt(TableConfigModel.class, 3, System.nanoTime() - start);
+        return config;
+    }
+
+    public static void configureDao(Dao<TableConfigModel, ?> dao) {
+        dao.setObjectFactory(TableConfigModel$$Accessor.OBJECT_FACTORY);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2015 Koen
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.koenv.ormlite.processor;
+
+import com.j256.ormlite.db.DatabaseType;
+import com.j256.ormlite.field.DatabaseFieldConfig;
+import com.j256.ormlite.field.FieldType;
+import com.j256.ormlite.misc.SqlExceptionUtil;
+import com.j256.ormlite.support.ConnectionSource;
+import com.j256.ormlite.table.DatabaseTableConfig;
+
+import java.lang.NoSuchFieldException;
+import java.lang.Override;
+import java.sql.SQLException;
+import java.util.List;
+
+public final class TableConfigModel$$TableConfig extends DatabaseTableConfig<TableConfigModel> {
+    private FieldType[] fieldTypes;
+
+    public TableConfigModel$$TableConfig(List<DatabaseFieldConfig> fieldConfigs) {
+        super(TableConfigModel.class, "table_config", fieldConfigs);
+    }
+
+    @Override
+    public void extractFieldTypes(ConnectionSource connectionSource) throws SQLException {
+        if (fieldTypes == null) {
+            fieldTypes = createFieldTypes(connectionSource);
+        }
+    }
+
+    @Override
+    public FieldType[] getFieldTypes(DatabaseType databaseType) throws SQLException {
+        if (fieldTypes == null) {
+            throw new SQLException("Field types have not been extracted in table config");
+        }
+        return fieldTypes;
+    }
+
+    private FieldType[] createFieldTypes(ConnectionSource connectionSource) throws SQLException {
+        List<DatabaseFieldConfig> fieldConfigs = getFieldConfigs();
+        try {
+            return new FieldType[]{
+                    new FieldType(connectionSource, "table_config", TableConfigModel.class.getDeclaredField("name"), fieldConfigs.get(0), TableConfigModel.class),
+                    new FieldType(connectionSource, "table_config", TableConfigModel.class.getDeclaredField("bytes"), fieldConfigs.get(1), TableConfigModel.class),
+                    new FieldType(connectionSource, "table_config", TableConfigModel.class.getSuperclass().getDeclaredField("id"), fieldConfigs.get(2), TableConfigModel.class)
+            };
+        } catch (NoSuchFieldException e) {
+            throw SqlExceptionUtil.create("Could not find a field of TableConfigModel", e);
+        }
+    }
+}
\ No newline at end of file